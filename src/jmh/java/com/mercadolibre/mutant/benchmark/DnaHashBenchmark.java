@@ -0,0 +1,58 @@
+package com.mercadolibre.mutant.benchmark;
+
+import com.mercadolibre.mutant.domain.hash.DnaHash;
+import com.mercadolibre.mutant.domain.hash.DnaHashAlgorithm;
+import com.mercadolibre.mutant.domain.hash.DnaHasher;
+import com.mercadolibre.mutant.domain.hash.DnaHasherConfig;
+import com.mercadolibre.mutant.domain.hash.DnaPacker;
+import org.openjdk.jmh.annotations.*;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark de los DnaHasher, de la conversión a hexadecimal y de la copia compacta
+ * usada para verificar colisiones
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xmx4g"})
+public class DnaHashBenchmark {
+
+    @Param({"6", "100", "1000"})
+    private int n;
+
+    @Param({"SHA256", "MURMUR3_128"})
+    private DnaHashAlgorithm algorithm;
+
+    private DnaHasher hasher;
+    private String[] dna;
+    private byte[] digest;
+
+    @Setup(Level.Trial)
+    public void setUp() throws NoSuchAlgorithmException {
+        hasher = new DnaHasherConfig().dnaHasher(algorithm);
+        dna = DnaMatrices.build(DnaMatrices.Shape.HUMAN, n);
+        digest = MessageDigest.getInstance("SHA-256").digest(new byte[]{1, 2, 3});
+    }
+
+    @Benchmark
+    public DnaHash hash() {
+        return hasher.hash(dna);
+    }
+
+    @Benchmark
+    public String toHex() {
+        // DnaHash nuevo en cada invocación: el hexadecimal se cachea por instancia
+        return DnaHash.of(digest).toHex();
+    }
+
+    @Benchmark
+    public byte[] pack() {
+        return DnaPacker.pack(dna);
+    }
+}
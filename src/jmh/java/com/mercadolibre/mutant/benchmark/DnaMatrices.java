@@ -0,0 +1,102 @@
+package com.mercadolibre.mutant.benchmark;
+
+/**
+ * Generador de matrices de ADN deterministas para los benchmarks
+ */
+public final class DnaMatrices {
+
+    private static final char[] BASES = {'A', 'T', 'C', 'G'};
+
+    /**
+     * Formas de entrada que ejercitan distintos caminos del detector
+     */
+    public enum Shape {
+        /** Sin secuencias: recorre las cuatro direcciones completas (peor caso) */
+        HUMAN,
+        /** Dos secuencias en las últimas filas: se conocen al final de la pasada horizontal */
+        MUTANT,
+        /** Dos secuencias en las primeras filas: Early Termination inmediata */
+        EARLY_EXIT
+    }
+
+    private DnaMatrices() {
+    }
+
+    public static String[] build(Shape shape, int n) {
+        char[][] rows = humanRows(n);
+
+        switch (shape) {
+            case MUTANT -> {
+                // Horizontales en las dos últimas filas
+                for (int j = 0; j < 4; j++) {
+                    rows[n - 2][j] = 'C';
+                    rows[n - 1][j] = 'T';
+                }
+            }
+            case EARLY_EXIT -> {
+                // Horizontales en las dos primeras filas
+                for (int j = 0; j < 4; j++) {
+                    rows[0][j] = 'A';
+                    rows[1][j] = 'C';
+                }
+            }
+            default -> {
+                // HUMAN: patrón sin secuencias
+            }
+        }
+
+        return toStrings(rows);
+    }
+
+    /**
+     * Matriz única por índice: los 64 bits del índice, en base 4, desplazan la base de las
+     * primeras 32 celdas (por filas) respecto del patrón humano (útil para simular ADN nunca
+     * visto en cada invocación). Con N de 4 o 5 solo entran los 2·N² bits de menor peso
+     */
+    public static String[] unique(int n, long index) {
+        char[][] rows = humanRows(n);
+        int cells = Math.min(Long.SIZE / 2, n * n);
+        for (int k = 0; k < cells; k++) {
+            int i = k / n;
+            int j = k % n;
+            int digit = (int) (index >>> (2 * k)) & 3;
+            rows[i][j] = BASES[(j + 2 * i + digit) % 4];
+        }
+        return toStrings(rows);
+    }
+
+    /**
+     * Cuerpo JSON de POST /mutant
+     */
+    public static String toJson(String[] dna) {
+        StringBuilder json = new StringBuilder("{\"dna\":[");
+        for (int i = 0; i < dna.length; i++) {
+            if (i > 0) {
+                json.append(',');
+            }
+            json.append('"').append(dna[i]).append('"');
+        }
+        return json.append("]}").toString();
+    }
+
+    /**
+     * Patrón (j + 2i) mod 4: ninguna secuencia de 4 en ninguna dirección
+     */
+    private static char[][] humanRows(int n) {
+        char[][] rows = new char[n][n];
+        for (int i = 0; i < n; i++) {
+            for (int j = 0; j < n; j++) {
+                rows[i][j] = BASES[(j + 2 * i) % 4];
+            }
+        }
+        return rows;
+    }
+
+    private static String[] toStrings(char[][] rows) {
+        String[] dna = new String[rows.length];
+        for (int i = 0; i < rows.length; i++) {
+            dna[i] = new String(rows[i]);
+        }
+        return dna;
+    }
+}
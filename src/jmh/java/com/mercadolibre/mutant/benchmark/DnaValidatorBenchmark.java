@@ -0,0 +1,36 @@
+package com.mercadolibre.mutant.benchmark;
+
+import com.mercadolibre.mutant.application.validation.DnaValidator;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark de DnaValidator.isValid sobre entradas válidas
+ * (el contexto solo se usa al reportar errores, por lo que se pasa null)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xmx4g"})
+public class DnaValidatorBenchmark {
+
+    @Param({"6", "100", "1000", "10000"})
+    private int n;
+
+    private DnaValidator validator;
+    private String[] dna;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        validator = new DnaValidator();
+        dna = DnaMatrices.build(DnaMatrices.Shape.HUMAN, n);
+    }
+
+    @Benchmark
+    public boolean isValid() {
+        return validator.isValid(dna, null);
+    }
+}
@@ -0,0 +1,56 @@
+package com.mercadolibre.mutant.benchmark;
+
+import com.mercadolibre.mutant.infrastructure.persistence.MappedVerdictLog;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Camino de escritura y lectura del log mapeado en memoria, sin Spring ni transacción
+ *
+ * - append: agrega un hash nuevo (búsqueda en el índice + registro de 32 bytes + índice)
+ * - find: busca un hash ya guardado (solo el índice fuera del heap)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xmx4g", "-XX:MaxDirectMemorySize=2g"})
+public class MappedVerdictLogBenchmark {
+
+    private static final long GOLDEN = 0x9E3779B97F4A7C15L;
+
+    private MappedVerdictLog verdictLog;
+    private long next;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        Path directory = Files.createDirectories(Path.of("target", "logbench", Long.toString(System.nanoTime())));
+        verdictLog = new MappedVerdictLog(directory, 64 << 20, 1 << 20);
+        for (next = 1; next <= 100_000; next++) {
+            verdictLog.appendIfAbsent(next, next * GOLDEN, (next & 1) == 0, 12);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        verdictLog.close();
+    }
+
+    @Benchmark
+    public boolean append() {
+        long key = next++;
+        return verdictLog.appendIfAbsent(key, key * GOLDEN, false, 12);
+    }
+
+    @Benchmark
+    public long find() {
+        long key = (next * GOLDEN >>> 1) % 100_000 + 1;
+        next++;
+        return verdictLog.find(key, key * GOLDEN);
+    }
+}
@@ -0,0 +1,62 @@
+package com.mercadolibre.mutant.benchmark;
+
+import com.mercadolibre.mutant.domain.detector.DetectorEngine;
+import com.mercadolibre.mutant.domain.detector.MutantDetector;
+import com.mercadolibre.mutant.domain.detector.MutantDetectorConfig;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark de MutantDetector.isMutant por motor, tamaño y forma de entrada
+ *
+ * Permite comparar los motores sobre las mismas entradas y ubicar el punto de cruce
+ * del motor PARALLEL (ajustar mutant.detector.parallel.threshold según el resultado).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xmx4g"})
+public class MutantDetectorBenchmark {
+
+    @Param({"4", "6", "100", "1000", "10000"})
+    private int n;
+
+    @Param({"HUMAN", "MUTANT", "EARLY_EXIT"})
+    private DnaMatrices.Shape shape;
+
+    @Param({"CHAR_MATRIX", "BIT_PACKED", "FUSED", "PARALLEL", "VECTOR"})
+    private DetectorEngine engine;
+
+    /** 0 fuerza el camino paralelo para medir el cruce en todos los tamaños */
+    @Param({"0"})
+    private int parallelThreshold;
+
+    /** Workers del pool del motor PARALLEL (0 = uno por core) */
+    @Param({"0"})
+    private int poolSize;
+
+    private MutantDetectorConfig config;
+    private MutantDetector detector;
+    private String[] dna;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        config = new MutantDetectorConfig();
+        detector = config.mutantDetector(engine, parallelThreshold, poolSize, new SimpleMeterRegistry());
+        dna = DnaMatrices.build(shape, n);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        config.shutdownDetectorPool();
+    }
+
+    @Benchmark
+    public boolean isMutant() {
+        return detector.isMutant(dna);
+    }
+}
@@ -0,0 +1,114 @@
+package com.mercadolibre.mutant.benchmark;
+
+import com.mercadolibre.mutant.MutantDetectorApplication;
+import com.mercadolibre.mutant.application.service.MutantService;
+import com.mercadolibre.mutant.application.service.StatsCounter;
+import com.mercadolibre.mutant.domain.detector.MutantDetector;
+import com.mercadolibre.mutant.domain.hash.DnaHash;
+import com.mercadolibre.mutant.domain.hash.DnaHasher;
+import com.mercadolibre.mutant.domain.repository.VerdictStore;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Benchmark del camino completo MutantService.isMutant contra H2 en memoria
+ *
+ * - existingDna: ADN ya guardado; con cacheTtl=PT0S no está en memoria (como después de un
+ *   reinicio o de vencer el TTL): hash + detección + MERGE que no inserta + SELECT
+ * - newDna: ADN nunca visto en cada invocación (hash + detección + MERGE)
+ * - selectFirstExistingDna / selectFirstNewDna: el camino anterior a INSERT-si-no-existe
+ *   (SELECT por clave primaria y, si no está, detección + insert + dna_stats), armado sobre el VerdictStore
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xmx4g"})
+public class MutantServiceBenchmark {
+
+    @Param({"6", "100"})
+    private int n;
+
+    /** PT0S vence cada entrada al escribirla: cada ADN repetido llega a la BD */
+    @Param({"PT1H", "PT0S"})
+    private String cacheTtl;
+
+    private ConfigurableApplicationContext context;
+    private MutantService mutantService;
+    private VerdictStore verdictStore;
+    private StatsCounter statsCounter;
+    private MutantDetector mutantDetector;
+    private DnaHasher dnaHasher;
+    private TransactionTemplate transactionTemplate;
+    private String[] existingDna;
+    private final AtomicLong sequence = new AtomicLong();
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        SpringApplication application = new SpringApplication(MutantDetectorApplication.class);
+        application.setWebApplicationType(WebApplicationType.NONE);
+        context = application.run(
+            "--spring.datasource.url=jdbc:h2:mem:benchmark;DB_CLOSE_DELAY=-1",
+            "--spring.jpa.hibernate.ddl-auto=create-drop",
+            "--spring.jpa.show-sql=false",
+            "--spring.jpa.properties.hibernate.show_sql=false",
+            "--spring.jpa.properties.hibernate.format_sql=false",
+            "--mutant.cache.ttl=" + cacheTtl,
+            "--logging.level.root=WARN",
+            "--logging.level.com.mercadolibre.mutant=WARN"
+        );
+        mutantService = context.getBean(MutantService.class);
+        verdictStore = context.getBean(VerdictStore.class);
+        statsCounter = context.getBean(StatsCounter.class);
+        mutantDetector = context.getBean(MutantDetector.class);
+        dnaHasher = context.getBean(DnaHasher.class);
+        transactionTemplate = context.getBean(TransactionTemplate.class);
+
+        existingDna = DnaMatrices.build(DnaMatrices.Shape.MUTANT, n);
+        mutantService.isMutant(existingDna);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public boolean existingDna() {
+        return mutantService.isMutant(existingDna);
+    }
+
+    @Benchmark
+    public boolean newDna() {
+        return mutantService.isMutant(DnaMatrices.unique(n, sequence.incrementAndGet()));
+    }
+
+    @Benchmark
+    public boolean selectFirstExistingDna() {
+        return selectFirst(existingDna);
+    }
+
+    @Benchmark
+    public boolean selectFirstNewDna() {
+        return selectFirst(DnaMatrices.unique(n, sequence.incrementAndGet()));
+    }
+
+    private boolean selectFirst(String[] dna) {
+        DnaHash dnaHash = dnaHasher.hash(dna);
+        return Boolean.TRUE.equals(transactionTemplate.execute(status -> verdictStore.findVerdict(dnaHash)
+                .map(verdict -> verdict.isMutant())
+                .orElseGet(() -> {
+                    boolean isMutant = mutantDetector.isMutant(dna);
+                    verdictStore.save(dnaHash, isMutant, dna.length, null);
+                    statsCounter.recordInsert(isMutant);
+                    return isMutant;
+                })));
+    }
+}
@@ -0,0 +1,90 @@
+package com.mercadolibre.mutant.benchmark;
+
+import com.mercadolibre.mutant.MutantDetectorApplication;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Prueba de carga HTTP de POST /mutant: configuración anterior vs perfil prod
+ *
+ * - LEGACY: eco de SQL formateado a stdout, ddl-auto=update, AUTO_SERVER=TRUE y pool de 20
+ *   (la configuración por defecto antes del perfil prod; el eco de SQL ensucia la salida)
+ * - PROD: perfil prod (sin SQL, Flyway + validate, pool por cores, CACHE_SIZE, logs asíncronos)
+ *
+ * Cada request envía un ADN nunca visto: hash, detección e insert en H2 en archivo.
+ * - Mode.Throughput: requests por milisegundo
+ * - Mode.SampleTime: distribución de latencia (p0.99 en el reporte de JMH)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 10)
+@Threads(64)
+@Fork(value = 1, jvmArgsAppend = {"-Xmx4g"})
+public class PersistenceProfileBenchmark {
+
+    public enum Config { LEGACY, PROD }
+
+    @Param({"LEGACY", "PROD"})
+    private Config config;
+
+    @Param({"12"})
+    private int n;
+
+    private ConfigurableApplicationContext context;
+    private HttpClient client;
+    private URI mutantUri;
+    private final AtomicLong sequence = new AtomicLong();
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        String database = "./target/loadtest/profile-" + config.name().toLowerCase() + "-" + System.nanoTime();
+        context = new SpringApplication(MutantDetectorApplication.class).run(switch (config) {
+            case LEGACY -> new String[]{
+                "--server.port=0",
+                "--spring.datasource.url=jdbc:h2:file:" + database + ";AUTO_SERVER=TRUE",
+                "--spring.jpa.hibernate.ddl-auto=update",
+                "--spring.jpa.show-sql=true",
+                "--spring.jpa.properties.hibernate.show_sql=true",
+                "--spring.jpa.properties.hibernate.format_sql=true",
+                "--spring.h2.console.enabled=false"
+            };
+            case PROD -> new String[]{
+                "--server.port=0",
+                "--spring.profiles.active=prod",
+                "--spring.datasource.url=jdbc:h2:file:" + database + ";MV_STORE=TRUE;CACHE_SIZE=262144;LOCK_TIMEOUT=10000"
+            };
+        });
+        int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+        mutantUri = URI.create("http://localhost:" + port + "/mutant");
+        client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(10))
+                .build();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public int newDna() throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(mutantUri)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(DnaMatrices.toJson(DnaMatrices.unique(n, sequence.incrementAndGet()))))
+                .build();
+        return client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+    }
+}
@@ -0,0 +1,117 @@
+package com.mercadolibre.mutant.benchmark;
+
+import ch.qos.logback.classic.AsyncAppender;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.encoder.PatternLayoutEncoder;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.Appender;
+import ch.qos.logback.core.OutputStreamAppender;
+import com.mercadolibre.mutant.application.service.DnaLogFormat;
+import com.mercadolibre.mutant.domain.hash.DnaHash;
+import com.mercadolibre.mutant.domain.hash.Sha256DnaHasher;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.OutputStream;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Costo en el thread del request del log "GUARDADO EN BD" de MutantService
+ *
+ * - eagerJoin: como antes, String.join del ADN completo en cada request y appender síncrono
+ * - truncated: ADN truncado a 32 caracteres, armado solo al imprimir (perfil por defecto)
+ * - hashOnlySampled: solo el hash, 1 de cada 100 eventos, AsyncAppender (perfil prod)
+ *
+ * Los appenders escriben a un OutputStream nulo: se mide el armado del mensaje, no la consola.
+ * Con {@code -prof gc}, gc.alloc.rate.norm muestra los bytes asignados por request.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xmx4g"})
+public class RequestLoggingBenchmark {
+
+    private static final String MESSAGE = "GUARDADO EN BD - ADN: {} -> Resultado: {} | Hash: {} | Total de registros: {}";
+
+    @Param({"6", "100", "1000"})
+    private int n;
+
+    private LoggerContext loggerContext;
+    private Logger syncLogger;
+    private Logger asyncLogger;
+    private DnaLogFormat truncatedFormat;
+    private DnaLogFormat prodFormat;
+    private String[] dna;
+    private DnaHash dnaHash;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        loggerContext = new LoggerContext();
+        Appender<ILoggingEvent> sync = nullAppender("sync");
+        AsyncAppender async = new AsyncAppender();
+        async.setContext(loggerContext);
+        async.setName("async");
+        async.setQueueSize(8192);
+        async.setNeverBlock(true);
+        async.addAppender(nullAppender("async-target"));
+        async.start();
+
+        syncLogger = logger("sync", sync);
+        asyncLogger = logger("async", async);
+        truncatedFormat = new DnaLogFormat(32, 1);
+        prodFormat = new DnaLogFormat(0, 100);
+
+        dna = DnaMatrices.build(DnaMatrices.Shape.MUTANT, n);
+        dnaHash = new Sha256DnaHasher().hash(dna);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        loggerContext.stop();
+    }
+
+    @Benchmark
+    public void eagerJoin() {
+        String humanReadableDna = String.join(", ", dna);
+        syncLogger.info(MESSAGE, "[" + humanReadableDna + "]", "MUTANTE", dnaHash, 1L);
+    }
+
+    @Benchmark
+    public void truncated() {
+        if (syncLogger.isInfoEnabled() && truncatedFormat.sampled()) {
+            syncLogger.info(MESSAGE, truncatedFormat.dna(dna, dnaHash), "MUTANTE", dnaHash, 1L);
+        }
+    }
+
+    @Benchmark
+    public void hashOnlySampled() {
+        if (asyncLogger.isInfoEnabled() && prodFormat.sampled()) {
+            asyncLogger.info(MESSAGE, prodFormat.dna(dna, dnaHash), "MUTANTE", dnaHash, 1L);
+        }
+    }
+
+    private Appender<ILoggingEvent> nullAppender(String name) {
+        PatternLayoutEncoder encoder = new PatternLayoutEncoder();
+        encoder.setContext(loggerContext);
+        encoder.setPattern("%d{HH:mm:ss.SSS} [%thread] %-5level %logger{36} - %msg%n");
+        encoder.start();
+
+        OutputStreamAppender<ILoggingEvent> appender = new OutputStreamAppender<>();
+        appender.setContext(loggerContext);
+        appender.setName(name);
+        appender.setEncoder(encoder);
+        appender.setOutputStream(OutputStream.nullOutputStream());
+        appender.start();
+        return appender;
+    }
+
+    private Logger logger(String name, Appender<ILoggingEvent> appender) {
+        Logger logger = loggerContext.getLogger(name);
+        logger.setLevel(ch.qos.logback.classic.Level.INFO);
+        logger.setAdditive(false);
+        logger.addAppender(appender);
+        return logger;
+    }
+}
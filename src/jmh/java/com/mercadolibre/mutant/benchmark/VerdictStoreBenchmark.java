@@ -0,0 +1,103 @@
+package com.mercadolibre.mutant.benchmark;
+
+import com.mercadolibre.mutant.MutantDetectorApplication;
+import com.mercadolibre.mutant.domain.hash.DnaHash;
+import com.mercadolibre.mutant.domain.hash.DnaHasher;
+import com.mercadolibre.mutant.domain.repository.VerdictStore;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+/**
+ * Inserts de veredictos nuevos por motor de almacenamiento, en archivo
+ *
+ * - JPA_HEX / JPA_BINARY: MERGE nativo sobre dna_records / dna_records_bin (H2 vía JDBC)
+ * - MVSTORE: putIfAbsent sobre el mapa clave-valor
+ * - MAPPED_LOG: registro de 32 bytes en el segmento mapeado (preasignado: los bytes en disco
+ *   son los de los segmentos completos)
+ *
+ * Cada insert corre en una transacción, como en MutantService. Al terminar imprime los
+ * bytes en disco por registro (archivo de H2 para JPA, archivo o segmentos del motor para el resto).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 10)
+@Threads(8)
+@Fork(value = 1, jvmArgsAppend = {"-Xmx4g"})
+public class VerdictStoreBenchmark {
+
+    public enum Backend { JPA_HEX, JPA_BINARY, MVSTORE, MAPPED_LOG }
+
+    @Param({"JPA_HEX", "JPA_BINARY", "MVSTORE", "MAPPED_LOG"})
+    private Backend backend;
+
+    private Path directory;
+    private ConfigurableApplicationContext context;
+    private VerdictStore verdictStore;
+    private DnaHasher dnaHasher;
+    private TransactionTemplate transactionTemplate;
+    private final AtomicLong sequence = new AtomicLong();
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        directory = Files.createDirectories(Path.of("target", "storebench", backend.name().toLowerCase() + "-" + System.nanoTime()));
+        SpringApplication application = new SpringApplication(MutantDetectorApplication.class);
+        application.setWebApplicationType(WebApplicationType.NONE);
+        context = application.run(
+            "--spring.datasource.url=jdbc:h2:file:" + directory.resolve("db").toAbsolutePath(),
+            "--spring.jpa.hibernate.ddl-auto=update",
+            "--mutant.storage.backend=" + switch (backend) {
+                case JPA_HEX, JPA_BINARY -> "JPA";
+                case MVSTORE -> "MVSTORE";
+                case MAPPED_LOG -> "MAPPED_LOG";
+            },
+            "--mutant.storage.key-format=" + (backend == Backend.JPA_HEX ? "HEX" : "BINARY"),
+            "--mutant.storage.mvstore.file=" + directory.resolve("verdicts.mv"),
+            "--mutant.storage.log.directory=" + directory.resolve("verdict-log"),
+            "--logging.level.root=WARN",
+            "--logging.level.com.mercadolibre.mutant=WARN"
+        );
+        verdictStore = context.getBean(VerdictStore.class);
+        dnaHasher = context.getBean(DnaHasher.class);
+        transactionTemplate = context.getBean(TransactionTemplate.class);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        long records = verdictStore.count();
+        context.close();
+        long bytes = diskSize(directory.resolve(switch (backend) {
+            case JPA_HEX, JPA_BINARY -> "db.mv.db";
+            case MVSTORE -> "verdicts.mv";
+            case MAPPED_LOG -> "verdict-log";
+        }));
+        System.out.printf("%n%s: %d records, %d bytes on disk, %.1f bytes/record%n",
+                backend, records, bytes, records > 0 ? (double) bytes / records : 0);
+    }
+
+    @Benchmark
+    public Boolean insertNew() {
+        DnaHash dnaHash = dnaHasher.hash(new String[]{Long.toString(sequence.incrementAndGet())});
+        return transactionTemplate.execute(status -> verdictStore.insertIfAbsent(dnaHash, false, 12, null));
+    }
+
+    private static long diskSize(Path path) {
+        try (Stream<Path> files = Files.walk(path)) {
+            return files.filter(Files::isRegularFile).mapToLong(file -> file.toFile().length()).sum();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
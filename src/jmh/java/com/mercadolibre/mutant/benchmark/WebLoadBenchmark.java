@@ -0,0 +1,86 @@
+package com.mercadolibre.mutant.benchmark;
+
+import com.mercadolibre.mutant.MutantDetectorApplication;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Prueba de carga HTTP de POST /mutant: platform threads vs virtual threads
+ *
+ * Levanta la aplicación completa (Tomcat + H2 en archivo) en un puerto aleatorio y la
+ * satura con más clientes concurrentes que threads tiene Tomcat por defecto (200).
+ * Cada request envía un ADN nunca visto, por lo que bloquea en el insert.
+ *
+ * - Mode.Throughput: requests por milisegundo
+ * - Mode.SampleTime: distribución de latencia (p0.99 en el reporte de JMH)
+ *
+ * threading=VIRTUAL requiere Java 21; en versiones anteriores Spring ignora la propiedad.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 10)
+@Threads(400)
+@Fork(value = 1, jvmArgsAppend = {"-Xmx4g"})
+public class WebLoadBenchmark {
+
+    public enum Threading { PLATFORM, VIRTUAL }
+
+    @Param({"PLATFORM", "VIRTUAL"})
+    private Threading threading;
+
+    @Param({"12"})
+    private int n;
+
+    private ConfigurableApplicationContext context;
+    private HttpClient client;
+    private URI mutantUri;
+    private final AtomicLong sequence = new AtomicLong();
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplication(MutantDetectorApplication.class).run(
+            "--server.port=0",
+            "--spring.threads.virtual.enabled=" + (threading == Threading.VIRTUAL),
+            "--spring.datasource.url=jdbc:h2:file:./target/loadtest/" + threading.name().toLowerCase(),
+            "--spring.jpa.hibernate.ddl-auto=create-drop",
+            "--spring.jpa.show-sql=false",
+            "--spring.jpa.properties.hibernate.show_sql=false",
+            "--spring.jpa.properties.hibernate.format_sql=false",
+            "--spring.h2.console.enabled=false",
+            "--logging.level.root=WARN",
+            "--logging.level.com.mercadolibre.mutant=WARN"
+        );
+        int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+        mutantUri = URI.create("http://localhost:" + port + "/mutant");
+        client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(10))
+                .build();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public int newDna() throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(mutantUri)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(DnaMatrices.toJson(DnaMatrices.unique(n, sequence.incrementAndGet()))))
+                .build();
+        return client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+    }
+}
@@ -1,19 +1,30 @@
 package com.mercadolibre.mutant;
 
+import com.mercadolibre.mutant.infrastructure.importer.DnaImportRunner;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.core.env.Profiles;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 /**
  * Aplicación principal del Mutant Detector
  * Sistema de detección de mutantes basado en secuencias de ADN
+ * Con el perfil {@code import} corre la importación NDJSON y termina
  * 
  * @author MercadoLibre Tech Challenge
  * @version 1.0.0
  */
 @SpringBootApplication
+@EnableScheduling
 public class MutantDetectorApplication {
 
     public static void main(String[] args) {
-        SpringApplication.run(MutantDetectorApplication.class, args);
+        ConfigurableApplicationContext context = SpringApplication.run(MutantDetectorApplication.class, args);
+        
+        // Sin servidor web, los hilos de @Scheduled mantendrían viva la JVM
+        if (context.getEnvironment().acceptsProfiles(Profiles.of(DnaImportRunner.PROFILE))) {
+            System.exit(SpringApplication.exit(context));
+        }
     }
 }
@@ -0,0 +1,36 @@
+package com.mercadolibre.mutant.application.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * DTO de respuesta de POST /mutant/batch: un resultado por ADN, en el orden recibido
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Resultados del análisis de un lote de ADN")
+public class DnaBatchResponse {
+
+    @JsonProperty("count_mutant_dna")
+    @Schema(description = "Cantidad de ADN mutante en el lote", example = "1")
+    private Long countMutantDna;
+
+    @JsonProperty("count_human_dna")
+    @Schema(description = "Cantidad de ADN humano en el lote", example = "1")
+    private Long countHumanDna;
+
+    @JsonProperty("count_invalid_dna")
+    @Schema(description = "Cantidad de ADN inválido en el lote", example = "0")
+    private Long countInvalidDna;
+
+    @Schema(description = "Resultado de cada ADN, en el orden recibido")
+    private List<DnaBatchResult> results;
+}
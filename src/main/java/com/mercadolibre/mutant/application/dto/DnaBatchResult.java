@@ -0,0 +1,30 @@
+package com.mercadolibre.mutant.application.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Veredicto de un ítem de POST /mutant/batch
+ * Los ítems inválidos no cortan el lote: llevan el error en lugar del veredicto
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@Schema(description = "Resultado del análisis de un ADN del lote")
+public class DnaBatchResult {
+
+    @Schema(description = "Posición del ADN en el lote (desde 0)", example = "0")
+    private Integer index;
+
+    @Schema(description = "true si es mutante, false si es humano; ausente si el ADN es inválido", example = "true")
+    private Boolean mutant;
+
+    @Schema(description = "Motivo por el que el ADN es inválido", example = "DNA must be NxN matrix")
+    private String error;
+}
@@ -0,0 +1,74 @@
+package com.mercadolibre.mutant.application.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Formato y muestreo de los logs por request
+ *
+ * - El ADN se loguea truncado a {@code mutant.logging.dna-prefix} caracteres (0: solo el hash)
+ *   y el texto se arma recién cuando el appender llama a toString
+ * - Los eventos INFO por request se loguean 1 de cada {@code mutant.logging.sample-rate}
+ *   (1: todos); WARN y ERROR no se muestrean
+ */
+@Component
+public class DnaLogFormat {
+
+    private final int dnaPrefix;
+    private final int sampleRate;
+
+    public DnaLogFormat(@Value("${mutant.logging.dna-prefix:32}") int dnaPrefix,
+                        @Value("${mutant.logging.sample-rate:1}") int sampleRate) {
+        if (dnaPrefix < 0 || sampleRate < 1) {
+            throw new IllegalArgumentException("mutant.logging.dna-prefix must be >= 0 and sample-rate >= 1");
+        }
+        this.dnaPrefix = dnaPrefix;
+        this.sampleRate = sampleRate;
+    }
+
+    /**
+     * @return true si este evento INFO debe loguearse
+     */
+    public boolean sampled() {
+        return sampleRate == 1 || ThreadLocalRandom.current().nextInt(sampleRate) == 0;
+    }
+
+    /**
+     * Argumento de log para el ADN: no copia las filas ni arma el texto hasta que se imprime
+     */
+    public Object dna(String[] dna, Object dnaHash) {
+        return dnaPrefix == 0 ? dnaHash : new TruncatedDna(dna, dnaPrefix);
+    }
+
+    private static final class TruncatedDna {
+
+        private final String[] dna;
+        private final int prefix;
+
+        private TruncatedDna(String[] dna, int prefix) {
+            this.dna = dna;
+            this.prefix = prefix;
+        }
+
+        @Override
+        public String toString() {
+            StringBuilder text = new StringBuilder(prefix + 16).append('[');
+            int remaining = prefix;
+            for (int i = 0; i < dna.length && remaining > 0; i++) {
+                if (i > 0) {
+                    text.append(", ");
+                }
+                int length = Math.min(dna[i].length(), remaining);
+                text.append(dna[i], 0, length);
+                remaining -= length;
+            }
+            // Las filas ya llegan validadas como NxN
+            if ((long) dna.length * dna.length > prefix) {
+                text.append("...");
+            }
+            return text.append("] (").append(dna.length).append('x').append(dna.length).append(')').toString();
+        }
+    }
+}
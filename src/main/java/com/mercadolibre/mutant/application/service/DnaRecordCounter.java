@@ -0,0 +1,66 @@
+package com.mercadolibre.mutant.application.service;
+
+import com.mercadolibre.mutant.domain.repository.VerdictStore;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Total de registros de ADN mantenido en memoria
+ *
+ * Se inicializa con un único COUNT al arrancar (antes de aceptar requests) y luego se
+ * incrementa en cada insert, evitando un COUNT(*) por request sobre toda la tabla.
+ * Si la transacción del insert no llega a commit, el incremento se revierte.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class DnaRecordCounter {
+
+    private final VerdictStore verdictStore;
+    private final AtomicLong total = new AtomicLong();
+
+    @PostConstruct
+    void seed() {
+        total.set(verdictStore.count());
+        log.info("DNA record counter seeded with {} records", total.get());
+    }
+
+    /**
+     * Registra un insert nuevo
+     *
+     * @return total de registros incluyendo este
+     */
+    public long recordInsert() {
+        return recordInserts(1);
+    }
+
+    /**
+     * Registra varios inserts nuevos de una misma transacción
+     *
+     * @return total de registros incluyendo estos
+     */
+    public long recordInserts(int count) {
+        long value = total.addAndGet(count);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    if (status != STATUS_COMMITTED) {
+                        total.addAndGet(-count);
+                    }
+                }
+            });
+        }
+        return value;
+    }
+
+    public long get() {
+        return total.get();
+    }
+}
@@ -0,0 +1,97 @@
+package com.mercadolibre.mutant.application.service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Timers de cada etapa de POST /mutant y GET /stats
+ *
+ * - dna.hash: cálculo del hash del ADN
+ * - dna.lookup: búsqueda de un veredicto previo (source=cache|store, result=hit|miss)
+ * - dna.save: insert del veredicto (outcome=inserted|existing)
+ * - dna.stats.read: lectura de los contadores de /stats
+ *
+ * La validación y la detección se miden en DnaValidator e InstrumentedMutantDetector.
+ * Todos publican histograma de percentiles; los timers se crean una sola vez.
+ */
+@Component
+public class DnaStageMetrics {
+
+    private final Timer hashTimer;
+    private final Timer cacheHitTimer;
+    private final Timer cacheMissTimer;
+    private final Timer storeHitTimer;
+    private final Timer storeMissTimer;
+    private final Timer insertedTimer;
+    private final Timer existingTimer;
+    private final Timer statsReadTimer;
+
+    public DnaStageMetrics(MeterRegistry meterRegistry) {
+        this.hashTimer = timer("dna.hash", "Tiempo de hash del ADN", meterRegistry);
+        this.cacheHitTimer = lookupTimer("cache", "hit", meterRegistry);
+        this.cacheMissTimer = lookupTimer("cache", "miss", meterRegistry);
+        this.storeHitTimer = lookupTimer("store", "hit", meterRegistry);
+        this.storeMissTimer = lookupTimer("store", "miss", meterRegistry);
+        this.insertedTimer = saveTimer("inserted", meterRegistry);
+        this.existingTimer = saveTimer("existing", meterRegistry);
+        this.statsReadTimer = timer("dna.stats.read", "Tiempo de lectura de estadísticas", meterRegistry);
+    }
+
+    /**
+     * Marca de inicio de una etapa (se pasa luego a record*)
+     */
+    public long start() {
+        return System.nanoTime();
+    }
+
+    public void recordHash(long start) {
+        record(hashTimer, start);
+    }
+
+    public void recordCacheLookup(long start, boolean hit) {
+        record(hit ? cacheHitTimer : cacheMissTimer, start);
+    }
+
+    public void recordStoreLookup(long start, boolean hit) {
+        record(hit ? storeHitTimer : storeMissTimer, start);
+    }
+
+    public void recordSave(long start, boolean inserted) {
+        record(inserted ? insertedTimer : existingTimer, start);
+    }
+
+    public void recordStatsRead(long start) {
+        record(statsReadTimer, start);
+    }
+
+    private static void record(Timer timer, long start) {
+        timer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+    }
+
+    private static Timer lookupTimer(String source, String result, MeterRegistry meterRegistry) {
+        return Timer.builder("dna.lookup")
+                .description("Tiempo de búsqueda de un veredicto previo")
+                .tag("source", source)
+                .tag("result", result)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
+    private static Timer saveTimer(String outcome, MeterRegistry meterRegistry) {
+        return Timer.builder("dna.save")
+                .description("Tiempo de guardado del veredicto")
+                .tag("outcome", outcome)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
+    private static Timer timer(String name, String description, MeterRegistry meterRegistry) {
+        return Timer.builder(name)
+                .description(description)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+}
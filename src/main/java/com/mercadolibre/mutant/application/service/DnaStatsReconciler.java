@@ -0,0 +1,91 @@
+package com.mercadolibre.mutant.application.service;
+
+import com.mercadolibre.mutant.domain.entity.DnaStats;
+import com.mercadolibre.mutant.domain.repository.DnaStatsRepository;
+import com.mercadolibre.mutant.domain.repository.VerdictStore;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Reconstrucción de dna_stats desde la tabla de registros
+ *
+ * Corre al arrancar (crea la fila si no existe) y luego cada
+ * {@code mutant.stats.reconcile-interval}. Los COUNT corren sin bloquear la fila de
+ * contadores y se comparan con lo que muestra /stats ({@link StatsCounter#snapshot()}: la
+ * fila más los incrementos en memoria aún no volcados, así STRIPED no cuenta dos veces los
+ * inserts confirmados después del volcado), tomado antes y después de contar. El COUNT vio
+ * algún punto entre ambas fotos, así que el desvío real está entre las dos diferencias: se
+ * suma a la fila bloqueada el valor de ese rango más cercano a cero. Los inserts
+ * concurrentes solo achican la corrección (lo que no explican se corrige igual) y al
+ * arrancar, sin tráfico, la reconstrucción es exacta.
+ * Con escritura diferida se vacía antes la cola de registros pendientes. Con varias
+ * instancias STRIPED solo se ven los pendientes locales: las demás deben volcar antes
+ * ({@code mutant.stats.flush-interval} menor que el intervalo de reconciliación).
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class DnaStatsReconciler {
+
+    private final DnaStatsRepository dnaStatsRepository;
+    private final VerdictStore verdictStore;
+    private final TransactionTemplate transactionTemplate;
+    private final StatsCounter statsCounter;
+
+    @PostConstruct
+    void reconcileOnStartup() {
+        reconcile();
+    }
+
+    @Scheduled(fixedDelayString = "${mutant.stats.reconcile-interval:PT1H}",
+               initialDelayString = "${mutant.stats.reconcile-interval:PT1H}")
+    public void reconcile() {
+        long start = System.nanoTime();
+        verdictStore.flush();
+        statsCounter.sync();
+
+        boolean missing = dnaStatsRepository.findById(DnaStats.SINGLETON_ID).isEmpty();
+        StatsSnapshot before = statsCounter.snapshot();
+        long mutants = verdictStore.countMutants();
+        long humans = verdictStore.countHumans();
+        StatsSnapshot after = statsCounter.snapshot();
+
+        long mutantDrift = drift(mutants, before.getMutantCount(), after.getMutantCount());
+        long humanDrift = drift(humans, before.getHumanCount(), after.getHumanCount());
+        if (missing || mutantDrift != 0 || humanDrift != 0) {
+            transactionTemplate.executeWithoutResult(status -> {
+                DnaStats stats = dnaStatsRepository.findForUpdate(DnaStats.SINGLETON_ID)
+                        .orElseGet(() -> DnaStats.builder().id(DnaStats.SINGLETON_ID).build());
+
+                if (mutantDrift != 0 || humanDrift != 0) {
+                    log.warn("dna_stats drift corrected - Mutants: {} (counted {}), Humans: {} (counted {})",
+                             mutantDrift, mutants, humanDrift, humans);
+                }
+
+                stats.setMutantCount(stats.getMutantCount() + mutantDrift);
+                stats.setHumanCount(stats.getHumanCount() + humanDrift);
+                dnaStatsRepository.save(stats);
+            });
+        }
+        statsCounter.sync();
+        log.info("dna_stats reconciled in {} ms", (System.nanoTime() - start) / 1_000_000);
+    }
+
+    /**
+     * Desvío entre el COUNT y los contadores, descontando lo que pudo moverse mientras se contaba
+     *
+     * @return el valor más cercano a cero entre counted - before y counted - after
+     */
+    static long drift(long counted, long before, long after) {
+        long low = counted - Math.max(before, after);
+        long high = counted - Math.min(before, after);
+        if (low > 0) {
+            return low;
+        }
+        return Math.min(high, 0);
+    }
+}
@@ -0,0 +1,91 @@
+package com.mercadolibre.mutant.application.service;
+
+import com.mercadolibre.mutant.domain.detector.DnaRowScanner;
+import com.mercadolibre.mutant.domain.hash.DnaHash;
+import com.mercadolibre.mutant.domain.hash.DnaHasher;
+import com.mercadolibre.mutant.domain.hash.DnaPacker;
+
+/**
+ * Análisis de ADN recibido fila por fila (ingesta por streaming)
+ *
+ * Valida, detecta y calcula el hash en la misma pasada sobre cada fila, sin construir
+ * String[] ni un String por fila. El hash es idéntico al de {@link MutantService#isMutant(String[])}
+ * para el mismo ADN y el mismo {@link DnaHasher}, por lo que ambos caminos comparten la deduplicación.
+ *
+ * Una instancia analiza una única matriz y no es thread-safe.
+ */
+public class DnaStreamAnalysis {
+
+    private final DnaHasher.RowHasher rowHasher;
+    private final boolean packDna;
+
+    private DnaRowScanner scanner;
+    private DnaPacker packer;
+    private DnaHash dnaHash;
+    private boolean isMutant;
+
+    /**
+     * @param hasher  mismo hasher que usa MutantService
+     * @param packDna si además se arma la copia compacta para verificar colisiones
+     */
+    public DnaStreamAnalysis(DnaHasher hasher, boolean packDna) {
+        this.rowHasher = hasher.newRowHasher();
+        this.packDna = packDna;
+    }
+
+    /**
+     * Procesa la siguiente fila. El tamaño de la primera fila define N.
+     */
+    public void acceptRow(char[] buffer, int offset, int length) {
+        if (scanner == null) {
+            scanner = new DnaRowScanner(length);
+            packer = packDna ? new DnaPacker(length) : null;
+        }
+
+        // El scanner valida primero: solo A, T, C, G, por lo que cada char es un byte ASCII
+        scanner.acceptRow(buffer, offset, length);
+
+        rowHasher.acceptRow(buffer, offset, length);
+        if (packer != null) {
+            packer.acceptRow(buffer, offset, length);
+        }
+    }
+
+    /**
+     * Cierra el análisis verificando que la matriz sea NxN. Es idempotente.
+     *
+     * @return true si es mutante
+     */
+    public boolean finish() {
+        if (dnaHash != null) {
+            return isMutant;
+        }
+        if (scanner == null) {
+            throw new IllegalArgumentException("DNA sequence cannot be null or empty");
+        }
+        isMutant = scanner.finish();
+        dnaHash = rowHasher.finish();
+        return isMutant;
+    }
+
+    /**
+     * Hash del ADN recibido; solo disponible después de {@link #finish()}
+     */
+    public DnaHash getDnaHash() {
+        if (dnaHash == null) {
+            throw new IllegalStateException("DNA stream analysis is not finished");
+        }
+        return dnaHash;
+    }
+
+    /**
+     * Copia compacta del ADN, o null si no se pidió empaquetarlo
+     */
+    public byte[] getPackedDna() {
+        return packer == null ? null : packer.toBytes();
+    }
+
+    public int getSize() {
+        return scanner == null ? 0 : scanner.getRows();
+    }
+}
@@ -0,0 +1,39 @@
+package com.mercadolibre.mutant.application.service;
+
+import com.mercadolibre.mutant.domain.entity.DnaStats;
+import com.mercadolibre.mutant.domain.repository.DnaStatsRepository;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Contadores en la tabla dna_stats
+ *
+ * El incremento es un UPDATE en la misma transacción que el insert del registro:
+ * si el insert hace rollback, el contador también.
+ */
+@RequiredArgsConstructor
+public class MaterializedStatsCounter implements StatsCounter {
+
+    private final DnaStatsRepository dnaStatsRepository;
+
+    @Override
+    public void recordInsert(boolean isMutant) {
+        dnaStatsRepository.increment(DnaStats.SINGLETON_ID, isMutant ? 1 : 0, isMutant ? 0 : 1);
+    }
+
+    /**
+     * Un solo UPDATE para todo el batch (valores negativos descuentan)
+     */
+    @Override
+    public void recordInserts(long mutants, long humans) {
+        if (mutants != 0 || humans != 0) {
+            dnaStatsRepository.increment(DnaStats.SINGLETON_ID, mutants, humans);
+        }
+    }
+
+    @Override
+    public StatsSnapshot snapshot() {
+        return dnaStatsRepository.findById(DnaStats.SINGLETON_ID)
+                .map(stats -> new StatsSnapshot(stats.getMutantCount(), stats.getHumanCount()))
+                .orElse(new StatsSnapshot(0, 0));
+    }
+}
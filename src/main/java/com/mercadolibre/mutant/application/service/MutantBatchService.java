@@ -0,0 +1,230 @@
+package com.mercadolibre.mutant.application.service;
+
+import com.mercadolibre.mutant.domain.detector.MutantDetector;
+import com.mercadolibre.mutant.domain.hash.DnaHash;
+import com.mercadolibre.mutant.domain.hash.DnaHasher;
+import com.mercadolibre.mutant.domain.hash.DnaPacker;
+import com.mercadolibre.mutant.domain.repository.NewVerdict;
+import com.mercadolibre.mutant.domain.repository.StoredVerdict;
+import com.mercadolibre.mutant.domain.repository.VerdictStore;
+import com.mercadolibre.mutant.infrastructure.cache.DnaVerdictCache;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.IntStream;
+
+/**
+ * Detección de mutantes por lotes (POST /mutant/batch)
+ *
+ * Mismo resultado que {@link MutantService#isMutant(String[])} ítem por ítem, pero el costo
+ * por request (HTTP, transacción, round trips) se paga una vez por lote:
+ * 1. Hash de todos los ADN; los repetidos dentro del lote se resuelven una sola vez
+ * 2. Caché en memoria y luego una única consulta multi-clave (findVerdicts) para el resto
+ * 3. Detección de los no encontrados en paralelo (ForkJoinPool común)
+ * 4. Todos los nuevos en una transacción con saveAll (batch JDBC) y un solo incremento de /stats
+ *
+ * Si el batch falla (otro request guardó el mismo hash entre la consulta y el insert)
+ * se reintenta uno por uno con insertIfAbsent, como la escritura diferida.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class MutantBatchService {
+
+    private final VerdictStore verdictStore;
+    private final MutantDetector mutantDetector;
+    private final DnaVerdictCache verdictCache;
+    private final DnaHasher dnaHasher;
+    private final DnaRecordCounter recordCounter;
+    private final StatsCounter statsCounter;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${mutant.hash.verify-collisions:false}")
+    private boolean verifyCollisions;
+
+    /**
+     * Analiza un lote de ADN ya validados
+     *
+     * @param dnas Secuencias de ADN (NxN, solo A, T, C, G)
+     * @return veredicto de cada ADN, en el mismo orden
+     */
+    public boolean[] isMutantBatch(List<String[]> dnas) {
+        int size = dnas.size();
+        DnaHash[] hashes = new DnaHash[size];
+        byte[][] packed = new byte[size][];
+        for (int i = 0; i < size; i++) {
+            hashes[i] = dnaHasher.hash(dnas.get(i));
+            packed[i] = verifyCollisions ? DnaPacker.pack(dnas.get(i)) : null;
+        }
+
+        // Primer ítem de cada hash: es el que se analiza y guarda si el hash es nuevo
+        Map<DnaHash, Integer> firstIndex = new LinkedHashMap<>();
+        for (int i = 0; i < size; i++) {
+            firstIndex.putIfAbsent(hashes[i], i);
+        }
+
+        Map<DnaHash, StoredVerdict> known = findKnownVerdicts(firstIndex.keySet());
+
+        // Ítems que necesitan el detector: hash nuevo (solo el primero) o colisión
+        List<Integer> toDetect = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            StoredVerdict verdict = known.get(hashes[i]);
+            int first = firstIndex.get(hashes[i]);
+            if (verdict != null ? isCollision(verdict, packed[i])
+                                : i == first || isCollision(packed[first], packed[i])) {
+                toDetect.add(i);
+            }
+        }
+
+        boolean[] detected = new boolean[size];
+        IntStream.range(0, toDetect.size()).parallel().forEach(k -> {
+            int i = toDetect.get(k);
+            detected[i] = mutantDetector.isMutant(dnas.get(i));
+        });
+
+        List<NewVerdict> newVerdicts = new ArrayList<>();
+        for (Map.Entry<DnaHash, Integer> entry : firstIndex.entrySet()) {
+            if (!known.containsKey(entry.getKey())) {
+                int i = entry.getValue();
+                newVerdicts.add(new NewVerdict(entry.getKey(), detected[i], dnas.get(i).length, packed[i]));
+            }
+        }
+        if (!newVerdicts.isEmpty()) {
+            known.putAll(store(newVerdicts));
+        }
+
+        boolean[] results = new boolean[size];
+        for (int i = 0; i < size; i++) {
+            StoredVerdict verdict = known.get(hashes[i]);
+            results[i] = isCollision(verdict, packed[i]) ? detected[i] : verdict.isMutant();
+        }
+
+        log.info("Batch analyzed - Items: {}, distinct: {}, new: {}, detected: {}",
+                 size, firstIndex.size(), newVerdicts.size(), toDetect.size());
+        return results;
+    }
+
+    /**
+     * Caché en memoria primero y una sola consulta al store para el resto
+     */
+    private Map<DnaHash, StoredVerdict> findKnownVerdicts(Iterable<DnaHash> distinctHashes) {
+        Map<DnaHash, StoredVerdict> known = new HashMap<>();
+        List<DnaHash> notCached = new ArrayList<>();
+        for (DnaHash dnaHash : distinctHashes) {
+            StoredVerdict cached = verdictCache.get(dnaHash);
+            if (cached != null) {
+                known.put(dnaHash, cached);
+            } else {
+                notCached.add(dnaHash);
+            }
+        }
+        if (!notCached.isEmpty()) {
+            Map<DnaHash, StoredVerdict> stored = verdictStore.findVerdicts(notCached);
+            stored.forEach(verdictCache::put);
+            known.putAll(stored);
+        }
+        return known;
+    }
+
+    /**
+     * Guarda los veredictos nuevos en una transacción
+     * Solo se cuentan en /stats los que el store informa como insertados: los motores sin
+     * transacción (MVSTORE, MAPPED_LOG) saltean los hashes que otro request ya guardó
+     *
+     * @return veredicto vigente por hash (el guardado por otro request si se adelantó)
+     */
+    private Map<DnaHash, StoredVerdict> store(List<NewVerdict> newVerdicts) {
+        List<NewVerdict> inserted;
+        try {
+            inserted = transactionTemplate.execute(status -> {
+                List<NewVerdict> saved = verdictStore.saveAll(newVerdicts);
+                recordInserted(saved);
+                return saved;
+            });
+        } catch (RuntimeException e) {
+            log.warn("Batch insert of {} verdicts failed, retrying one by one: {}", newVerdicts.size(), e.getMessage());
+            Map<DnaHash, StoredVerdict> verdicts = new HashMap<>();
+            for (NewVerdict verdict : newVerdicts) {
+                verdicts.put(verdict.getDnaHash(), transactionTemplate.execute(status -> storeOne(verdict)));
+            }
+            return verdicts;
+        }
+
+        Map<DnaHash, StoredVerdict> verdicts = toStoredVerdicts(newVerdicts);
+        if (inserted.size() < newVerdicts.size()) {
+            Set<DnaHash> insertedHashes = new HashSet<>();
+            inserted.forEach(verdict -> insertedHashes.add(verdict.getDnaHash()));
+            for (NewVerdict verdict : newVerdicts) {
+                if (!insertedHashes.contains(verdict.getDnaHash())) {
+                    verdicts.put(verdict.getDnaHash(), resolveExisting(verdict));
+                }
+            }
+        }
+        return verdicts;
+    }
+
+    private StoredVerdict storeOne(NewVerdict verdict) {
+        if (verdictStore.insertIfAbsent(verdict.getDnaHash(), verdict.isMutant(),
+                verdict.getSequenceSize(), verdict.getPackedDna())) {
+            recordInserted(List.of(verdict));
+            return new StoredVerdict(verdict.isMutant(), verdict.getPackedDna());
+        }
+        return resolveExisting(verdict);
+    }
+
+    /**
+     * El hash ya estaba guardado: responde con el veredicto guardado salvo colisión
+     */
+    private StoredVerdict resolveExisting(NewVerdict verdict) {
+        StoredVerdict computed = new StoredVerdict(verdict.isMutant(), verdict.getPackedDna());
+        Optional<StoredVerdict> existing = verdictStore.findVerdict(verdict.getDnaHash());
+        if (existing.isEmpty() || isCollision(existing.get(), verdict.getPackedDna())) {
+            return computed;
+        }
+        verdictCache.put(verdict.getDnaHash(), existing.get());
+        return existing.get();
+    }
+
+    /**
+     * Contadores y caché de los inserts confirmados, dentro de la transacción
+     */
+    private void recordInserted(List<NewVerdict> inserted) {
+        long mutants = inserted.stream().filter(NewVerdict::isMutant).count();
+        statsCounter.recordInserts(mutants, inserted.size() - mutants);
+        recordCounter.recordInserts(inserted.size());
+        for (NewVerdict verdict : inserted) {
+            verdictCache.put(verdict.getDnaHash(), new StoredVerdict(verdict.isMutant(), verdict.getPackedDna()));
+        }
+    }
+
+    private static Map<DnaHash, StoredVerdict> toStoredVerdicts(List<NewVerdict> verdicts) {
+        Map<DnaHash, StoredVerdict> stored = new HashMap<>();
+        for (NewVerdict verdict : verdicts) {
+            stored.put(verdict.getDnaHash(), new StoredVerdict(verdict.isMutant(), verdict.getPackedDna()));
+        }
+        return stored;
+    }
+
+    /**
+     * Misma regla que MutantService: solo hay colisión si ambos tienen copia compacta
+     */
+    private static boolean isCollision(StoredVerdict knownVerdict, byte[] packedDna) {
+        return isCollision(knownVerdict.getPackedDna(), packedDna);
+    }
+
+    private static boolean isCollision(byte[] knownPacked, byte[] packedDna) {
+        return packedDna != null && knownPacked != null && !Arrays.equals(knownPacked, packedDna);
+    }
+}
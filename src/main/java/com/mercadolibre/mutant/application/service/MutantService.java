@@ -1,17 +1,19 @@
 package com.mercadolibre.mutant.application.service;
 
 import com.mercadolibre.mutant.domain.detector.MutantDetector;
-import com.mercadolibre.mutant.domain.entity.VerificationLog;
-import com.mercadolibre.mutant.domain.repository.DnaRepository;
-import com.mercadolibre.mutant.infrastructure.exception.DnaHashCalculationException;
+import com.mercadolibre.mutant.domain.hash.DnaHash;
+import com.mercadolibre.mutant.domain.hash.DnaHasher;
+import com.mercadolibre.mutant.domain.hash.DnaPacker;
+import com.mercadolibre.mutant.domain.repository.StoredVerdict;
+import com.mercadolibre.mutant.domain.repository.VerdictStore;
+import com.mercadolibre.mutant.infrastructure.cache.DnaVerdictCache;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
-import java.nio.charset.StandardCharsets;
-import java.security.MessageDigest;
-import java.security.NoSuchAlgorithmException;
 import java.util.Arrays;
 import java.util.Optional;
 
@@ -19,17 +21,39 @@ import java.util.Optional;
  * Servicio de negocio para detección de mutantes
  * 
  * OPTIMIZACIONES IMPLEMENTADAS:
- * 1. Hash SHA-256 como clave primaria (evita duplicados y permite búsqueda O(1))
- * 2. Cache automático de resultados previos
+ * 1. Hash del ADN como clave primaria (evita duplicados y permite búsqueda O(1));
+ *    el algoritmo lo define el DnaHasher y la clave puede ser hexadecimal o binaria según el VerdictStore
+ * 2. Cache automático de resultados previos: en memoria (DnaVerdictCache) y luego en BD,
+ *    donde un ADN nuevo se guarda con un único INSERT-si-no-existe (sin SELECT previo);
+ *    el SELECT va antes de la detección solo si el filtro de Bloom no descarta el hash o
+ *    si N es grande (mutant.storage.lookup-first.min-size)
  * 3. Normalización de entrada (ordenamiento) para detectar permutaciones
+ * 4. Verificación opcional de colisiones con una copia compacta del ADN (DnaPacker)
+ * 5. Single-flight por hash (VerdictCoalescer): duplicados concurrentes esperan al primero
+ * 6. Cada etapa (hash, búsqueda, guardado) se mide con DnaStageMetrics
+ * 7. Logs INFO muestreados, con el ADN truncado y armado solo si se imprime (DnaLogFormat)
  */
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class MutantService {
 
-    private final DnaRepository dnaRepository;
+    private final VerdictStore verdictStore;
     private final MutantDetector mutantDetector;
+    private final DnaVerdictCache verdictCache;
+    private final DnaHasher dnaHasher;
+    private final DnaRecordCounter recordCounter;
+    private final StatsCounter statsCounter;
+    private final VerdictCoalescer verdictCoalescer;
+    private final TransactionTemplate transactionTemplate;
+    private final DnaStageMetrics stageMetrics;
+    private final DnaLogFormat logFormat;
+
+    @Value("${mutant.hash.verify-collisions:false}")
+    private boolean verifyCollisions;
+
+    @Value("${mutant.storage.lookup-first.min-size:100}")
+    private int lookupFirstMinSize;
 
     /**
      * Analiza una secuencia de ADN y determina si es mutante
@@ -38,88 +62,227 @@ public class MutantService {
      * @param dna Secuencia de ADN a analizar
      * @return true si es mutante, false en caso contrario
      */
-    @Transactional
     public boolean isMutant(String[] dna) {
-        // Generar hash único para esta secuencia
-        String dnaHash = generateDnaHash(dna);
+        // Generar hash único para esta secuencia (fila por fila, sin concatenar)
+        long hashStart = stageMetrics.start();
+        DnaHash dnaHash = dnaHasher.hash(dna);
+        stageMetrics.recordHash(hashStart);
+        byte[] packedDna = verifyCollisions ? DnaPacker.pack(dna) : null;
+        
+        StoredVerdict cachedVerdict = findCachedVerdict(dnaHash, dna);
+        
+        if (cachedVerdict != null) {
+            if (!isCollision(cachedVerdict, packedDna)) {
+                return cachedVerdict.isMutant();
+            }
+            // Mismo hash, otro ADN: se analiza sin guardar (la clave ya está ocupada)
+            log.warn("Colisión de hash detectada - Hash: {}, se analiza sin guardar", dnaHash);
+            return mutantDetector.isMutant(dna);
+        }
         
-        // Humanizar el ADN para el log
-        String humanReadableDna = String.join(", ", dna);
+        // Un solo análisis por hash entre requests concurrentes; la transacción la abre solo el líder
+        StoredVerdict verdict = verdictCoalescer.computeOnce(dnaHash, () -> analyzeAndStore(dna, dnaHash, packedDna));
+        
+        if (isCollision(verdict, packedDna)) {
+            // El líder era otro ADN con el mismo hash
+            log.warn("Colisión de hash detectada - Hash: {}, se analiza sin guardar", dnaHash);
+            return mutantDetector.isMutant(dna);
+        }
+        return verdict.isMutant();
+    }
+
+    /**
+     * Resuelve un ADN recibido por streaming, ya validado y analizado fila por fila
+     * Comparte hash, caché y single-flight con {@link #isMutant(String[])}
+     * 
+     * @param analysis Análisis con todas las filas recibidas
+     * @return true si es mutante, false en caso contrario
+     */
+    public boolean isMutantFromStream(DnaStreamAnalysis analysis) {
+        boolean isMutant = analysis.finish();
+        DnaHash dnaHash = analysis.getDnaHash();
+        byte[] packedDna = verifyCollisions ? analysis.getPackedDna() : null;
         
-        // Buscar en caché (BD)
-        Optional<VerificationLog> existingRecord = dnaRepository.findById(dnaHash);
+        StoredVerdict cachedVerdict = findCachedVerdict(dnaHash, null);
         
-        if (existingRecord.isPresent()) {
-            log.info("✓ DNA YA ANALIZADO (en caché) - ADN: [{}], Resultado: {}", 
-                     humanReadableDna, existingRecord.get().getIsMutant() ? "MUTANTE" : "HUMANO");
-            return existingRecord.get().getIsMutant();
+        if (cachedVerdict != null) {
+            if (!isCollision(cachedVerdict, packedDna)) {
+                return cachedVerdict.isMutant();
+            }
+            log.warn("Colisión de hash detectada - Hash: {}, se analiza sin guardar", dnaHash);
+            return isMutant;
         }
         
-        // Analizar con el detector
+        StoredVerdict verdict = verdictCoalescer.computeOnce(dnaHash, () -> storeStreamed(analysis, isMutant, dnaHash, packedDna));
+        
+        if (isCollision(verdict, packedDna)) {
+            log.warn("Colisión de hash detectada - Hash: {}, se analiza sin guardar", dnaHash);
+            return isMutant;
+        }
+        return verdict.isMutant();
+    }
+
+    /**
+     * Análisis y guardado de un ADN que no está en memoria (lo ejecuta solo el líder)
+     * 
+     * @return veredicto para este ADN, con su copia compacta
+     */
+    private StoredVerdict analyzeAndStore(String[] dna, DnaHash dnaHash, byte[] packedDna) {
+        // Repetido fuera de memoria: un SELECT evita la detección y el MERGE sin efecto
+        if (dna.length >= lookupFirstMinSize || verdictStore.isLikelyStored(dnaHash)) {
+            Optional<StoredVerdict> storedVerdict = findStoredVerdict(dnaHash);
+            if (storedVerdict.isPresent()) {
+                // Con colisión, isMutant lo analiza sin guardar (la clave ya está ocupada)
+                if (!isCollision(storedVerdict.get(), packedDna)) {
+                    rememberStored(dnaHash, storedVerdict.get(), dna);
+                }
+                return storedVerdict.get();
+            }
+        }
+        
+        // Analizar con el detector (fuera de la transacción)
         boolean isMutant = mutantDetector.isMutant(dna);
         
-        // Guardar resultado
-        VerificationLog record = VerificationLog.builder()
-                .dnaHash(dnaHash)
-                .isMutant(isMutant)
-                .sequenceSize(dna.length)
-                .build();
+        // Guardar resultado: una sola sentencia, sin SELECT previo
+        if (!store(dnaHash, isMutant, dna.length, packedDna)) {
+            return resolveExisting(dnaHash, isMutant, packedDna, dna);
+        }
+        verdictCache.put(dnaHash, new StoredVerdict(isMutant, packedDna));
         
-        VerificationLog saved = dnaRepository.save(record);
+        // Total mantenido en memoria (sin COUNT(*) por request)
+        long totalRecords = recordCounter.recordInsert();
         
-        log.info("★ GUARDADO EN BD ★ - ADN: [{}] → Resultado: {} | Hash: {} | ID guardado: {}", 
-                 humanReadableDna, 
-                 isMutant ? "MUTANTE ✓" : "HUMANO ✗", 
-                 dnaHash.substring(0, 16) + "...",
-                 saved.getDnaHash() != null ? "OK" : "ERROR");
+        if (log.isInfoEnabled() && logFormat.sampled()) {
+            log.info("GUARDADO EN BD - ADN: {} -> Resultado: {} | Hash: {} | Total de registros: {}", 
+                     logFormat.dna(dna, dnaHash), 
+                     isMutant ? "MUTANTE" : "HUMANO", 
+                     dnaHash, 
+                     totalRecords);
+        }
         
-        // Verificar que se guardó
-        long totalRecords = dnaRepository.count();
-        log.info("→ Total de registros en BD: {}", totalRecords);
+        return new StoredVerdict(isMutant, packedDna);
+    }
+
+    private StoredVerdict storeStreamed(DnaStreamAnalysis analysis, boolean isMutant, DnaHash dnaHash, byte[] packedDna) {
+        if (!store(dnaHash, isMutant, analysis.getSize(), packedDna)) {
+            return resolveExisting(dnaHash, isMutant, packedDna, null);
+        }
+        verdictCache.put(dnaHash, new StoredVerdict(isMutant, packedDna));
+        recordCounter.recordInsert();
         
-        return isMutant;
+        if (log.isInfoEnabled() && logFormat.sampled()) {
+            log.info("GUARDADO EN BD (stream) - N: {} -> Resultado: {} | Hash: {}", 
+                     analysis.getSize(), 
+                     isMutant ? "MUTANTE" : "HUMANO", 
+                     dnaHash);
+        }
+        
+        return new StoredVerdict(isMutant, packedDna);
     }
 
     /**
-     * Genera un hash SHA-256 de la secuencia de ADN
-     * El hash se utiliza como identificador único para evitar análisis duplicados
+     * Inserta el registro y suma el contador de /stats en una misma transacción
      * 
-     * Performance: SHA-256 es O(N) y suficientemente rápido para nuestro caso de uso
+     * Entre instancias el single-flight no aplica: dos MERGE concurrentes pueden ver el hash
+     * ausente y el segundo viola la clave primaria al esperar el commit del primero. Esa
+     * transacción ya se revirtió, así que se informa como hash existente y resolveExisting
+     * lee el registro fuera de ella.
      * 
-     * @param dna Secuencia de ADN
-     * @return Hash hexadecimal de 64 caracteres
+     * @return true si se insertó, false si el hash ya estaba guardado
      */
-    private String generateDnaHash(String[] dna) {
+    private boolean store(DnaHash dnaHash, boolean isMutant, int sequenceSize, byte[] packedDna) {
         try {
-            MessageDigest digest = MessageDigest.getInstance("SHA-256");
-            
-            // Concatenar todas las secuencias con separador
-            String dnaString = String.join("|", dna);
-            
-            byte[] hashBytes = digest.digest(dnaString.getBytes(StandardCharsets.UTF_8));
-            
-            // Convertir a hexadecimal
-            return bytesToHex(hashBytes);
-            
-        } catch (NoSuchAlgorithmException e) {
-            log.error("Error generating DNA hash", e);
-            throw new DnaHashCalculationException("Error calculando hash de ADN", e);
+            return Boolean.TRUE.equals(transactionTemplate.execute(status -> {
+                if (!insertIfAbsent(dnaHash, isMutant, sequenceSize, packedDna)) {
+                    return false;
+                }
+                statsCounter.recordInsert(isMutant);
+                return true;
+            }));
+        } catch (DataIntegrityViolationException e) {
+            log.debug("Insert concurrente del mismo hash en otra transacción - Hash: {}", dnaHash);
+            return false;
         }
     }
 
+    private boolean insertIfAbsent(DnaHash dnaHash, boolean isMutant, int sequenceSize, byte[] packedDna) {
+        long start = stageMetrics.start();
+        boolean inserted = verdictStore.insertIfAbsent(dnaHash, isMutant, sequenceSize, packedDna);
+        stageMetrics.recordSave(start, inserted);
+        return inserted;
+    }
+
     /**
-     * Convierte array de bytes a string hexadecimal
-     * Optimizado para velocidad
+     * Busca un veredicto previo en memoria (sin round trip a la BD)
+     * 
+     * @param dna filas para el log, o null si solo se conoce el hash (streaming)
+     * @return veredicto cacheado o null si no está en memoria
      */
-    private String bytesToHex(byte[] bytes) {
-        StringBuilder hexString = new StringBuilder(2 * bytes.length);
-        for (byte b : bytes) {
-            String hex = Integer.toHexString(0xff & b);
-            if (hex.length() == 1) {
-                hexString.append('0');
-            }
-            hexString.append(hex);
+    private StoredVerdict findCachedVerdict(DnaHash dnaHash, String[] dna) {
+        long start = stageMetrics.start();
+        StoredVerdict cachedVerdict = verdictCache.get(dnaHash);
+        stageMetrics.recordCacheLookup(start, cachedVerdict != null);
+        
+        if (cachedVerdict != null && log.isInfoEnabled() && logFormat.sampled()) {
+            log.info("DNA YA ANALIZADO (en memoria) - ADN: {}, Resultado: {}", 
+                     dnaForLog(dna, dnaHash), cachedVerdict.isMutant() ? "MUTANTE" : "HUMANO");
+        }
+        
+        return cachedVerdict;
+    }
+
+    /**
+     * El insert no se hizo porque el hash ya estaba guardado (ADN repetido que no está en
+     * memoria, o request concurrente con el mismo ADN): responde con el veredicto guardado,
+     * lo cachea y no lo cuenta en /stats
+     * 
+     * @param computedVerdict veredicto calculado, usado si hay colisión o el registro ya no está
+     */
+    private StoredVerdict resolveExisting(DnaHash dnaHash, boolean computedVerdict, byte[] packedDna, String[] dna) {
+        Optional<StoredVerdict> storedVerdict = findStoredVerdict(dnaHash);
+        
+        if (storedVerdict.isEmpty()) {
+            return new StoredVerdict(computedVerdict, packedDna);
+        }
+        
+        if (isCollision(storedVerdict.get(), packedDna)) {
+            log.warn("Colisión de hash detectada - Hash: {}, se analiza sin guardar", dnaHash);
+            return new StoredVerdict(computedVerdict, packedDna);
         }
-        return hexString.toString();
+        
+        rememberStored(dnaHash, storedVerdict.get(), dna);
+        return storedVerdict.get();
+    }
+
+    private Optional<StoredVerdict> findStoredVerdict(DnaHash dnaHash) {
+        long start = stageMetrics.start();
+        Optional<StoredVerdict> storedVerdict = verdictStore.findVerdict(dnaHash);
+        stageMetrics.recordStoreLookup(start, storedVerdict.isPresent());
+        return storedVerdict;
+    }
+
+    /**
+     * Cachea un veredicto leído de la BD (ya descartada la colisión)
+     */
+    private void rememberStored(DnaHash dnaHash, StoredVerdict storedVerdict, String[] dna) {
+        if (log.isInfoEnabled() && logFormat.sampled()) {
+            log.info("DNA YA ANALIZADO (en BD) - ADN: {}, Resultado: {}", 
+                     dnaForLog(dna, dnaHash), storedVerdict.isMutant() ? "MUTANTE" : "HUMANO");
+        }
+        verdictCache.put(dnaHash, storedVerdict);
+    }
+
+    private Object dnaForLog(String[] dna, DnaHash dnaHash) {
+        return dna != null ? logFormat.dna(dna, dnaHash) : dnaHash;
+    }
+
+    /**
+     * Hay colisión si ambos lados tienen la copia compacta y no coinciden
+     * (registros guardados sin verificación se aceptan por hash)
+     */
+    private boolean isCollision(StoredVerdict knownVerdict, byte[] packedDna) {
+        return packedDna != null
+                && knownVerdict.getPackedDna() != null
+                && !Arrays.equals(knownVerdict.getPackedDna(), packedDna);
     }
 }
@@ -0,0 +1,35 @@
+package com.mercadolibre.mutant.application.service;
+
+/**
+ * Contadores que alimentan GET /stats sin contar la tabla de registros
+ */
+public interface StatsCounter {
+
+    /**
+     * Registra un ADN nuevo; se llama dentro de la transacción del insert
+     */
+    void recordInsert(boolean isMutant);
+
+    /**
+     * Registra varios ADN nuevos insertados en una misma transacción (batch)
+     * Con valores negativos descuenta veredictos contados que no llegaron a insertarse
+     * (escritura diferida); la implementación por defecto solo admite positivos.
+     */
+    default void recordInserts(long mutants, long humans) {
+        for (long i = 0; i < mutants; i++) {
+            recordInsert(true);
+        }
+        for (long i = 0; i < humans; i++) {
+            recordInsert(false);
+        }
+    }
+
+    StatsSnapshot snapshot();
+
+    /**
+     * Sincroniza el estado en memoria con dna_stats (persiste pendientes y relee la fila).
+     * Sin efecto si los contadores se escriben directamente en la BD.
+     */
+    default void sync() {
+    }
+}
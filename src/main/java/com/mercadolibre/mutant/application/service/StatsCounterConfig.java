@@ -0,0 +1,32 @@
+package com.mercadolibre.mutant.application.service;
+
+import com.mercadolibre.mutant.domain.repository.DnaStatsRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+
+/**
+ * Configuración de los contadores de /stats
+ * La estrategia se elige con {@code mutant.stats.mode} (por defecto MATERIALIZED)
+ */
+@Configuration
+@Slf4j
+public class StatsCounterConfig {
+
+    @Bean
+    public StatsCounter statsCounter(
+            @Value("${mutant.stats.mode:MATERIALIZED}") StatsMode mode,
+            @Value("${mutant.stats.max-staleness:PT1S}") Duration maxStaleness,
+            DnaStatsRepository dnaStatsRepository,
+            TransactionTemplate transactionTemplate) {
+        log.info("Stats counter mode: {}", mode);
+        return switch (mode) {
+            case MATERIALIZED -> new MaterializedStatsCounter(dnaStatsRepository);
+            case STRIPED -> new StripedStatsCounter(dnaStatsRepository, transactionTemplate, maxStaleness);
+        };
+    }
+}
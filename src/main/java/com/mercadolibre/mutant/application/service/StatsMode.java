@@ -0,0 +1,11 @@
+package com.mercadolibre.mutant.application.service;
+
+/**
+ * Estrategia de los contadores de /stats ({@code mutant.stats.mode})
+ */
+public enum StatsMode {
+    /** UPDATE de dna_stats en la transacción de cada insert */
+    MATERIALIZED,
+    /** LongAdder en memoria con volcado periódico a dna_stats */
+    STRIPED
+}
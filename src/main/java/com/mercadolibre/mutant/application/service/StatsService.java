@@ -1,7 +1,6 @@
 package com.mercadolibre.mutant.application.service;
 
 import com.mercadolibre.mutant.application.dto.StatsResponse;
-import com.mercadolibre.mutant.domain.repository.DnaRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -12,27 +11,31 @@ import java.math.RoundingMode;
 
 /**
  * Servicio para obtener estadísticas de análisis de ADN
- * Utiliza queries optimizadas con índices para alto rendimiento
+ * Lee contadores mantenidos en cada insert (StatsCounter) en lugar de contar la tabla
  */
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class StatsService {
 
-    private final DnaRepository dnaRepository;
+    private final StatsCounter statsCounter;
+    private final DnaStageMetrics stageMetrics;
 
     /**
      * Obtiene las estadísticas globales de verificaciones de ADN
      * 
-     * Performance: Las queries están optimizadas con índices en is_mutant
-     * Complejidad: O(1) gracias a los índices de BD
+     * Performance: una lectura por clave primaria de dna_stats
+     * Complejidad: O(1), independiente de la cantidad de registros
      * 
      * @return Estadísticas con contadores y ratio
      */
     @Transactional(readOnly = true)
     public StatsResponse getStats() {
-        long mutantCount = dnaRepository.countMutants();
-        long humanCount = dnaRepository.countHumans();
+        long start = stageMetrics.start();
+        StatsSnapshot snapshot = statsCounter.snapshot();
+        stageMetrics.recordStatsRead(start);
+        long mutantCount = snapshot.getMutantCount();
+        long humanCount = snapshot.getHumanCount();
         
         double ratio = calculateRatio(mutantCount, humanCount);
         
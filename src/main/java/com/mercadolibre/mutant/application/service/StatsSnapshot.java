@@ -0,0 +1,12 @@
+package com.mercadolibre.mutant.application.service;
+
+import lombok.Value;
+
+/**
+ * Contadores de ADN mutante y humano en un instante dado
+ */
+@Value
+public class StatsSnapshot {
+    long mutantCount;
+    long humanCount;
+}
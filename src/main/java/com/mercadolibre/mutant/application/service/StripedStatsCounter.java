@@ -0,0 +1,191 @@
+package com.mercadolibre.mutant.application.service;
+
+import com.mercadolibre.mutant.domain.entity.DnaStats;
+import com.mercadolibre.mutant.domain.repository.DnaStatsRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Contadores en memoria con LongAdder (striped, sin locks) y volcado periódico a dna_stats
+ *
+ * Performance Optimization: el insert no toca la fila única de dna_stats, que bajo alta
+ * concurrencia se vuelve un punto de contención. Los incrementos se acumulan en memoria
+ * y se vuelcan en un único UPDATE cada {@code mutant.stats.flush-interval} y al apagar.
+ *
+ * GET /stats se sirve desde memoria: último valor leído de dna_stats (releído como máximo
+ * cada {@code mutant.stats.max-staleness}, para ver lo volcado por otras instancias)
+ * más los incrementos locales aún no volcados.
+ */
+@Slf4j
+public class StripedStatsCounter implements StatsCounter {
+
+    private static final StatsSnapshot ZERO = new StatsSnapshot(0, 0);
+
+    private final DnaStatsRepository dnaStatsRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final long maxStalenessNanos;
+
+    private final LongAdder pendingMutants = new LongAdder();
+    private final LongAdder pendingHumans = new LongAdder();
+
+    // Serializa volcados y relecturas de dna_stats. ReentrantLock y no synchronized: se retiene
+    // durante el round trip a la BD y no debe fijar el carrier de un virtual thread
+    private final ReentrantLock syncLock = new ReentrantLock();
+
+    // Protege persisted/inFlight: se publican juntos para que snapshot() no vea estados intermedios
+    private final ReentrantLock stateLock = new ReentrantLock();
+    private StatsSnapshot persisted = ZERO;
+    private StatsSnapshot inFlight = ZERO;
+    private volatile long persistedAt;
+
+    public StripedStatsCounter(DnaStatsRepository dnaStatsRepository,
+                               TransactionTemplate transactionTemplate,
+                               Duration maxStaleness) {
+        this.dnaStatsRepository = dnaStatsRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.maxStalenessNanos = maxStaleness.toNanos();
+    }
+
+    /**
+     * Restaura los contadores persistidos al arrancar
+     */
+    @PostConstruct
+    void restore() {
+        refresh();
+        log.info("Striped stats counter restored - Mutants: {}, Humans: {}",
+                 persisted.getMutantCount(), persisted.getHumanCount());
+    }
+
+    /**
+     * Solo cuenta inserts confirmados: dentro de una transacción se suma en el commit
+     */
+    @Override
+    public void recordInsert(boolean isMutant) {
+        LongAdder adder = isMutant ? pendingMutants : pendingHumans;
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    adder.increment();
+                }
+            });
+        } else {
+            adder.increment();
+        }
+    }
+
+    @Override
+    public void recordInserts(long mutants, long humans) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    pendingMutants.add(mutants);
+                    pendingHumans.add(humans);
+                }
+            });
+        } else {
+            pendingMutants.add(mutants);
+            pendingHumans.add(humans);
+        }
+    }
+
+    @Override
+    public StatsSnapshot snapshot() {
+        if (System.nanoTime() - persistedAt > maxStalenessNanos) {
+            refresh();
+        }
+        stateLock.lock();
+        try {
+            return new StatsSnapshot(
+                    persisted.getMutantCount() + inFlight.getMutantCount() + pendingMutants.sum(),
+                    persisted.getHumanCount() + inFlight.getHumanCount() + pendingHumans.sum());
+        } finally {
+            stateLock.unlock();
+        }
+    }
+
+    @Override
+    public void sync() {
+        flush();
+    }
+
+    /**
+     * Vuelca los incrementos pendientes en un único UPDATE y relee la fila
+     * Si la BD falla, los incrementos vuelven a quedar pendientes para el próximo volcado
+     */
+    @Scheduled(fixedDelayString = "${mutant.stats.flush-interval:PT5S}")
+    public void flush() {
+        syncLock.lock();
+        try {
+            StatsSnapshot batch;
+            stateLock.lock();
+            try {
+                batch = new StatsSnapshot(pendingMutants.sumThenReset(), pendingHumans.sumThenReset());
+                inFlight = batch;
+            } finally {
+                stateLock.unlock();
+            }
+
+            try {
+                DnaStats row = transactionTemplate.execute(status -> {
+                    // Negativos: descuentos de la escritura diferida
+                    if (batch.getMutantCount() != 0 || batch.getHumanCount() != 0) {
+                        dnaStatsRepository.increment(DnaStats.SINGLETON_ID,
+                                batch.getMutantCount(), batch.getHumanCount());
+                    }
+                    return dnaStatsRepository.findById(DnaStats.SINGLETON_ID).orElse(null);
+                });
+                publish(row);
+            } catch (RuntimeException e) {
+                stateLock.lock();
+                try {
+                    pendingMutants.add(batch.getMutantCount());
+                    pendingHumans.add(batch.getHumanCount());
+                    inFlight = ZERO;
+                } finally {
+                    stateLock.unlock();
+                }
+                log.error("Error flushing stats counters, {} mutants and {} humans kept pending",
+                          batch.getMutantCount(), batch.getHumanCount(), e);
+            }
+        } finally {
+            syncLock.unlock();
+        }
+    }
+
+    @PreDestroy
+    void flushOnShutdown() {
+        flush();
+        log.info("Striped stats counter flushed on shutdown");
+    }
+
+    private void refresh() {
+        syncLock.lock();
+        try {
+            publish(dnaStatsRepository.findById(DnaStats.SINGLETON_ID).orElse(null));
+        } finally {
+            syncLock.unlock();
+        }
+    }
+
+    private void publish(DnaStats row) {
+        stateLock.lock();
+        try {
+            persisted = row == null ? ZERO : new StatsSnapshot(row.getMutantCount(), row.getHumanCount());
+            inFlight = ZERO;
+            persistedAt = System.nanoTime();
+        } finally {
+            stateLock.unlock();
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package com.mercadolibre.mutant.application.service;
+
+import com.mercadolibre.mutant.domain.hash.DnaHash;
+import com.mercadolibre.mutant.domain.repository.StoredVerdict;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Single-flight por hash de ADN: requests concurrentes con el mismo ADN comparten un cálculo
+ *
+ * El primero (líder) analiza y guarda; los duplicados que llegan mientras tanto esperan su
+ * resultado en lugar de repetir detector, INSERT y transacción. Al terminar el líder, la
+ * clave se libera y los siguientes requests resuelven desde la caché en memoria.
+ *
+ * - Métrica "dna.requests.coalesced": requests resueltos esperando a otro
+ * - Métrica "dna.requests.inflight": hashes que se están calculando ahora
+ */
+@Component
+public class VerdictCoalescer {
+
+    static final String COALESCED_METRIC = "dna.requests.coalesced";
+    static final String IN_FLIGHT_METRIC = "dna.requests.inflight";
+
+    private final Map<DnaHash, CompletableFuture<StoredVerdict>> inFlight = new ConcurrentHashMap<>();
+    private final Counter coalesced;
+
+    public VerdictCoalescer(MeterRegistry meterRegistry) {
+        this.coalesced = Counter.builder(COALESCED_METRIC)
+                .description("Requests resueltos con el cálculo en curso de otro request con el mismo ADN")
+                .register(meterRegistry);
+        Gauge.builder(IN_FLIGHT_METRIC, inFlight, Map::size)
+                .description("Hashes de ADN que se están analizando")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Ejecuta el cálculo una sola vez por hash entre requests concurrentes
+     * Si el líder falla, los que esperaban reciben la misma excepción
+     *
+     * @param compute análisis y guardado, ejecutado solo por el líder
+     */
+    public StoredVerdict computeOnce(DnaHash dnaHash, Supplier<StoredVerdict> compute) {
+        CompletableFuture<StoredVerdict> own = new CompletableFuture<>();
+        CompletableFuture<StoredVerdict> leader = inFlight.putIfAbsent(dnaHash, own);
+
+        if (leader != null) {
+            coalesced.increment();
+            return await(leader);
+        }
+
+        try {
+            StoredVerdict verdict = compute.get();
+            own.complete(verdict);
+            return verdict;
+        } catch (RuntimeException | Error e) {
+            own.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(dnaHash, own);
+        }
+    }
+
+    public long coalescedCount() {
+        return (long) coalesced.count();
+    }
+
+    private static StoredVerdict await(CompletableFuture<StoredVerdict> leader) {
+        try {
+            return leader.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw e;
+        }
+    }
+}
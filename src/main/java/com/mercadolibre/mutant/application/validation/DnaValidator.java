@@ -1,18 +1,56 @@
 package com.mercadolibre.mutant.application.validation;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
 import jakarta.validation.ConstraintValidator;
 import jakarta.validation.ConstraintValidatorContext;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.util.concurrent.TimeUnit;
 
 /**
  * Validador customizado para secuencias de ADN
  * Implementa validaciones a nivel de entrada antes de procesar el ADN
+ * Cada validación se mide con el timer dna.validation (result=valid|invalid)
  */
 public class DnaValidator implements ConstraintValidator<ValidDna, String[]> {
 
     // El patrón RegEx ya no es necesario
 
+    private final Timer validTimer;
+    private final Timer invalidTimer;
+
+    /**
+     * Fuera de Spring (tests, benchmarks) registra en el registro global de Micrometer
+     */
+    public DnaValidator() {
+        this(Metrics.globalRegistry);
+    }
+
+    /**
+     * En contextos sin MeterRegistry (por ejemplo @WebMvcTest) cae en el registro global
+     */
+    @Autowired
+    public DnaValidator(ObjectProvider<MeterRegistry> meterRegistry) {
+        this(meterRegistry.getIfAvailable(() -> Metrics.globalRegistry));
+    }
+
+    public DnaValidator(MeterRegistry meterRegistry) {
+        this.validTimer = validationTimer("valid", meterRegistry);
+        this.invalidTimer = validationTimer("invalid", meterRegistry);
+    }
+
     @Override
     public boolean isValid(String[] dna, ConstraintValidatorContext context) {
+        long start = System.nanoTime();
+        boolean valid = validate(dna, context);
+        (valid ? validTimer : invalidTimer).record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        return valid;
+    }
+
+    private boolean validate(String[] dna, ConstraintValidatorContext context) {
         // Null check
         if (dna == null || dna.length == 0) {
             context.disableDefaultConstraintViolation();
@@ -67,4 +105,12 @@ public class DnaValidator implements ConstraintValidator<ValidDna, String[]> {
 
         return true;
     }
-}
\ No newline at end of file
+
+    private static Timer validationTimer(String result, MeterRegistry meterRegistry) {
+        return Timer.builder("dna.validation")
+                .description("Tiempo de validación del ADN")
+                .tag("result", result)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+}
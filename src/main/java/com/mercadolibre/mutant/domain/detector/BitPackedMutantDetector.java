@@ -0,0 +1,225 @@
+package com.mercadolibre.mutant.domain.detector;
+
+/**
+ * Motor de detección sobre una matriz empaquetada a 2 bits por base
+ *
+ * Cada fila se codifica como long[] (32 bases por palabra: A=00, C=01, G=10, T=11),
+ * lo que reduce 8x la memoria frente a char[][] (16 bits por base).
+ *
+ * OPTIMIZACIONES CLAVE:
+ * 1. Comparación de 32 celdas por operación: XOR entre la fila y su versión desplazada.
+ * 2. Las cuatro direcciones se reducen a "cuatro palabras alineadas con la misma base",
+ *    desplazando las filas vecinas 1, 2 y 3 celdas.
+ * 3. Conteo con Long.bitCount y Early Termination igual que el motor char[][].
+ */
+public class BitPackedMutantDetector extends MutantDetector {
+
+    private static final int BASES_PER_WORD = Long.SIZE / 2;
+
+    /** Bit bajo de cada celda de 2 bits */
+    private static final long LOW_BITS = 0x5555555555555555L;
+
+    /**
+     * Detecta si una secuencia de ADN pertenece a un mutante
+     */
+    @Override
+    public boolean isMutant(String[] dna) {
+        validateDna(dna);
+
+        final int n = dna.length;
+        if (n < SEQUENCE_LENGTH) {
+            return false;
+        }
+
+        final int words = (n + BASES_PER_WORD - 1) / BASES_PER_WORD;
+        final long[][] matrix = pack(dna, n, words);
+
+        return findMutantSequences(matrix, n, words) >= MIN_SEQUENCES_FOR_MUTANT;
+    }
+
+    /**
+     * Este motor no informa la dirección en que terminó la búsqueda
+     */
+    @Override
+    public Detection detect(String[] dna) {
+        return Detection.withoutExit(isMutant(dna));
+    }
+
+    /**
+     * Empaqueta String[] en long[][] a 2 bits por base.
+     * Las celdas sobrantes de la última palabra quedan en 0 y se excluyen con máscaras.
+     */
+    private long[][] pack(String[] dna, int n, int words) {
+        long[][] matrix = new long[n][words];
+        for (int i = 0; i < n; i++) {
+            String sequence = dna[i];
+            long[] row = matrix[i];
+            for (int j = 0; j < n; j++) {
+                row[j >>> 5] |= encode(sequence.charAt(j)) << ((j & (BASES_PER_WORD - 1)) << 1);
+            }
+        }
+        return matrix;
+    }
+
+    /**
+     * Codificación de 2 bits. La entrada ya fue validada (solo A, T, C, G).
+     */
+    private static long encode(char base) {
+        return switch (base) {
+            case 'A' -> 0L;
+            case 'C' -> 1L;
+            case 'G' -> 2L;
+            default -> 3L;
+        };
+    }
+
+    // =========================================================
+    // ↓↓↓ LÓGICA DE DETECCIÓN EMPAQUETADA ↓↓↓
+    // =========================================================
+
+    private int findMutantSequences(long[][] matrix, int n, int words) {
+        // Máscaras de celdas donde puede comenzar una secuencia válida
+        final long[] allCells = cellMask(0, n, words);
+        final long[] startsLeft = cellMask(0, n - SEQUENCE_LENGTH + 1, words);
+        final long[] startsRight = cellMask(SEQUENCE_LENGTH - 1, n, words);
+
+        final long[] s1 = new long[words];
+        final long[] s2 = new long[words];
+        final long[] s3 = new long[words];
+
+        int sequencesFound = 0;
+
+        // 1. Horizontal
+        sequencesFound += checkHorizontal(matrix, n, startsLeft, s1, s2, s3);
+        if (sequencesFound >= MIN_SEQUENCES_FOR_MUTANT) return sequencesFound;
+
+        // 2. Vertical
+        sequencesFound += checkVertical(matrix, n, allCells);
+        if (sequencesFound >= MIN_SEQUENCES_FOR_MUTANT) return sequencesFound;
+
+        // 3. Diagonal Principal (↘)
+        sequencesFound += checkDiagonalPrincipal(matrix, n, startsLeft, s1, s2, s3);
+        if (sequencesFound >= MIN_SEQUENCES_FOR_MUTANT) return sequencesFound;
+
+        // 4. Diagonal Secundaria (↙)
+        sequencesFound += checkDiagonalSecundaria(matrix, n, startsRight, s1, s2, s3);
+
+        return sequencesFound;
+    }
+
+    /**
+     * Chequea secuencias horizontales (→): fila vs. ella misma desplazada 1, 2 y 3 celdas
+     */
+    private int checkHorizontal(long[][] matrix, int n, long[] valid, long[] s1, long[] s2, long[] s3) {
+        int count = 0;
+        for (int i = 0; i < n; i++) {
+            long[] row = matrix[i];
+            shiftTowardsStart(row, s1, 1);
+            shiftTowardsStart(row, s2, 2);
+            shiftTowardsStart(row, s3, 3);
+
+            count += countRuns(row, s1, s2, s3, valid);
+            if (count >= MIN_SEQUENCES_FOR_MUTANT) return count;
+        }
+        return count;
+    }
+
+    /**
+     * Chequea secuencias verticales (↓): cuatro filas consecutivas ya están alineadas
+     */
+    private int checkVertical(long[][] matrix, int n, long[] valid) {
+        int count = 0;
+        for (int i = 0; i <= n - SEQUENCE_LENGTH; i++) {
+            count += countRuns(matrix[i], matrix[i + 1], matrix[i + 2], matrix[i + 3], valid);
+            if (count >= MIN_SEQUENCES_FOR_MUTANT) return count;
+        }
+        return count;
+    }
+
+    /**
+     * Chequea secuencias en diagonal principal (↘): la fila i+k se desplaza k celdas hacia el inicio
+     */
+    private int checkDiagonalPrincipal(long[][] matrix, int n, long[] valid, long[] s1, long[] s2, long[] s3) {
+        int count = 0;
+        for (int i = 0; i <= n - SEQUENCE_LENGTH; i++) {
+            shiftTowardsStart(matrix[i + 1], s1, 1);
+            shiftTowardsStart(matrix[i + 2], s2, 2);
+            shiftTowardsStart(matrix[i + 3], s3, 3);
+
+            count += countRuns(matrix[i], s1, s2, s3, valid);
+            if (count >= MIN_SEQUENCES_FOR_MUTANT) return count;
+        }
+        return count;
+    }
+
+    /**
+     * Chequea secuencias en diagonal secundaria (↙): la fila i+k se desplaza k celdas hacia el final
+     */
+    private int checkDiagonalSecundaria(long[][] matrix, int n, long[] valid, long[] s1, long[] s2, long[] s3) {
+        int count = 0;
+        for (int i = 0; i <= n - SEQUENCE_LENGTH; i++) {
+            shiftTowardsEnd(matrix[i + 1], s1, 1);
+            shiftTowardsEnd(matrix[i + 2], s2, 2);
+            shiftTowardsEnd(matrix[i + 3], s3, 3);
+
+            count += countRuns(matrix[i], s1, s2, s3, valid);
+            if (count >= MIN_SEQUENCES_FOR_MUTANT) return count;
+        }
+        return count;
+    }
+
+    /**
+     * Cuenta las celdas válidas donde las cuatro palabras alineadas contienen la misma base
+     */
+    private static int countRuns(long[] a, long[] b, long[] c, long[] d, long[] valid) {
+        int count = 0;
+        for (int w = 0; w < a.length; w++) {
+            long aw = a[w];
+            long matches = equalCells(aw, b[w]) & equalCells(aw, c[w]) & equalCells(aw, d[w]) & valid[w];
+            count += Long.bitCount(matches);
+        }
+        return count;
+    }
+
+    /**
+     * Devuelve el bit bajo de cada celda encendido si ambas palabras tienen la misma base en esa celda
+     */
+    private static long equalCells(long x, long y) {
+        long diff = x ^ y;
+        return ~(diff | (diff >>> 1)) & LOW_BITS;
+    }
+
+    /**
+     * out[c] = in[c + cells]
+     */
+    private static void shiftTowardsStart(long[] in, long[] out, int cells) {
+        final int bits = cells << 1;
+        final int last = in.length - 1;
+        for (int w = 0; w < last; w++) {
+            out[w] = (in[w] >>> bits) | (in[w + 1] << (Long.SIZE - bits));
+        }
+        out[last] = in[last] >>> bits;
+    }
+
+    /**
+     * out[c] = in[c - cells]
+     */
+    private static void shiftTowardsEnd(long[] in, long[] out, int cells) {
+        final int bits = cells << 1;
+        out[0] = in[0] << bits;
+        for (int w = 1; w < in.length; w++) {
+            out[w] = (in[w] << bits) | (in[w - 1] >>> (Long.SIZE - bits));
+        }
+    }
+
+    /**
+     * Máscara con el bit bajo encendido para las celdas en [from, to)
+     */
+    private static long[] cellMask(int from, int to, int words) {
+        long[] mask = new long[words];
+        for (int c = from; c < to; c++) {
+            mask[c >>> 5] |= 1L << ((c & (BASES_PER_WORD - 1)) << 1);
+        }
+        return mask;
+    }
+}
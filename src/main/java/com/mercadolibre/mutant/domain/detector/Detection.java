@@ -0,0 +1,19 @@
+package com.mercadolibre.mutant.domain.detector;
+
+import lombok.Value;
+
+/**
+ * Resultado del detector junto con la dirección en que terminó la búsqueda
+ */
+@Value
+public class Detection {
+    boolean mutant;
+    SearchExit exit;
+
+    /**
+     * Para motores que no informan la dirección
+     */
+    public static Detection withoutExit(boolean mutant) {
+        return new Detection(mutant, SearchExit.UNKNOWN);
+    }
+}
@@ -0,0 +1,23 @@
+package com.mercadolibre.mutant.domain.detector;
+
+/**
+ * Motores de detección disponibles, seleccionables con la propiedad
+ * {@code mutant.detector.engine}
+ */
+public enum DetectorEngine {
+
+    /** Motor original sobre char[][] */
+    CHAR_MATRIX,
+
+    /** Matriz empaquetada a 2 bits por base con comparación bit a bit */
+    BIT_PACKED,
+
+    /** Validación y detección en una sola pasada fila por fila, con memoria O(N) */
+    FUSED,
+
+    /** Bandas de filas en paralelo (fork-join) a partir de mutant.detector.parallel.threshold */
+    PARALLEL,
+
+    /** SIMD con la Vector API; requiere --add-modules jdk.incubator.vector */
+    VECTOR
+}
@@ -0,0 +1,146 @@
+package com.mercadolibre.mutant.domain.detector;
+
+import java.nio.CharBuffer;
+
+/**
+ * Detector incremental que recibe el ADN de a una fila por vez
+ *
+ * Mantiene solo estado O(N): la fila anterior y las rachas (run-length) vertical,
+ * diagonal (↘) y diagonal secundaria (↙) que terminan en ella. No necesita la matriz
+ * completa, por lo que sirve tanto para String[] como para filas leídas de un stream.
+ *
+ * Cada celda con racha >= 4 es el final de exactamente una secuencia, por lo que el
+ * conteo coincide con el de las ventanas del motor char[][].
+ *
+ * Una instancia analiza una única matriz y no es thread-safe.
+ */
+public class DnaRowScanner {
+
+    private static final int SEQUENCE_LENGTH = MutantDetector.SEQUENCE_LENGTH;
+    private static final int MIN_SEQUENCES_FOR_MUTANT = MutantDetector.MIN_SEQUENCES_FOR_MUTANT;
+
+    private final int n;
+
+    // Estado O(N): base de la fila anterior y rachas que terminan en ella
+    private final char[] previous;
+    private final byte[] vertical;
+    private final byte[] diagonal;
+    private final byte[] antiDiagonal;
+
+    private int rows;
+    private int sequencesFound;
+
+    /**
+     * @param n tamaño esperado de la matriz (filas y columnas)
+     */
+    public DnaRowScanner(int n) {
+        if (n <= 0) {
+            throw new IllegalArgumentException("DNA sequence cannot be null or empty");
+        }
+        this.n = n;
+        this.previous = new char[n];
+        this.vertical = new byte[n];
+        this.diagonal = new byte[n];
+        this.antiDiagonal = new byte[n];
+    }
+
+    /**
+     * Procesa la siguiente fila
+     */
+    public void acceptRow(CharSequence sequence) {
+        if (sequence == null || sequence.length() != n || rows >= n) {
+            throw new IllegalArgumentException("DNA must be an NxN matrix");
+        }
+        rows++;
+
+        // Early Termination: las filas restantes solo se validan
+        if (isMutant()) {
+            for (int c = 0; c < n; c++) {
+                checkBase(sequence.charAt(c));
+            }
+            return;
+        }
+
+        char left = 0;
+        int horizontal = 0;
+
+        // Valores de la fila anterior en la columna c-1, antes de sobrescribirlos
+        char upLeft = 0;
+        int diagonalUpLeft = 0;
+
+        for (int c = 0; c < n; c++) {
+            char base = sequence.charAt(c);
+            checkBase(base);
+
+            // 1. Horizontal (→)
+            horizontal = base == left ? horizontal + 1 : 1;
+            left = base;
+
+            // 2. Vertical (↓)
+            char up = previous[c];
+            int verticalRun = base == up ? vertical[c] + 1 : 1;
+
+            // 3. Diagonal Principal (↘): continúa desde (i-1, c-1)
+            int diagonalRun = base == upLeft ? diagonalUpLeft + 1 : 1;
+
+            // 4. Diagonal Secundaria (↙): continúa desde (i-1, c+1), aún sin sobrescribir
+            int antiDiagonalRun = c + 1 < n && base == previous[c + 1] ? antiDiagonal[c + 1] + 1 : 1;
+
+            upLeft = up;
+            diagonalUpLeft = diagonal[c];
+
+            previous[c] = base;
+            vertical[c] = cap(verticalRun);
+            diagonal[c] = cap(diagonalRun);
+            antiDiagonal[c] = cap(antiDiagonalRun);
+
+            if (horizontal >= SEQUENCE_LENGTH) sequencesFound++;
+            if (verticalRun >= SEQUENCE_LENGTH) sequencesFound++;
+            if (diagonalRun >= SEQUENCE_LENGTH) sequencesFound++;
+            if (antiDiagonalRun >= SEQUENCE_LENGTH) sequencesFound++;
+        }
+    }
+
+    /**
+     * Procesa la siguiente fila a partir de un buffer (p. ej. el de un parser de streaming)
+     */
+    public void acceptRow(char[] buffer, int offset, int length) {
+        acceptRow(CharBuffer.wrap(buffer, offset, length));
+    }
+
+    /**
+     * Verifica que se hayan recibido exactamente N filas
+     *
+     * @return true si es mutante
+     */
+    public boolean finish() {
+        if (rows != n) {
+            throw new IllegalArgumentException("DNA must be an NxN matrix");
+        }
+        return isMutant();
+    }
+
+    /**
+     * Resultado parcial: una vez true, ninguna fila posterior lo cambia
+     */
+    public boolean isMutant() {
+        return sequencesFound >= MIN_SEQUENCES_FOR_MUTANT;
+    }
+
+    public int getRows() {
+        return rows;
+    }
+
+    private static void checkBase(char c) {
+        if (c != 'A' && c != 'T' && c != 'C' && c != 'G') {
+            throw new IllegalArgumentException("DNA must contain only A, T, C, G characters");
+        }
+    }
+
+    /**
+     * Una racha mayor a SEQUENCE_LENGTH se comporta igual que una de SEQUENCE_LENGTH
+     */
+    private static byte cap(int run) {
+        return (byte) Math.min(run, SEQUENCE_LENGTH);
+    }
+}
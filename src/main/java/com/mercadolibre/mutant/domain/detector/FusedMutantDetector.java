@@ -0,0 +1,41 @@
+package com.mercadolibre.mutant.domain.detector;
+
+/**
+ * Detector de una sola pasada: valida, codifica y detecta fila por fila
+ *
+ * El motor char[][] recorre la entrada tres veces (validación, copia y hasta cuatro
+ * direcciones). Aquí cada celda se lee una única vez con {@link DnaRowScanner}, que
+ * actualiza contadores de racha (run-length) para las cuatro direcciones.
+ *
+ * OPTIMIZACIONES CLAVE:
+ * 1. Sin copia a char[][]: se lee directamente de cada String.
+ * 2. Memoria pico O(N) en lugar de O(N²): solo se guarda la fila anterior y las rachas.
+ * 3. Early Termination: al encontrar la segunda secuencia las filas restantes solo se
+ *    validan (mismos mensajes de error que validateDna), sin actualizar contadores.
+ */
+public class FusedMutantDetector extends MutantDetector {
+
+    /**
+     * Detecta si una secuencia de ADN pertenece a un mutante
+     */
+    @Override
+    public boolean isMutant(String[] dna) {
+        if (dna == null || dna.length == 0) {
+            throw new IllegalArgumentException("DNA sequence cannot be null or empty");
+        }
+
+        DnaRowScanner scanner = new DnaRowScanner(dna.length);
+        for (String sequence : dna) {
+            scanner.acceptRow(sequence);
+        }
+        return scanner.finish();
+    }
+
+    /**
+     * Este motor no informa la dirección en que terminó la búsqueda
+     */
+    @Override
+    public Detection detect(String[] dna) {
+        return Detection.withoutExit(isMutant(dna));
+    }
+}
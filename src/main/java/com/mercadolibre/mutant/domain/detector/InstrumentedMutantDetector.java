@@ -0,0 +1,69 @@
+package com.mercadolibre.mutant.domain.detector;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Detector que mide cada análisis del motor configurado
+ *
+ * Timer "dna.detection" con histograma de percentiles, etiquetado por:
+ * - n: rango del tamaño de la matriz (4-10, 11-100, 101-1000, 1001+)
+ * - exit: dirección en que terminó la búsqueda (ver {@link SearchExit})
+ * - result: mutant o human
+ *
+ * Los timers se crean al construir el detector: el request solo indexa un arreglo.
+ */
+public class InstrumentedMutantDetector extends MutantDetector {
+
+    static final String METRIC = "dna.detection";
+
+    private static final String[] SIZE_BUCKETS = {"4-10", "11-100", "101-1000", "1001+"};
+    private static final SearchExit[] EXITS = SearchExit.values();
+
+    private final MutantDetector delegate;
+    private final Timer[][][] timers = new Timer[SIZE_BUCKETS.length][EXITS.length][2];
+
+    public InstrumentedMutantDetector(MutantDetector delegate, String engine, MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        for (int bucket = 0; bucket < SIZE_BUCKETS.length; bucket++) {
+            for (SearchExit exit : EXITS) {
+                for (int result = 0; result < 2; result++) {
+                    timers[bucket][exit.ordinal()][result] = Timer.builder(METRIC)
+                            .description("Tiempo del detector de mutantes")
+                            .tag("engine", engine)
+                            .tag("n", SIZE_BUCKETS[bucket])
+                            .tag("exit", exit.name().toLowerCase())
+                            .tag("result", result == 1 ? "mutant" : "human")
+                            .publishPercentileHistogram()
+                            .register(meterRegistry);
+                }
+            }
+        }
+    }
+
+    @Override
+    public boolean isMutant(String[] dna) {
+        return detect(dna).isMutant();
+    }
+
+    @Override
+    public Detection detect(String[] dna) {
+        long start = System.nanoTime();
+        Detection detection = delegate.detect(dna);
+        timers[sizeBucket(dna.length)][detection.getExit().ordinal()][detection.isMutant() ? 1 : 0]
+                .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        return detection;
+    }
+
+    private static int sizeBucket(int n) {
+        if (n <= 10) {
+            return 0;
+        }
+        if (n <= 100) {
+            return 1;
+        }
+        return n <= 1000 ? 2 : 3;
+    }
+}
@@ -11,8 +11,8 @@ package com.mercadolibre.mutant.domain.detector;
  */
 public class MutantDetector {
 
-    private static final int SEQUENCE_LENGTH = 4;
-    private static final int MIN_SEQUENCES_FOR_MUTANT = 2;
+    protected static final int SEQUENCE_LENGTH = 4;
+    protected static final int MIN_SEQUENCES_FOR_MUTANT = 2;
 
     /**
      * Detecta si una secuencia de ADN pertenece a un mutante
@@ -24,13 +24,27 @@ public class MutantDetector {
         final int n = dna.length;
         final char[][] matrix = convertToCharMatrix(dna, n);
         
-        return findMutantSequences(matrix, n) >= MIN_SEQUENCES_FOR_MUTANT;
+        return findMutantSequences(matrix, n) != SearchExit.FULL_SCAN;
+    }
+
+    /**
+     * Igual que {@link #isMutant}, informando en qué dirección terminó la búsqueda (métricas)
+     * Los motores que redefinen isMutant redefinen también este método
+     */
+    public Detection detect(String[] dna) {
+        validateDna(dna);
+
+        final int n = dna.length;
+        final char[][] matrix = convertToCharMatrix(dna, n);
+
+        SearchExit exit = findMutantSequences(matrix, n);
+        return new Detection(exit != SearchExit.FULL_SCAN, exit);
     }
 
     /**
      * Valida que la secuencia de ADN sea válida: NxN y solo ATCG.
      */
-    private void validateDna(String[] dna) {
+    protected void validateDna(String[] dna) {
         if (dna == null || dna.length == 0) {
             throw new IllegalArgumentException("DNA sequence cannot be null or empty");
         }
@@ -54,7 +68,7 @@ public class MutantDetector {
     /**
      * Convierte String[] a char[][] para acceso más rápido
      */
-    private char[][] convertToCharMatrix(String[] dna, int n) {
+    protected char[][] convertToCharMatrix(String[] dna, int n) {
         char[][] matrix = new char[n][n];
         for (int i = 0; i < n; i++) {
             matrix[i] = dna[i].toCharArray();
@@ -69,26 +83,29 @@ public class MutantDetector {
     /**
      * Encuentra secuencias de mutante con Early Termination, llamando
      * a funciones separadas para cada dirección.
+     *
+     * @return dirección donde aparece la segunda secuencia, o FULL_SCAN si no es mutante
      */
-    private int findMutantSequences(char[][] matrix, int n) {
+    protected SearchExit findMutantSequences(char[][] matrix, int n) {
         int sequencesFound = 0;
 
         // 1. Horizontal
         sequencesFound += checkHorizontal(matrix, n);
-        if (sequencesFound >= MIN_SEQUENCES_FOR_MUTANT) return sequencesFound;
+        if (sequencesFound >= MIN_SEQUENCES_FOR_MUTANT) return SearchExit.HORIZONTAL;
 
         // 2. Vertical
         sequencesFound += checkVertical(matrix, n);
-        if (sequencesFound >= MIN_SEQUENCES_FOR_MUTANT) return sequencesFound;
+        if (sequencesFound >= MIN_SEQUENCES_FOR_MUTANT) return SearchExit.VERTICAL;
 
         // 3. Diagonal Principal (↘)
         sequencesFound += checkDiagonalPrincipal(matrix, n);
-        if (sequencesFound >= MIN_SEQUENCES_FOR_MUTANT) return sequencesFound;
+        if (sequencesFound >= MIN_SEQUENCES_FOR_MUTANT) return SearchExit.DIAGONAL;
 
         // 4. Diagonal Secundaria (↙)
         sequencesFound += checkDiagonalSecundaria(matrix, n);
+        if (sequencesFound >= MIN_SEQUENCES_FOR_MUTANT) return SearchExit.ANTI_DIAGONAL;
 
-        return sequencesFound;
+        return SearchExit.FULL_SCAN;
     }
 
     /**
@@ -1,16 +1,81 @@
 package com.mercadolibre.mutant.domain.detector;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+
 /**
  * Configuración de beans para el detector de mutantes
+ * El motor se elige con {@code mutant.detector.engine} (por defecto CHAR_MATRIX)
+ * y se envuelve en InstrumentedMutantDetector para publicar el timer dna.detection
  */
 @Configuration
+@Slf4j
 public class MutantDetectorConfig {
 
+    private static final String VECTOR_MODULE = "jdk.incubator.vector";
+
+    private ForkJoinPool detectorPool;
+
     @Bean
-    public MutantDetector mutantDetector() {
-        return new MutantDetector();
+    public MutantDetector mutantDetector(
+            @Value("${mutant.detector.engine:CHAR_MATRIX}") DetectorEngine engine,
+            @Value("${mutant.detector.parallel.threshold:1000}") int parallelThreshold,
+            @Value("${mutant.detector.parallel.pool-size:0}") int poolSize,
+            MeterRegistry meterRegistry) {
+        DetectorEngine resolved = resolve(engine);
+        MutantDetector detector = switch (resolved) {
+            case CHAR_MATRIX -> new MutantDetector();
+            case BIT_PACKED -> new BitPackedMutantDetector();
+            case FUSED -> new FusedMutantDetector();
+            case PARALLEL -> new ParallelMutantDetector(parallelThreshold, detectorPool(poolSize));
+            case VECTOR -> new VectorMutantDetector();
+        };
+        // El tag engine de dna.detection es el motor que corre, no el configurado
+        return new InstrumentedMutantDetector(detector, resolved.name(), meterRegistry);
+    }
+
+    /**
+     * Pool propio del motor PARALLEL: el ForkJoinPool común lo comparten los parallel streams
+     * de MutantBatchService, y un batch grande dejaría a las bandas esperando workers.
+     * No se publica como bean (un Executor en el contexto desactiva el de Spring Boot).
+     *
+     * @param poolSize workers; 0 usa un worker por core
+     */
+    private ForkJoinPool detectorPool(int poolSize) {
+        int parallelism = poolSize > 0 ? poolSize : Runtime.getRuntime().availableProcessors();
+        log.info("Parallel detector pool with {} workers", parallelism);
+        detectorPool = new ForkJoinPool(parallelism, pool -> {
+            ForkJoinWorkerThread worker = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+            worker.setName("dna-detector-" + worker.getPoolIndex());
+            return worker;
+        }, null, false);
+        return detectorPool;
+    }
+
+    @PreDestroy
+    public void shutdownDetectorPool() {
+        if (detectorPool != null) {
+            detectorPool.shutdown();
+        }
+    }
+
+    /**
+     * La Vector API es un módulo incubator: si la JVM no arrancó con
+     * --add-modules jdk.incubator.vector (Dockerfile y scripts de inicio lo agregan)
+     * se usa el motor escalar char[][]
+     */
+    private DetectorEngine resolve(DetectorEngine engine) {
+        if (engine != DetectorEngine.VECTOR || ModuleLayer.boot().findModule(VECTOR_MODULE).isPresent()) {
+            return engine;
+        }
+        log.warn("Module {} not enabled, falling back to CHAR_MATRIX detector", VECTOR_MODULE);
+        return DetectorEngine.CHAR_MATRIX;
     }
 }
@@ -0,0 +1,165 @@
+package com.mercadolibre.mutant.domain.detector;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Detector paralelo (fork-join) para matrices muy grandes
+ *
+ * La matriz se divide en bandas de filas. Cada banda busca las secuencias que COMIENZAN
+ * en sus filas, leyendo hasta SEQUENCE_LENGTH - 1 filas de la banda siguiente (solape),
+ * por lo que cada ventana se cuenta exactamente una vez.
+ *
+ * OPTIMIZACIONES CLAVE:
+ * 1. Las matrices con N menor al umbral siguen el camino secuencial (sin overhead de tareas).
+ * 2. Contador atómico compartido: todas las bandas se detienen en cuanto se encuentran
+ *    dos secuencias en total (Early Termination global).
+ * 3. Bandas de tamaño acotado para repartir el trabajo entre los workers del pool.
+ */
+public class ParallelMutantDetector extends MutantDetector {
+
+    /** Filas mínimas por banda: por debajo de esto el costo de la tarea supera al escaneo */
+    private static final int MIN_BAND_ROWS = 16;
+
+    /** Bandas por worker, para balancear cuando algunas terminan antes */
+    private static final int BANDS_PER_WORKER = 4;
+
+    private final int threshold;
+    private final ForkJoinPool pool;
+
+    /**
+     * @param threshold N a partir del cual se usa el camino paralelo
+     * @param pool      pool donde se ejecutan las bandas
+     */
+    public ParallelMutantDetector(int threshold, ForkJoinPool pool) {
+        this.threshold = threshold;
+        this.pool = pool;
+    }
+
+    /**
+     * Detecta si una secuencia de ADN pertenece a un mutante
+     */
+    @Override
+    public boolean isMutant(String[] dna) {
+        validateDna(dna);
+
+        final int n = dna.length;
+        final char[][] matrix = convertToCharMatrix(dna, n);
+
+        if (n < threshold) {
+            return findMutantSequences(matrix, n) != SearchExit.FULL_SCAN;
+        }
+
+        final int bandRows = Math.max(MIN_BAND_ROWS, n / (pool.getParallelism() * BANDS_PER_WORKER));
+        final AtomicInteger sequencesFound = new AtomicInteger();
+
+        pool.invoke(new BandTask(matrix, n, 0, n, bandRows, sequencesFound));
+
+        return sequencesFound.get() >= MIN_SEQUENCES_FOR_MUTANT;
+    }
+
+    /**
+     * Este motor no informa la dirección en que terminó la búsqueda
+     */
+    @Override
+    public Detection detect(String[] dna) {
+        return Detection.withoutExit(isMutant(dna));
+    }
+
+    /**
+     * Tarea fork-join sobre las filas [from, to)
+     */
+    private static final class BandTask extends RecursiveAction {
+
+        private final char[][] matrix;
+        private final int n;
+        private final int from;
+        private final int to;
+        private final int bandRows;
+        private final AtomicInteger sequencesFound;
+
+        BandTask(char[][] matrix, int n, int from, int to, int bandRows, AtomicInteger sequencesFound) {
+            this.matrix = matrix;
+            this.n = n;
+            this.from = from;
+            this.to = to;
+            this.bandRows = bandRows;
+            this.sequencesFound = sequencesFound;
+        }
+
+        @Override
+        protected void compute() {
+            if (sequencesFound.get() >= MIN_SEQUENCES_FOR_MUTANT) {
+                return;
+            }
+
+            if (to - from > bandRows) {
+                int middle = (from + to) >>> 1;
+                invokeAll(
+                    new BandTask(matrix, n, from, middle, bandRows, sequencesFound),
+                    new BandTask(matrix, n, middle, to, bandRows, sequencesFound)
+                );
+                return;
+            }
+
+            for (int i = from; i < to; i++) {
+                int found = countSequencesStartingAt(i);
+                if (found > 0 && sequencesFound.addAndGet(found) >= MIN_SEQUENCES_FOR_MUTANT) {
+                    return;
+                }
+                // Otra banda pudo completar el resultado
+                if (sequencesFound.get() >= MIN_SEQUENCES_FOR_MUTANT) {
+                    return;
+                }
+            }
+        }
+
+        /**
+         * Cuenta las secuencias de las cuatro direcciones que comienzan en la fila i
+         */
+        private int countSequencesStartingAt(int i) {
+            int count = 0;
+            final char[] row = matrix[i];
+
+            // 1. Horizontal (→)
+            for (int j = 0; j <= n - SEQUENCE_LENGTH; j++) {
+                char char0 = row[j];
+                if (char0 == row[j + 1] && char0 == row[j + 2] && char0 == row[j + 3]) {
+                    count++;
+                }
+            }
+
+            if (i > n - SEQUENCE_LENGTH) {
+                return count;
+            }
+
+            // Solape: filas de la banda siguiente
+            final char[] row1 = matrix[i + 1];
+            final char[] row2 = matrix[i + 2];
+            final char[] row3 = matrix[i + 3];
+
+            for (int j = 0; j < n; j++) {
+                char char0 = row[j];
+
+                // 2. Vertical (↓)
+                if (char0 == row1[j] && char0 == row2[j] && char0 == row3[j]) {
+                    count++;
+                }
+
+                // 3. Diagonal Principal (↘)
+                if (j <= n - SEQUENCE_LENGTH
+                        && char0 == row1[j + 1] && char0 == row2[j + 2] && char0 == row3[j + 3]) {
+                    count++;
+                }
+
+                // 4. Diagonal Secundaria (↙)
+                if (j >= SEQUENCE_LENGTH - 1
+                        && char0 == row1[j - 1] && char0 == row2[j - 2] && char0 == row3[j - 3]) {
+                    count++;
+                }
+            }
+            return count;
+        }
+    }
+}
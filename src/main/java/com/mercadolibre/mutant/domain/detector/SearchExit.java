@@ -0,0 +1,17 @@
+package com.mercadolibre.mutant.domain.detector;
+
+/**
+ * Dirección en la que terminó la búsqueda de secuencias
+ *
+ * Con Early Termination, un mutante corta en la dirección donde aparece la segunda
+ * secuencia; un humano recorre las cuatro (FULL_SCAN). Los motores que no recorren
+ * la matriz dirección por dirección informan UNKNOWN.
+ */
+public enum SearchExit {
+    HORIZONTAL,
+    VERTICAL,
+    DIAGONAL,
+    ANTI_DIAGONAL,
+    FULL_SCAN,
+    UNKNOWN
+}
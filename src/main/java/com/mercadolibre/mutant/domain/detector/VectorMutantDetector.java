@@ -0,0 +1,120 @@
+package com.mercadolibre.mutant.domain.detector;
+
+import jdk.incubator.vector.ByteVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorSpecies;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Detector SIMD basado en la Vector API (jdk.incubator.vector)
+ *
+ * Las cuatro direcciones se reducen a comparar cuatro filas (o la misma fila) con
+ * desplazamientos distintos: cada instrucción compara tantas celdas como lanes tenga
+ * la especie preferida de la CPU (16 a 64 bytes).
+ *
+ * Requiere arrancar la JVM con {@code --add-modules jdk.incubator.vector};
+ * {@link MutantDetectorConfig} usa el motor escalar si el módulo no está disponible.
+ */
+public class VectorMutantDetector extends MutantDetector {
+
+    private static final VectorSpecies<Byte> SPECIES = ByteVector.SPECIES_PREFERRED;
+
+    /**
+     * Detecta si una secuencia de ADN pertenece a un mutante
+     */
+    @Override
+    public boolean isMutant(String[] dna) {
+        validateDna(dna);
+
+        final int n = dna.length;
+        if (n < SEQUENCE_LENGTH) {
+            return false;
+        }
+
+        final byte[][] matrix = convertToByteMatrix(dna, n);
+
+        return findMutantSequences(matrix, n) >= MIN_SEQUENCES_FOR_MUTANT;
+    }
+
+    /**
+     * Este motor no informa la dirección en que terminó la búsqueda
+     */
+    @Override
+    public Detection detect(String[] dna) {
+        return Detection.withoutExit(isMutant(dna));
+    }
+
+    /**
+     * Convierte String[] a byte[][]: la entrada ya fue validada (solo A, T, C, G en ASCII)
+     */
+    private byte[][] convertToByteMatrix(String[] dna, int n) {
+        byte[][] matrix = new byte[n][];
+        for (int i = 0; i < n; i++) {
+            matrix[i] = dna[i].getBytes(StandardCharsets.ISO_8859_1);
+        }
+        return matrix;
+    }
+
+    // =========================================================
+    // ↓↓↓ LÓGICA DE DETECCIÓN VECTORIAL ↓↓↓
+    // =========================================================
+
+    private int findMutantSequences(byte[][] matrix, int n) {
+        final int windows = n - SEQUENCE_LENGTH + 1;
+        int sequencesFound = 0;
+
+        // 1. Horizontal (→): la fila contra sí misma desplazada 1, 2 y 3 celdas
+        for (int i = 0; i < n && sequencesFound < MIN_SEQUENCES_FOR_MUTANT; i++) {
+            byte[] row = matrix[i];
+            sequencesFound += countEqual(row, 0, row, 1, row, 2, row, 3, windows);
+        }
+        if (sequencesFound >= MIN_SEQUENCES_FOR_MUTANT) return sequencesFound;
+
+        // 2. Vertical (↓): cuatro filas consecutivas, lane a lane
+        for (int i = 0; i < windows && sequencesFound < MIN_SEQUENCES_FOR_MUTANT; i++) {
+            sequencesFound += countEqual(matrix[i], 0, matrix[i + 1], 0, matrix[i + 2], 0, matrix[i + 3], 0, n);
+        }
+        if (sequencesFound >= MIN_SEQUENCES_FOR_MUTANT) return sequencesFound;
+
+        // 3. Diagonal Principal (↘): la fila i+k desplazada k celdas
+        for (int i = 0; i < windows && sequencesFound < MIN_SEQUENCES_FOR_MUTANT; i++) {
+            sequencesFound += countEqual(matrix[i], 0, matrix[i + 1], 1, matrix[i + 2], 2, matrix[i + 3], 3, windows);
+        }
+        if (sequencesFound >= MIN_SEQUENCES_FOR_MUTANT) return sequencesFound;
+
+        // 4. Diagonal Secundaria (↙): la fila i+k desplazada 3-k celdas
+        for (int i = 0; i < windows && sequencesFound < MIN_SEQUENCES_FOR_MUTANT; i++) {
+            sequencesFound += countEqual(matrix[i], 3, matrix[i + 1], 2, matrix[i + 2], 1, matrix[i + 3], 0, windows);
+        }
+
+        return sequencesFound;
+    }
+
+    /**
+     * Cuenta las posiciones p en [0, length) donde a[ao+p] == b[bo+p] == c[co+p] == d[dOffset+p]
+     */
+    private static int countEqual(byte[] a, int ao, byte[] b, int bo, byte[] c, int co,
+                                  byte[] d, int dOffset, int length) {
+        int count = 0;
+        int p = 0;
+
+        final int upperBound = SPECIES.loopBound(length);
+        for (; p < upperBound; p += SPECIES.length()) {
+            ByteVector va = ByteVector.fromArray(SPECIES, a, ao + p);
+            VectorMask<Byte> equal = va.eq(ByteVector.fromArray(SPECIES, b, bo + p))
+                    .and(va.eq(ByteVector.fromArray(SPECIES, c, co + p)))
+                    .and(va.eq(ByteVector.fromArray(SPECIES, d, dOffset + p)));
+            count += equal.trueCount();
+        }
+
+        // Cola escalar
+        for (; p < length; p++) {
+            byte base = a[ao + p];
+            if (base == b[bo + p] && base == c[co + p] && base == d[dOffset + p]) {
+                count++;
+            }
+        }
+        return count;
+    }
+}
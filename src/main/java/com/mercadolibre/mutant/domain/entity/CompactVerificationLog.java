@@ -0,0 +1,78 @@
+package com.mercadolibre.mutant.domain.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.domain.Persistable;
+
+import java.time.LocalDateTime;
+
+/**
+ * Registro de ADN analizado con clave binaria de 128 bits
+ *
+ * Performance Optimization: la clave primaria ocupa 16 bytes (frente a 64 caracteres de
+ * {@link VerificationLog}), el índice es varias veces más chico y las comparaciones
+ * son sobre dos enteros en lugar de un VARCHAR.
+ *
+ * Implementa Persistable para que save() haga un INSERT directo: el servicio
+ * ya verificó que el hash no existe, por lo que el SELECT previo de merge() sobra.
+ */
+@Entity
+@Table(name = "dna_records_bin", indexes = {
+    @Index(name = "idx_bin_is_mutant", columnList = "is_mutant")
+})
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CompactVerificationLog implements Persistable<DnaKey> {
+
+    @EmbeddedId
+    private DnaKey key;
+
+    @Column(name = "is_mutant", nullable = false)
+    private Boolean isMutant;
+
+    @Column(name = "sequence_size", nullable = false)
+    private Integer sequenceSize;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime analyzedAt;
+
+    /**
+     * Copia compacta del ADN (2 bits por base) para verificar colisiones de hash;
+     * solo se guarda con mutant.hash.verify-collisions=true
+     */
+    @Lob
+    @Column(name = "dna_packed")
+    private byte[] dnaPacked;
+
+    @Transient
+    @Builder.Default
+    private boolean newRecord = true;
+
+    @Override
+    public DnaKey getId() {
+        return key;
+    }
+
+    @Override
+    public boolean isNew() {
+        return newRecord;
+    }
+
+    @PrePersist
+    protected void onCreate() {
+        if (analyzedAt == null) {
+            analyzedAt = LocalDateTime.now();
+        }
+    }
+
+    @PostPersist
+    @PostLoad
+    protected void markNotNew() {
+        newRecord = false;
+    }
+}
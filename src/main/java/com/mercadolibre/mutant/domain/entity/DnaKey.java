@@ -0,0 +1,25 @@
+package com.mercadolibre.mutant.domain.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+
+/**
+ * Clave binaria compacta de 128 bits: dos BIGINT en lugar de un VARCHAR(64)
+ */
+@Embeddable
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class DnaKey implements Serializable {
+
+    @Column(name = "hash_hi", nullable = false)
+    private long hashHi;
+
+    @Column(name = "hash_lo", nullable = false)
+    private long hashLo;
+}
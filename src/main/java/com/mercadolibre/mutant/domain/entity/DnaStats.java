@@ -0,0 +1,47 @@
+package com.mercadolibre.mutant.domain.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Contadores materializados de ADN analizado (fila única)
+ *
+ * Performance Optimization: GET /stats lee esta fila por clave primaria en lugar de
+ * contar toda la tabla de registros. Se incrementa en la misma transacción que cada
+ * insert y se reconstruye periódicamente desde la tabla de origen.
+ */
+@Entity
+@Table(name = "dna_stats")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class DnaStats {
+
+    /** Identificador de la única fila de contadores */
+    public static final int SINGLETON_ID = 1;
+
+    @Id
+    @Column(name = "id", nullable = false)
+    private Integer id;
+
+    @Column(name = "mutant_count", nullable = false)
+    private long mutantCount;
+
+    @Column(name = "human_count", nullable = false)
+    private long humanCount;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    @PrePersist
+    @PreUpdate
+    protected void onUpdate() {
+        updatedAt = LocalDateTime.now();
+    }
+}
@@ -5,6 +5,7 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.springframework.data.domain.Persistable;
 
 import java.time.LocalDateTime;
 
@@ -13,6 +14,9 @@ import java.time.LocalDateTime;
  * Utiliza hash SHA-256 como identificador único para evitar análisis duplicados
  * 
  * Performance Optimization: El hash actúa como índice único permitiendo búsquedas O(1)
+ *
+ * Implementa Persistable (igual que {@link CompactVerificationLog}) para que save() y
+ * saveAll() hagan INSERT directo y Hibernate pueda agruparlos en batches JDBC.
  */
 @Entity
 @Table(name = "dna_records", indexes = {
@@ -22,7 +26,7 @@ import java.time.LocalDateTime;
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
-public class VerificationLog {
+public class VerificationLog implements Persistable<String> {
 
     @Id
     @Column(name = "dna_hash", length = 64, nullable = false, unique = true)
@@ -37,10 +41,38 @@ public class VerificationLog {
     @Column(name = "created_at", nullable = false)
     private LocalDateTime analyzedAt;
 
+    /**
+     * Copia compacta del ADN (2 bits por base) para verificar colisiones de hash;
+     * solo se guarda con mutant.hash.verify-collisions=true
+     */
+    @Lob
+    @Column(name = "dna_packed")
+    private byte[] dnaPacked;
+
+    @Transient
+    @Builder.Default
+    private boolean newRecord = true;
+
+    @Override
+    public String getId() {
+        return dnaHash;
+    }
+
+    @Override
+    public boolean isNew() {
+        return newRecord;
+    }
+
     @PrePersist
     protected void onCreate() {
         if (analyzedAt == null) {
             analyzedAt = LocalDateTime.now();
         }
     }
+
+    @PostPersist
+    @PostLoad
+    protected void markNotNew() {
+        newRecord = false;
+    }
 }
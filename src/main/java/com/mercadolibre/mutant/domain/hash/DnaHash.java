@@ -0,0 +1,113 @@
+package com.mercadolibre.mutant.domain.hash;
+
+import java.util.Arrays;
+import java.util.HexFormat;
+
+/**
+ * Hash binario de una matriz de ADN (clave de deduplicación)
+ *
+ * Se mantiene en bytes durante todo el request: la representación hexadecimal solo se
+ * construye (una vez, de forma perezosa) si el almacenamiento usa claves de texto.
+ * Los 16 primeros bytes se exponen como dos long para la clave binaria compacta.
+ */
+public final class DnaHash {
+
+    /** Bytes mínimos para la clave compacta de 128 bits */
+    public static final int COMPACT_KEY_BYTES = 16;
+
+    private static final HexFormat HEX = HexFormat.of();
+    private static final int LOG_PREFIX_BYTES = 8;
+
+    private final byte[] bytes;
+    private final int hashCode;
+    private String hex;
+
+    private DnaHash(byte[] bytes) {
+        if (bytes.length < COMPACT_KEY_BYTES) {
+            throw new IllegalArgumentException("DNA hash must have at least " + COMPACT_KEY_BYTES + " bytes");
+        }
+        this.bytes = bytes;
+        this.hashCode = Arrays.hashCode(bytes);
+    }
+
+    /**
+     * Envuelve el resultado de un digest sin copiarlo (el llamador no debe modificarlo después)
+     */
+    public static DnaHash of(byte[] digest) {
+        return new DnaHash(digest);
+    }
+
+    /**
+     * Reconstruye el hash truncado a 128 bits a partir de la clave compacta
+     */
+    public static DnaHash ofKey(long high, long low) {
+        byte[] bytes = new byte[COMPACT_KEY_BYTES];
+        for (int i = 7; i >= 0; i--) {
+            bytes[i] = (byte) high;
+            bytes[i + 8] = (byte) low;
+            high >>>= 8;
+            low >>>= 8;
+        }
+        return new DnaHash(bytes);
+    }
+
+    public static DnaHash fromHex(String hex) {
+        return new DnaHash(HEX.parseHex(hex));
+    }
+
+    public int length() {
+        return bytes.length;
+    }
+
+    /**
+     * Primeros 8 bytes en big-endian
+     */
+    public long high() {
+        return readLong(0);
+    }
+
+    /**
+     * Bytes 8 a 15 en big-endian
+     */
+    public long low() {
+        return readLong(8);
+    }
+
+    public String toHex() {
+        String value = hex;
+        if (value == null) {
+            value = HEX.formatHex(bytes);
+            hex = value;
+        }
+        return value;
+    }
+
+    private long readLong(int offset) {
+        long value = 0;
+        for (int i = offset; i < offset + 8; i++) {
+            value = (value << 8) | (bytes[i] & 0xFF);
+        }
+        return value;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (this == other) {
+            return true;
+        }
+        return other instanceof DnaHash that && Arrays.equals(bytes, that.bytes);
+    }
+
+    @Override
+    public int hashCode() {
+        return hashCode;
+    }
+
+    /**
+     * Prefijo corto para logs
+     */
+    @Override
+    public String toString() {
+        return HEX.formatHex(bytes, 0, LOG_PREFIX_BYTES) + "...";
+    }
+}
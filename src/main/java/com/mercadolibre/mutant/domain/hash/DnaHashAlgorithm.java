@@ -0,0 +1,11 @@
+package com.mercadolibre.mutant.domain.hash;
+
+/**
+ * Algoritmos de hash disponibles para deduplicar ADN ({@code mutant.hash.algorithm})
+ */
+public enum DnaHashAlgorithm {
+    /** Criptográfico, 256 bits (formato original de las claves) */
+    SHA256,
+    /** MurmurHash3 x64, 128 bits: no criptográfico, mucho más rápido */
+    MURMUR3_128
+}
@@ -0,0 +1,38 @@
+package com.mercadolibre.mutant.domain.hash;
+
+/**
+ * Función de hash para deduplicar matrices de ADN
+ *
+ * El hash se calcula fila por fila (con un separador entre filas) directamente sobre
+ * los caracteres, sin concatenar la matriz. La implementación se elige con
+ * {@code mutant.hash.algorithm}; cambiarla invalida las claves ya guardadas.
+ */
+public interface DnaHasher {
+
+    byte ROW_SEPARATOR = '|';
+
+    /**
+     * @return hasher incremental para una única matriz (no thread-safe)
+     */
+    RowHasher newRowHasher();
+
+    default DnaHash hash(String[] dna) {
+        RowHasher rowHasher = newRowHasher();
+        for (String row : dna) {
+            rowHasher.acceptRow(row);
+        }
+        return rowHasher.finish();
+    }
+
+    /**
+     * Estado incremental del hash de una matriz
+     */
+    interface RowHasher {
+
+        void acceptRow(CharSequence row);
+
+        void acceptRow(char[] buffer, int offset, int length);
+
+        DnaHash finish();
+    }
+}
@@ -0,0 +1,24 @@
+package com.mercadolibre.mutant.domain.hash;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuración del hash de deduplicación
+ * El algoritmo se elige con {@code mutant.hash.algorithm} (por defecto SHA256)
+ */
+@Configuration
+@Slf4j
+public class DnaHasherConfig {
+
+    @Bean
+    public DnaHasher dnaHasher(@Value("${mutant.hash.algorithm:SHA256}") DnaHashAlgorithm algorithm) {
+        log.info("DNA hash algorithm: {}", algorithm);
+        return switch (algorithm) {
+            case SHA256 -> new Sha256DnaHasher();
+            case MURMUR3_128 -> new Murmur3DnaHasher();
+        };
+    }
+}
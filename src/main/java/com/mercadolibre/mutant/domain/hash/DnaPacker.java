@@ -0,0 +1,76 @@
+package com.mercadolibre.mutant.domain.hash;
+
+/**
+ * Copia compacta de una matriz de ADN: 2 bits por base, precedida por N (4 bytes)
+ *
+ * Se guarda junto al veredicto cuando {@code mutant.hash.verify-collisions=true}, para
+ * confirmar que un hash encontrado corresponde realmente al mismo ADN.
+ * Ocupa 4 + ceil(N² / 4) bytes (un 6x6 son 13 bytes).
+ */
+public final class DnaPacker {
+
+    private static final int HEADER_BYTES = 4;
+
+    private final int n;
+    private final byte[] packed;
+    private int bases;
+
+    public DnaPacker(int n) {
+        this.n = n;
+        this.packed = new byte[HEADER_BYTES + (int) (((long) n * n + 3) / 4)];
+        packed[0] = (byte) (n >>> 24);
+        packed[1] = (byte) (n >>> 16);
+        packed[2] = (byte) (n >>> 8);
+        packed[3] = (byte) n;
+    }
+
+    public static byte[] pack(String[] dna) {
+        DnaPacker packer = new DnaPacker(dna.length);
+        for (String row : dna) {
+            packer.acceptRow(row);
+        }
+        return packer.toBytes();
+    }
+
+    public void acceptRow(CharSequence row) {
+        checkRow(row.length());
+        for (int i = 0; i < row.length(); i++) {
+            append(row.charAt(i));
+        }
+    }
+
+    public void acceptRow(char[] buffer, int offset, int length) {
+        checkRow(length);
+        for (int i = offset; i < offset + length; i++) {
+            append(buffer[i]);
+        }
+    }
+
+    /**
+     * @return copia empaquetada; el array es interno y no debe modificarse
+     */
+    public byte[] toBytes() {
+        if (bases != (long) n * n) {
+            throw new IllegalArgumentException("DNA must be an NxN matrix");
+        }
+        return packed;
+    }
+
+    private void checkRow(int length) {
+        if (length != n || bases + length > (long) n * n) {
+            throw new IllegalArgumentException("DNA must be an NxN matrix");
+        }
+    }
+
+    private void append(char base) {
+        int code = switch (base) {
+            case 'A' -> 0;
+            case 'C' -> 1;
+            case 'G' -> 2;
+            case 'T' -> 3;
+            default -> throw new IllegalArgumentException("DNA must contain only A, T, C, G characters");
+        };
+        packed[HEADER_BYTES + (bases >>> 2)] |= (byte) (code << ((bases & 3) * 2));
+        bases++;
+    }
+}
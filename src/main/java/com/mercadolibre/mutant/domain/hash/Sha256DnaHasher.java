@@ -0,0 +1,67 @@
+package com.mercadolibre.mutant.domain.hash;
+
+import com.mercadolibre.mutant.infrastructure.exception.DnaHashCalculationException;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+/**
+ * SHA-256 sobre las filas unidas con '|' (formato original de las claves)
+ *
+ * Mismo resultado que SHA-256(String.join("|", dna)) en UTF-8, sin construir el String completo.
+ */
+public class Sha256DnaHasher implements DnaHasher {
+
+    @Override
+    public RowHasher newRowHasher() {
+        try {
+            return new Sha256RowHasher(MessageDigest.getInstance("SHA-256"));
+        } catch (NoSuchAlgorithmException e) {
+            throw new DnaHashCalculationException("Error calculando hash de ADN", e);
+        }
+    }
+
+    private static final class Sha256RowHasher implements RowHasher {
+
+        private final MessageDigest digest;
+        private byte[] rowBytes = new byte[0];
+        private int rows;
+
+        private Sha256RowHasher(MessageDigest digest) {
+            this.digest = digest;
+        }
+
+        @Override
+        public void acceptRow(CharSequence row) {
+            separator();
+            digest.update(String.valueOf(row).getBytes(StandardCharsets.UTF_8));
+        }
+
+        /**
+         * Camino del streaming: filas ya validadas (A, T, C, G), cada char es un byte ASCII
+         */
+        @Override
+        public void acceptRow(char[] buffer, int offset, int length) {
+            separator();
+            if (rowBytes.length < length) {
+                rowBytes = new byte[length];
+            }
+            for (int i = 0; i < length; i++) {
+                rowBytes[i] = (byte) buffer[offset + i];
+            }
+            digest.update(rowBytes, 0, length);
+        }
+
+        @Override
+        public DnaHash finish() {
+            return DnaHash.of(digest.digest());
+        }
+
+        private void separator() {
+            if (rows++ > 0) {
+                digest.update(ROW_SEPARATOR);
+            }
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package com.mercadolibre.mutant.domain.repository;
+
+import com.mercadolibre.mutant.domain.entity.CompactVerificationLog;
+import com.mercadolibre.mutant.domain.entity.DnaKey;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * Repositorio JPA para registros de ADN con clave binaria compacta
+ */
+@Repository
+public interface CompactDnaRepository extends JpaRepository<CompactVerificationLog, DnaKey> {
+
+    /**
+     * Cuenta por veredicto, query optimizada con índice en is_mutant
+     */
+    long countByIsMutant(boolean isMutant);
+
+    /**
+     * Primera página de claves ordenadas (ver {@link #findKeysAfter})
+     */
+    @Query("SELECT c.key FROM CompactVerificationLog c ORDER BY c.key.hashHi, c.key.hashLo")
+    List<DnaKey> findFirstKeys(Pageable pageable);
+
+    /**
+     * Página de claves posteriores a (hi, lo) en orden (keyset), sin hidratar entidades
+     */
+    @Query("SELECT c.key FROM CompactVerificationLog c "
+         + "WHERE c.key.hashHi > :hi OR (c.key.hashHi = :hi AND c.key.hashLo > :lo) "
+         + "ORDER BY c.key.hashHi, c.key.hashLo")
+    List<DnaKey> findKeysAfter(@Param("hi") long hashHi, @Param("lo") long hashLo, Pageable pageable);
+
+    /**
+     * Inserta el registro solo si la clave no existe, en una única sentencia
+     * (MERGE ... WHEN NOT MATCHED, equivalente a INSERT ... ON CONFLICT DO NOTHING)
+     *
+     * @return 1 si se insertó, 0 si la clave ya estaba guardada
+     */
+    @Modifying
+    @Query(value = "MERGE INTO dna_records_bin t USING (VALUES (:hi, :lo)) s(hash_hi, hash_lo) "
+                 + "ON t.hash_hi = s.hash_hi AND t.hash_lo = s.hash_lo "
+                 + "WHEN NOT MATCHED THEN INSERT (hash_hi, hash_lo, is_mutant, sequence_size, created_at, dna_packed) "
+                 + "VALUES (:hi, :lo, :isMutant, :sequenceSize, LOCALTIMESTAMP, :packed)",
+           nativeQuery = true)
+    int insertIfAbsent(@Param("hi") long hashHi,
+                       @Param("lo") long hashLo,
+                       @Param("isMutant") boolean isMutant,
+                       @Param("sequenceSize") int sequenceSize,
+                       @Param("packed") byte[] dnaPacked);
+}
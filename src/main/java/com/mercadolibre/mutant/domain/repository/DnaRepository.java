@@ -1,9 +1,13 @@
 package com.mercadolibre.mutant.domain.repository;
 
 import com.mercadolibre.mutant.domain.entity.VerificationLog;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -22,18 +26,47 @@ public interface DnaRepository extends JpaRepository<VerificationLog, String> {
      * Cuenta total de ADN mutante
      * Query optimizada con índice en is_mutant
      */
-    @Query("SELECT COUNT(d) FROM DnaRecord d WHERE d.isMutant = true")
+    @Query("SELECT COUNT(d) FROM VerificationLog d WHERE d.isMutant = true")
     long countMutants();
 
     /**
      * Cuenta total de ADN humano (no mutante)
      * Query optimizada con índice en is_mutant
      */
-    @Query("SELECT COUNT(d) FROM DnaRecord d WHERE d.isMutant = false")
+    @Query("SELECT COUNT(d) FROM VerificationLog d WHERE d.isMutant = false")
     long countHumans();
 
     /**
      * Método derivado por convención, útil para evaluaciones automáticas
      */
     long countByIsMutant(boolean isMutant);
+
+    /**
+     * Página ordenada por hash a partir de una clave (keyset pagination)
+     * Evita el OFFSET y el COUNT de Page: cada página es un range scan sobre la PK
+     */
+    @Query("SELECT d FROM VerificationLog d WHERE d.dnaHash > :after ORDER BY d.dnaHash")
+    List<VerificationLog> findPageAfter(@Param("after") String after, Pageable pageable);
+
+    /**
+     * Página de hashes a partir de una clave (keyset), sin hidratar entidades
+     */
+    @Query("SELECT d.dnaHash FROM VerificationLog d WHERE d.dnaHash > :after ORDER BY d.dnaHash")
+    List<String> findHashesAfter(@Param("after") String after, Pageable pageable);
+
+    /**
+     * Inserta el registro solo si el hash no existe, en una única sentencia
+     * (MERGE ... WHEN NOT MATCHED, equivalente a INSERT ... ON CONFLICT DO NOTHING)
+     *
+     * @return 1 si se insertó, 0 si el hash ya estaba guardado
+     */
+    @Modifying
+    @Query(value = "MERGE INTO dna_records t USING (VALUES (:hash)) s(dna_hash) ON t.dna_hash = s.dna_hash "
+                 + "WHEN NOT MATCHED THEN INSERT (dna_hash, is_mutant, sequence_size, created_at, dna_packed) "
+                 + "VALUES (:hash, :isMutant, :sequenceSize, LOCALTIMESTAMP, :packed)",
+           nativeQuery = true)
+    int insertIfAbsent(@Param("hash") String dnaHash,
+                       @Param("isMutant") boolean isMutant,
+                       @Param("sequenceSize") int sequenceSize,
+                       @Param("packed") byte[] dnaPacked);
 }
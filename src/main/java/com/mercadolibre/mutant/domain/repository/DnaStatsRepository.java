@@ -0,0 +1,36 @@
+package com.mercadolibre.mutant.domain.repository;
+
+import com.mercadolibre.mutant.domain.entity.DnaStats;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+/**
+ * Repositorio JPA para los contadores materializados de /stats
+ */
+@Repository
+public interface DnaStatsRepository extends JpaRepository<DnaStats, Integer> {
+
+    /**
+     * Incremento atómico en la BD (sin leer la fila), dentro de la transacción del insert
+     *
+     * @return filas actualizadas (0 si la fila de contadores no existe)
+     */
+    @Modifying
+    @Query("UPDATE DnaStats s SET s.mutantCount = s.mutantCount + :mutants, "
+         + "s.humanCount = s.humanCount + :humans, s.updatedAt = CURRENT_TIMESTAMP WHERE s.id = :id")
+    int increment(@Param("id") int id, @Param("mutants") long mutants, @Param("humans") long humans);
+
+    /**
+     * Lee la fila bloqueándola: serializa la reconstrucción con los incrementos en curso
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM DnaStats s WHERE s.id = :id")
+    Optional<DnaStats> findForUpdate(@Param("id") int id);
+}
@@ -0,0 +1,15 @@
+package com.mercadolibre.mutant.domain.repository;
+
+import com.mercadolibre.mutant.domain.hash.DnaHash;
+import lombok.Value;
+
+/**
+ * Veredicto de un ADN nuevo pendiente de guardar (ver {@link VerdictStore#saveAll})
+ */
+@Value
+public class NewVerdict {
+    DnaHash dnaHash;
+    boolean mutant;
+    int sequenceSize;
+    byte[] packedDna;
+}
@@ -0,0 +1,15 @@
+package com.mercadolibre.mutant.domain.repository;
+
+import lombok.Value;
+
+/**
+ * Veredicto conocido para un hash de ADN
+ *
+ * packedDna es la copia compacta del ADN (ver DnaPacker) cuando la verificación de
+ * colisiones está activa; null si el registro se guardó sin ella.
+ */
+@Value
+public class StoredVerdict {
+    boolean mutant;
+    byte[] packedDna;
+}
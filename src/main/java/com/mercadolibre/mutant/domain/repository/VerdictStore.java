@@ -0,0 +1,109 @@
+package com.mercadolibre.mutant.domain.repository;
+
+import com.mercadolibre.mutant.domain.hash.DnaHash;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+/**
+ * Almacenamiento de veredictos por hash de ADN
+ *
+ * Abstrae el formato de la clave (hexadecimal o binaria compacta) para que
+ * MutantService y StatsService no dependan de la entidad concreta.
+ */
+public interface VerdictStore {
+
+    /**
+     * @return veredicto guardado o vacío si el ADN nunca se analizó
+     */
+    Optional<StoredVerdict> findVerdict(DnaHash dnaHash);
+
+    /**
+     * Indica si conviene buscar el hash antes de analizar el ADN
+     * Por defecto false: sin un filtro que lo descarte, un ADN que no está en memoria se asume
+     * nuevo y va directo al INSERT-si-no-existe
+     *
+     * @return true si el hash probablemente ya está guardado
+     */
+    default boolean isLikelyStored(DnaHash dnaHash) {
+        return false;
+    }
+
+    /**
+     * Busca varios hashes a la vez
+     * Las implementaciones JPA lo resuelven en una única consulta (findAllById)
+     *
+     * @return veredictos guardados; los hashes nunca analizados no aparecen en el mapa
+     */
+    default Map<DnaHash, StoredVerdict> findVerdicts(Collection<DnaHash> dnaHashes) {
+        Map<DnaHash, StoredVerdict> verdicts = new HashMap<>();
+        for (DnaHash dnaHash : dnaHashes) {
+            findVerdict(dnaHash).ifPresent(verdict -> verdicts.put(dnaHash, verdict));
+        }
+        return verdicts;
+    }
+
+    /**
+     * Guarda el veredicto de un ADN nuevo
+     *
+     * @param packedDna copia compacta del ADN para verificar colisiones, o null
+     */
+    void save(DnaHash dnaHash, boolean isMutant, int sequenceSize, byte[] packedDna);
+
+    /**
+     * Guarda el veredicto solo si el hash no existe
+     * Las implementaciones JPA lo resuelven en una única sentencia; la versión por defecto
+     * consulta y luego guarda
+     *
+     * @return true si se insertó, false si el hash ya estaba guardado
+     */
+    default boolean insertIfAbsent(DnaHash dnaHash, boolean isMutant, int sequenceSize, byte[] packedDna) {
+        if (findVerdict(dnaHash).isPresent()) {
+            return false;
+        }
+        save(dnaHash, isMutant, sequenceSize, packedDna);
+        return true;
+    }
+
+    /**
+     * Guarda varios veredictos nuevos en la transacción actual
+     * Las implementaciones JPA los envían en batches JDBC (hibernate.jdbc.batch_size) y
+     * fallan si algún hash ya existe; la versión por defecto inserta uno por uno con
+     * insertIfAbsent y saltea los existentes
+     *
+     * @return veredictos efectivamente insertados (los que se cuentan en /stats)
+     */
+    default List<NewVerdict> saveAll(List<NewVerdict> verdicts) {
+        List<NewVerdict> inserted = new ArrayList<>(verdicts.size());
+        for (NewVerdict verdict : verdicts) {
+            if (insertIfAbsent(verdict.getDnaHash(), verdict.isMutant(),
+                    verdict.getSequenceSize(), verdict.getPackedDna())) {
+                inserted.add(verdict);
+            }
+        }
+        return inserted;
+    }
+
+    /**
+     * Escribe lo que esté pendiente en memoria; sin efecto si save() escribe directamente
+     */
+    default void flush() {
+    }
+
+    /**
+     * Recorre todos los hashes guardados por páginas ordenadas por clave (keyset),
+     * sin cargar el resto de cada registro
+     */
+    void scanHashes(int pageSize, Consumer<DnaHash> consumer);
+
+    long count();
+
+    long countMutants();
+
+    long countHumans();
+}
@@ -0,0 +1,167 @@
+package com.mercadolibre.mutant.infrastructure.cache;
+
+import com.mercadolibre.mutant.domain.hash.DnaHash;
+import com.mercadolibre.mutant.domain.repository.VerdictStore;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Filtro de Bloom sobre todos los hashes de ADN guardados
+ *
+ * Responde "seguro que no está" sin round trip a la BD. Los hashes ya son uniformes
+ * (SHA-256 o Murmur3), así que las k posiciones salen de sus dos primeros long por
+ * doble hashing (h1 + i·h2), sin volver a hashear.
+ *
+ * - Se carga al arrancar recorriendo la columna de claves (keyset) en un hilo aparte;
+ *   hasta terminar responde "puede estar" (nunca da falsos negativos)
+ * - Los inserts se agregan en el mismo arreglo de bits durante y después de la carga
+ * - Métricas: "dna.bloom.bits", "dna.bloom.items", "dna.bloom.fpp" (estimada),
+ *   "dna.bloom.rebuild.time" y "dna.bloom.lookups.skipped"
+ */
+@Component
+@ConditionalOnProperty(name = "mutant.bloom.enabled", havingValue = "true")
+@Slf4j
+public class DnaBloomFilter {
+
+    static final String SKIPPED_METRIC = "dna.bloom.lookups.skipped";
+
+    private final AtomicLongArray words;
+    private final long bitCount;
+    private final int hashFunctions;
+    private final int scanPageSize;
+    private final ObjectProvider<VerdictStore> verdictStore;
+
+    private final LongAdder items = new LongAdder();
+    private final Counter skipped;
+    private volatile boolean loaded;
+    private volatile long rebuildNanos;
+
+    public DnaBloomFilter(@Value("${mutant.bloom.expected-insertions:10000000}") long expectedInsertions,
+                          @Value("${mutant.bloom.fpp:0.01}") double fpp,
+                          @Value("${mutant.bloom.scan-page-size:10000}") int scanPageSize,
+                          ObjectProvider<VerdictStore> verdictStore,
+                          MeterRegistry meterRegistry) {
+        if (expectedInsertions < 1 || fpp <= 0 || fpp >= 1) {
+            throw new IllegalArgumentException("Bloom filter needs expected insertions > 0 and 0 < fpp < 1");
+        }
+        // m = -n·ln(p) / ln(2)², k = m/n·ln(2)
+        long bits = (long) Math.ceil(-expectedInsertions * Math.log(fpp) / (Math.log(2) * Math.log(2)));
+        int wordCount = Math.toIntExact((bits + 63) / 64);
+        this.words = new AtomicLongArray(wordCount);
+        this.bitCount = wordCount * 64L;
+        this.hashFunctions = Math.max(1, (int) Math.round((double) bitCount / expectedInsertions * Math.log(2)));
+        this.scanPageSize = scanPageSize;
+        this.verdictStore = verdictStore;
+
+        this.skipped = Counter.builder(SKIPPED_METRIC)
+                .description("Búsquedas de hash evitadas porque el filtro de Bloom descartó el ADN")
+                .register(meterRegistry);
+        Gauge.builder("dna.bloom.bits", this, filter -> filter.bitCount)
+                .description("Tamaño del filtro de Bloom en bits")
+                .register(meterRegistry);
+        Gauge.builder("dna.bloom.items", items, LongAdder::sum)
+                .description("Hashes agregados al filtro de Bloom")
+                .register(meterRegistry);
+        Gauge.builder("dna.bloom.fpp", this, DnaBloomFilter::expectedFpp)
+                .description("Tasa de falsos positivos estimada con los hashes actuales")
+                .register(meterRegistry);
+        TimeGauge.builder("dna.bloom.rebuild.time", this, TimeUnit.NANOSECONDS, filter -> filter.rebuildNanos)
+                .description("Duración de la última carga del filtro desde la BD")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Carga en segundo plano para no demorar el arranque
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadAsync() {
+        Thread loader = new Thread(this::load, "dna-bloom-loader");
+        loader.setDaemon(true);
+        loader.start();
+    }
+
+    /**
+     * Agrega todos los hashes guardados
+     */
+    public void load() {
+        long start = System.nanoTime();
+        try {
+            verdictStore.getObject().scanHashes(scanPageSize, this::put);
+        } catch (RuntimeException e) {
+            log.error("Bloom filter load failed, every hash is treated as possibly stored", e);
+            return;
+        }
+        rebuildNanos = System.nanoTime() - start;
+        loaded = true;
+        log.info("Bloom filter loaded - {} hashes, {} bits, k={}, estimated fpp {} in {} ms",
+                 items.sum(), bitCount, hashFunctions, String.format("%.4f", expectedFpp()),
+                 TimeUnit.NANOSECONDS.toMillis(rebuildNanos));
+    }
+
+    public void put(DnaHash dnaHash) {
+        long h1 = dnaHash.low();
+        long h2 = dnaHash.high();
+        for (int i = 0; i < hashFunctions; i++) {
+            setBit(Math.floorMod(h1 + i * h2, bitCount));
+        }
+        items.increment();
+    }
+
+    /**
+     * @return false solo si el hash seguro no está guardado (y la carga ya terminó)
+     */
+    public boolean mightContain(DnaHash dnaHash) {
+        if (!loaded) {
+            return true;
+        }
+        long h1 = dnaHash.low();
+        long h2 = dnaHash.high();
+        for (int i = 0; i < hashFunctions; i++) {
+            if (!getBit(Math.floorMod(h1 + i * h2, bitCount))) {
+                skipped.increment();
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public boolean isLoaded() {
+        return loaded;
+    }
+
+    /**
+     * (1 - e^(-k·n/m))^k con los hashes agregados hasta ahora
+     */
+    public double expectedFpp() {
+        return Math.pow(1 - Math.exp(-hashFunctions * (double) items.sum() / bitCount), hashFunctions);
+    }
+
+    private void setBit(long index) {
+        int word = (int) (index >>> 6);
+        long mask = 1L << index;
+        long current;
+        do {
+            current = words.get(word);
+            if ((current & mask) != 0) {
+                return;
+            }
+        } while (!words.compareAndSet(word, current, current | mask));
+    }
+
+    private boolean getBit(long index) {
+        return (words.get((int) (index >>> 6)) & (1L << index)) != 0;
+    }
+}
@@ -0,0 +1,103 @@
+package com.mercadolibre.mutant.infrastructure.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.mercadolibre.mutant.domain.hash.DnaHash;
+import com.mercadolibre.mutant.domain.repository.StoredVerdict;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+
+/**
+ * Caché en memoria de veredictos (mutante/humano) por hash de ADN
+ *
+ * Se consulta antes del repositorio para evitar el round trip a la BD, la transacción
+ * y la hidratación de la entidad en ADN repetidos.
+ *
+ * - Caffeine (W-TinyLFU) con límite de tamaño y expiración por TTL
+ * - Con mutant.hash.verify-collisions cada entrada guarda la copia compacta del ADN
+ *   (N²/4 bytes, unos 250 KB con N=1000): el límite es por peso y no por cantidad. El
+ *   presupuesto {@code mutant.cache.max-dna-bytes} se reparte en max-size unidades, y cada
+ *   entrada pesa las unidades que ocupa su copia compacta (mínimo 1). Así se respetan a la
+ *   vez el máximo de entradas y el de bytes de ADN.
+ * - Métricas hit/miss/eviction publicadas en Micrometer como "dna.verdicts"
+ */
+@Component
+public class DnaVerdictCache {
+
+    static final String CACHE_NAME = "dna.verdicts";
+
+    static final long DEFAULT_MAX_DNA_BYTES = 64L * 1024 * 1024;
+
+    private final Cache<DnaHash, StoredVerdict> cache;
+
+    public DnaVerdictCache(long maxSize, Duration ttl, MeterRegistry meterRegistry) {
+        this(maxSize, DEFAULT_MAX_DNA_BYTES, ttl, meterRegistry);
+    }
+
+    @Autowired
+    public DnaVerdictCache(@Value("${mutant.cache.max-size:100000}") long maxSize,
+                           @Value("${mutant.cache.max-dna-bytes:67108864}") long maxDnaBytes,
+                           @Value("${mutant.cache.ttl:PT1H}") Duration ttl,
+                           MeterRegistry meterRegistry) {
+        long bytesPerUnit = Math.max(1, maxDnaBytes / Math.max(1, maxSize));
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(maxSize)
+                .weigher((DnaHash dnaHash, StoredVerdict verdict) -> weight(verdict, bytesPerUnit))
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    /**
+     * @return veredicto cacheado o null si no está
+     */
+    public StoredVerdict get(DnaHash dnaHash) {
+        return cache.getIfPresent(dnaHash);
+    }
+
+    /**
+     * Guarda el veredicto. Si hay una transacción activa se difiere hasta el commit,
+     * para no servir desde caché un registro que nunca llegó a la BD.
+     */
+    public void put(DnaHash dnaHash, StoredVerdict verdict) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    cache.put(dnaHash, verdict);
+                }
+            });
+        } else {
+            cache.put(dnaHash, verdict);
+        }
+    }
+
+    public CacheStats stats() {
+        return cache.stats();
+    }
+
+    /**
+     * Entradas tras aplicar los desalojos pendientes
+     */
+    long size() {
+        cache.cleanUp();
+        return cache.estimatedSize();
+    }
+
+    private static int weight(StoredVerdict verdict, long bytesPerUnit) {
+        byte[] packedDna = verdict.getPackedDna();
+        if (packedDna == null) {
+            return 1;
+        }
+        return (int) Math.max(1, (packedDna.length + bytesPerUnit - 1) / bytesPerUnit);
+    }
+}
@@ -0,0 +1,81 @@
+package com.mercadolibre.mutant.infrastructure.controller;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.mercadolibre.mutant.application.dto.DnaRequest;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Lector del cuerpo de POST /mutant/batch
+ *
+ * Acepta un array JSON [{"dna": [...]}, ...] o NDJSON (un {"dna": [...]} por línea).
+ * Los ítems se leen de a uno desde el parser y se corta en cuanto el lote supera
+ * {@code mutant.batch.max-size}, sin leer el resto del cuerpo.
+ */
+@Component
+public class DnaBatchReader {
+
+    private final ObjectReader itemReader;
+    private final int maxSize;
+
+    public DnaBatchReader(ObjectMapper objectMapper,
+                          @Value("${mutant.batch.max-size:1000}") int maxSize) {
+        this.itemReader = objectMapper.readerFor(DnaRequest.class);
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * @throws IllegalArgumentException si el JSON es inválido, el lote está vacío o es demasiado grande (400)
+     */
+    public List<DnaRequest> readJsonArray(InputStream body) throws IOException {
+        try (JsonParser parser = itemReader.getFactory().createParser(body)) {
+            if (parser.nextToken() != JsonToken.START_ARRAY) {
+                throw new IllegalArgumentException("Request body must be a JSON array");
+            }
+            // El iterador toma los elementos del array y termina en END_ARRAY
+            parser.clearCurrentToken();
+            return readItems(itemReader.readValues(parser));
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Malformed JSON request body", e);
+        }
+    }
+
+    /**
+     * @throws IllegalArgumentException si alguna línea es inválida, el lote está vacío o es demasiado grande (400)
+     */
+    public List<DnaRequest> readNdjson(InputStream body) throws IOException {
+        try {
+            return readItems(itemReader.readValues(body));
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Malformed NDJSON request body", e);
+        }
+    }
+
+    private List<DnaRequest> readItems(MappingIterator<DnaRequest> items) throws IOException {
+        try (items) {
+            List<DnaRequest> batch = new ArrayList<>();
+            while (items.hasNextValue()) {
+                if (batch.size() == maxSize) {
+                    throw new IllegalArgumentException(
+                        String.format("Batch exceeds the maximum size of %d DNA sequences", maxSize));
+                }
+                DnaRequest item = items.nextValue();
+                batch.add(item != null ? item : new DnaRequest());
+            }
+            if (batch.isEmpty()) {
+                throw new IllegalArgumentException("Batch cannot be empty");
+            }
+            return batch;
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package com.mercadolibre.mutant.infrastructure.controller;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mercadolibre.mutant.application.service.DnaStreamAnalysis;
+import com.mercadolibre.mutant.domain.hash.DnaHasher;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Lector por streaming del cuerpo {"dna": [...]} de POST /mutant/stream
+ *
+ * Recorre los tokens JSON y entrega cada fila directamente desde el buffer del parser
+ * a {@link DnaStreamAnalysis}, sin crear un String por fila ni el String[] intermedio.
+ * Los campos desconocidos se ignoran, igual que en el binding de {@code DnaRequest}; un
+ * campo "dna" repetido se rechaza.
+ */
+@Component
+public class DnaStreamReader {
+
+    private static final String DNA_FIELD = "dna";
+
+    private final JsonFactory jsonFactory;
+    private final DnaHasher dnaHasher;
+    private final boolean verifyCollisions;
+
+    public DnaStreamReader(ObjectMapper objectMapper,
+                           DnaHasher dnaHasher,
+                           @Value("${mutant.hash.verify-collisions:false}") boolean verifyCollisions) {
+        this.jsonFactory = objectMapper.getFactory();
+        this.dnaHasher = dnaHasher;
+        this.verifyCollisions = verifyCollisions;
+    }
+
+    /**
+     * Lee el cuerpo completo y devuelve el análisis ya cerrado (matriz NxN verificada)
+     *
+     * @throws IllegalArgumentException si el JSON o el ADN son inválidos (400)
+     */
+    public DnaStreamAnalysis read(InputStream body) throws IOException {
+        DnaStreamAnalysis analysis = new DnaStreamAnalysis(dnaHasher, verifyCollisions);
+        boolean dnaFound = false;
+
+        try (JsonParser parser = jsonFactory.createParser(body)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new IllegalArgumentException("Request body must be a JSON object");
+            }
+
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                JsonToken value = parser.nextToken();
+
+                if (!DNA_FIELD.equals(field)) {
+                    parser.skipChildren();
+                    continue;
+                }
+                if (dnaFound) {
+                    // Las filas del primero ya se analizaron: no se puede quedar con el último
+                    throw new IllegalArgumentException("Duplicate field 'dna' in request body");
+                }
+                if (value != JsonToken.START_ARRAY) {
+                    throw new IllegalArgumentException("DNA sequence cannot be null or empty");
+                }
+
+                readRows(parser, analysis);
+                dnaFound = true;
+            }
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Malformed JSON request body", e);
+        }
+
+        if (!dnaFound) {
+            throw new IllegalArgumentException("DNA sequence cannot be null or empty");
+        }
+        analysis.finish();
+        return analysis;
+    }
+
+    private void readRows(JsonParser parser, DnaStreamAnalysis analysis) throws IOException {
+        JsonToken token;
+        while ((token = parser.nextToken()) != JsonToken.END_ARRAY) {
+            if (token == null) {
+                throw new IllegalArgumentException("Malformed JSON request body");
+            }
+            if (token != JsonToken.VALUE_STRING) {
+                throw new IllegalArgumentException("DNA sequence row cannot be null");
+            }
+            analysis.acceptRow(parser.getTextCharacters(), parser.getTextOffset(), parser.getTextLength());
+        }
+    }
+}
@@ -1,7 +1,11 @@
 package com.mercadolibre.mutant.infrastructure.controller;
 
+import com.mercadolibre.mutant.application.dto.DnaBatchResponse;
+import com.mercadolibre.mutant.application.dto.DnaBatchResult;
 import com.mercadolibre.mutant.application.dto.DnaRequest;
 import com.mercadolibre.mutant.application.dto.StatsResponse;
+import com.mercadolibre.mutant.application.service.DnaStreamAnalysis;
+import com.mercadolibre.mutant.application.service.MutantBatchService;
 import com.mercadolibre.mutant.application.service.MutantService;
 import com.mercadolibre.mutant.application.service.StatsService;
 import io.swagger.v3.oas.annotations.Operation;
@@ -11,7 +15,9 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.ConstraintViolation;
 import jakarta.validation.Valid;
+import jakarta.validation.Validator;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
@@ -19,11 +25,20 @@ import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
 /**
  * Controlador REST para detección de mutantes
  * 
  * Endpoints:
  * - POST /mutant: Analiza ADN y retorna 200 (mutante) o 403 (humano)
+ * - POST /mutant/stream: Mismo contrato, leyendo el cuerpo por streaming
+ * - POST /mutant/batch: Lote de ADN (array JSON o NDJSON), un veredicto por ítem
  * - GET /stats: Retorna estadísticas de verificaciones
  */
 @RestController
@@ -34,6 +49,10 @@ public class MutantController {
 
     private final MutantService mutantService;
     private final StatsService statsService;
+    private final DnaStreamReader dnaStreamReader;
+    private final MutantBatchService mutantBatchService;
+    private final DnaBatchReader dnaBatchReader;
+    private final Validator validator;
 
     /**
      * Endpoint POST /mutant
@@ -92,19 +111,117 @@ public class MutantController {
         )
     )
     public ResponseEntity<Void> isMutant(@Valid @RequestBody DnaRequest request) {
-        log.info("POST /mutant - Analyzing DNA sequence of size: {}", request.getDna().length);
+        log.debug("POST /mutant - Analyzing DNA sequence of size: {}", request.getDna().length);
         
         boolean isMutant = mutantService.isMutant(request.getDna());
         
         if (isMutant) {
-            log.info("Result: MUTANT detected");
+            log.debug("Result: MUTANT detected");
             return ResponseEntity.ok().build();
         } else {
-            log.info("Result: HUMAN (not mutant)");
+            log.debug("Result: HUMAN (not mutant)");
             return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
         }
     }
 
+    /**
+     * Endpoint POST /mutant/stream
+     * Mismo contrato que POST /mutant (200/403/400), pero el cuerpo se lee por streaming:
+     * cada fila se valida, analiza y agrega al hash directamente desde el parser JSON,
+     * sin construir el String[] de {@link DnaRequest}
+     * 
+     * @param body Cuerpo JSON {"dna": [...]}
+     * @return 200 OK si es mutante, 403 FORBIDDEN si es humano
+     */
+    @PostMapping(value = "/mutant/stream", 
+                 consumes = MediaType.APPLICATION_JSON_VALUE,
+                 produces = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(
+        summary = "Detectar si un humano es mutante (ingesta por streaming)",
+        description = "Igual que POST /mutant, pero procesa el ADN fila por fila mientras se lee el cuerpo. " +
+                      "Recomendado para matrices grandes."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Es mutante", 
+                     content = @Content(mediaType = "application/json")),
+        @ApiResponse(responseCode = "403", description = "No es mutante - Es un humano normal", 
+                     content = @Content(mediaType = "application/json")),
+        @ApiResponse(responseCode = "400", description = "Datos inválidos", 
+                     content = @Content(mediaType = "application/json", 
+                                        schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    @io.swagger.v3.oas.annotations.parameters.RequestBody(
+        description = "Secuencia de ADN a analizar",
+        required = true,
+        content = @Content(mediaType = "application/json", schema = @Schema(implementation = DnaRequest.class))
+    )
+    public ResponseEntity<Void> isMutantStream(InputStream body) throws IOException {
+        DnaStreamAnalysis analysis = dnaStreamReader.read(body);
+        
+        log.debug("POST /mutant/stream - Analyzed DNA sequence of size: {}", analysis.getSize());
+        
+        boolean isMutant = mutantService.isMutantFromStream(analysis);
+        
+        if (isMutant) {
+            log.debug("Result: MUTANT detected");
+            return ResponseEntity.ok().build();
+        } else {
+            log.debug("Result: HUMAN (not mutant)");
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+        }
+    }
+
+    /**
+     * Endpoint POST /mutant/batch
+     * Analiza un lote de ADN en un solo request: una consulta multi-clave, detección en
+     * paralelo de los nuevos y un único insert por batch
+     * 
+     * @param body Array JSON [{"dna": [...]}, ...]
+     * @return 200 OK con el veredicto de cada ADN; los inválidos llevan su error
+     */
+    @PostMapping(value = "/mutant/batch", 
+                 consumes = MediaType.APPLICATION_JSON_VALUE,
+                 produces = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(
+        summary = "Detectar mutantes en lote",
+        description = "Recibe un array de {\"dna\": [...]} (o NDJSON con Content-Type application/x-ndjson) " +
+                      "y retorna un resultado por ADN en el mismo orden. Un ADN inválido no invalida el lote."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Lote analizado", 
+                     content = @Content(mediaType = "application/json", 
+                                        schema = @Schema(implementation = DnaBatchResponse.class))),
+        @ApiResponse(responseCode = "400", description = "Cuerpo inválido, lote vacío o demasiado grande", 
+                     content = @Content(mediaType = "application/json", 
+                                        schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    @io.swagger.v3.oas.annotations.parameters.RequestBody(
+        description = "Lote de secuencias de ADN",
+        required = true,
+        content = @Content(
+            mediaType = "application/json",
+            examples = @ExampleObject(
+                name = "Lote",
+                value = "[{\"dna\":[\"ATGCGA\",\"CAGTGC\",\"TTATGT\",\"AGAAGG\",\"CCCCTA\",\"TCACTG\"]}," +
+                        "{\"dna\":[\"ATGCGA\",\"CAGTGC\",\"TTATGT\",\"AGAAGG\",\"CCCTTA\",\"TCACTG\"]}]"
+            )
+        )
+    )
+    public ResponseEntity<DnaBatchResponse> isMutantBatch(InputStream body) throws IOException {
+        return ResponseEntity.ok(analyzeBatch(dnaBatchReader.readJsonArray(body)));
+    }
+
+    /**
+     * Endpoint POST /mutant/batch con NDJSON: un {"dna": [...]} por línea
+     */
+    @PostMapping(value = "/mutant/batch", 
+                 consumes = MediaType.APPLICATION_NDJSON_VALUE,
+                 produces = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(hidden = true)
+    public ResponseEntity<DnaBatchResponse> isMutantBatchNdjson(InputStream body) throws IOException {
+        return ResponseEntity.ok(analyzeBatch(dnaBatchReader.readNdjson(body)));
+    }
+
     /**
      * Endpoint GET /stats
      * Retorna estadísticas de las verificaciones de ADN
@@ -132,15 +249,63 @@ public class MutantController {
         )
     })
     public ResponseEntity<StatsResponse> getStats() {
-        log.info("GET /stats - Retrieving statistics");
+        log.debug("GET /stats - Retrieving statistics");
         
         StatsResponse stats = statsService.getStats();
         
-        log.info("Stats: Mutants={}, Humans={}, Ratio={}", 
+        log.debug("Stats: Mutants={}, Humans={}, Ratio={}", 
                  stats.getCountMutantDna(), 
                  stats.getCountHumanDna(), 
                  stats.getRatio());
         
         return ResponseEntity.ok(stats);
     }
+
+    /**
+     * Valida cada ítem con @ValidDna y analiza juntos los válidos
+     */
+    private DnaBatchResponse analyzeBatch(List<DnaRequest> batch) {
+        log.info("POST /mutant/batch - Analyzing batch of {} DNA sequences", batch.size());
+        
+        DnaBatchResult[] results = new DnaBatchResult[batch.size()];
+        List<Integer> validIndexes = new ArrayList<>(batch.size());
+        List<String[]> validDnas = new ArrayList<>(batch.size());
+        
+        for (int i = 0; i < batch.size(); i++) {
+            Set<ConstraintViolation<DnaRequest>> violations = validator.validate(batch.get(i));
+            if (violations.isEmpty()) {
+                validIndexes.add(i);
+                validDnas.add(batch.get(i).getDna());
+            } else {
+                results[i] = DnaBatchResult.builder()
+                        .index(i)
+                        .error(violations.stream()
+                                .map(ConstraintViolation::getMessage)
+                                .collect(Collectors.joining(", ")))
+                        .build();
+            }
+        }
+        
+        long mutants = 0;
+        if (!validDnas.isEmpty()) {
+            boolean[] verdicts = mutantBatchService.isMutantBatch(validDnas);
+            for (int k = 0; k < verdicts.length; k++) {
+                int i = validIndexes.get(k);
+                results[i] = DnaBatchResult.builder().index(i).mutant(verdicts[k]).build();
+                if (verdicts[k]) {
+                    mutants++;
+                }
+            }
+        }
+        
+        log.info("Batch result: Mutants={}, Humans={}, Invalid={}", 
+                 mutants, validDnas.size() - mutants, batch.size() - validDnas.size());
+        
+        return DnaBatchResponse.builder()
+                .countMutantDna(mutants)
+                .countHumanDna(validDnas.size() - mutants)
+                .countInvalidDna((long) (batch.size() - validDnas.size()))
+                .results(List.of(results))
+                .build();
+    }
 }
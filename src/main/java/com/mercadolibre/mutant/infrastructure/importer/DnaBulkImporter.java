@@ -0,0 +1,287 @@
+package com.mercadolibre.mutant.infrastructure.importer;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.mercadolibre.mutant.application.dto.DnaRequest;
+import com.mercadolibre.mutant.application.service.MutantBatchService;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Importación masiva de ADN desde un archivo NDJSON ({"dna": [...]} por línea)
+ *
+ * El archivo se lee en bloques de {@code batchSize} líneas; cada bloque se valida, analiza
+ * y guarda en un worker del pool con {@link MutantBatchService} (una consulta multi-clave,
+ * detección en paralelo y saveAll en batch JDBC), igual que POST /mutant/batch.
+ *
+ * - Checkpoint: offset en bytes de la primera línea no confirmada. Se escribe en orden
+ *   (solo cuando todos los bloques anteriores terminaron) y permite reanudar tras un corte
+ * - Las líneas inválidas se omiten y se cuentan, sin detener la importación
+ * - Como mucho 2 bloques por worker en memoria a la vez
+ */
+@Slf4j
+public class DnaBulkImporter {
+
+    private final MutantBatchService batchService;
+    private final ObjectReader lineReader;
+    private final Validator validator;
+    private final int batchSize;
+    private final int workers;
+    private final Duration progressInterval;
+
+    public DnaBulkImporter(MutantBatchService batchService,
+                           ObjectMapper objectMapper,
+                           Validator validator,
+                           int batchSize,
+                           int workers,
+                           Duration progressInterval) {
+        if (batchSize < 1 || workers < 1) {
+            throw new IllegalArgumentException("Batch size and workers must be positive");
+        }
+        this.batchService = batchService;
+        this.lineReader = objectMapper.readerFor(DnaRequest.class);
+        this.validator = validator;
+        this.batchSize = batchSize;
+        this.workers = workers;
+        this.progressInterval = progressInterval;
+    }
+
+    /**
+     * Importa el archivo desde el offset guardado en el checkpoint (o desde el inicio)
+     *
+     * @param checkpoint archivo con el offset confirmado; se crea si no existe
+     */
+    public ImportReport importFile(Path file, Path checkpoint) throws IOException {
+        long offset = readCheckpoint(checkpoint);
+        log.info("Importing {} from byte offset {} - batch size: {}, workers: {}",
+                 file, offset, batchSize, workers);
+
+        Progress progress = new Progress(System.nanoTime());
+        ExecutorService pool = Executors.newFixedThreadPool(workers);
+        Deque<Future<ChunkResult>> inFlight = new ArrayDeque<>();
+
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            channel.position(offset);
+            LineReader lines = new LineReader(
+                    new BufferedInputStream(Channels.newInputStream(channel), 1 << 16), offset);
+
+            Chunk chunk;
+            while ((chunk = lines.nextChunk(batchSize)) != null) {
+                Chunk current = chunk;
+                inFlight.add(pool.submit(() -> process(current)));
+                if (inFlight.size() >= workers * 2) {
+                    confirm(inFlight.poll(), checkpoint, progress);
+                }
+            }
+            while (!inFlight.isEmpty()) {
+                confirm(inFlight.poll(), checkpoint, progress);
+            }
+        } finally {
+            inFlight.forEach(pending -> pending.cancel(true));
+            pool.shutdownNow();
+        }
+
+        ImportReport report = progress.report(System.nanoTime());
+        log.info("Import finished - Rows: {}, Mutants: {}, Invalid: {}, {} rows/s, offset {}",
+                 report.getImported(), report.getMutants(), report.getInvalid(),
+                 String.format("%.0f", report.rowsPerSecond()), report.getEndOffset());
+        return report;
+    }
+
+    /**
+     * Espera el bloque más antiguo y avanza el checkpoint hasta su final
+     */
+    private void confirm(Future<ChunkResult> future, Path checkpoint, Progress progress) throws IOException {
+        ChunkResult result;
+        try {
+            result = future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Import interrupted", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Import failed after byte offset " + progress.endOffset
+                    + ", resume from the checkpoint", e.getCause());
+        }
+
+        writeCheckpoint(checkpoint, result.endOffset);
+        progress.add(result);
+
+        long now = System.nanoTime();
+        if (now - progress.loggedAt >= progressInterval.toNanos()) {
+            progress.loggedAt = now;
+            ImportReport report = progress.report(now);
+            log.info("Import progress - Rows: {}, Invalid: {}, {} rows/s, offset {}",
+                     report.getImported(), report.getInvalid(),
+                     String.format("%.0f", report.rowsPerSecond()), report.getEndOffset());
+        }
+    }
+
+    private ChunkResult process(Chunk chunk) {
+        List<String[]> valid = new ArrayList<>(chunk.lines.size());
+        long invalid = 0;
+
+        for (int i = 0; i < chunk.lines.size(); i++) {
+            String[] dna = parse(chunk.lines.get(i));
+            if (dna == null) {
+                invalid++;
+                log.warn("Invalid DNA line skipped at byte offset {}", chunk.lineOffsets[i]);
+            } else {
+                valid.add(dna);
+            }
+        }
+
+        long mutants = 0;
+        if (!valid.isEmpty()) {
+            for (boolean isMutant : batchService.isMutantBatch(valid)) {
+                if (isMutant) {
+                    mutants++;
+                }
+            }
+        }
+        return new ChunkResult(chunk.endOffset, valid.size(), mutants, invalid);
+    }
+
+    /**
+     * @return ADN válido (mismas reglas que @ValidDna) o null si la línea es inválida
+     */
+    private String[] parse(byte[] line) {
+        try {
+            DnaRequest request = lineReader.readValue(line);
+            if (request == null || !validator.validate(request).isEmpty()) {
+                return null;
+            }
+            return request.getDna();
+        } catch (JsonProcessingException e) {
+            return null;
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    static long readCheckpoint(Path checkpoint) throws IOException {
+        if (!Files.exists(checkpoint)) {
+            return 0;
+        }
+        String content = Files.readString(checkpoint, StandardCharsets.US_ASCII).trim();
+        return content.isEmpty() ? 0 : Long.parseLong(content);
+    }
+
+    /**
+     * Escritura atómica: un corte a mitad nunca deja un checkpoint truncado
+     */
+    private static void writeCheckpoint(Path checkpoint, long offset) throws IOException {
+        Path tmp = checkpoint.resolveSibling(checkpoint.getFileName() + ".tmp");
+        Files.writeString(tmp, Long.toString(offset), StandardCharsets.US_ASCII);
+        Files.move(tmp, checkpoint, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    private record Chunk(List<byte[]> lines, long[] lineOffsets, long endOffset) {
+    }
+
+    private record ChunkResult(long endOffset, long imported, long mutants, long invalid) {
+    }
+
+    private static final class Progress {
+        private final long startedAt;
+        private long loggedAt;
+        private long imported;
+        private long mutants;
+        private long invalid;
+        private long endOffset;
+
+        Progress(long startedAt) {
+            this.startedAt = startedAt;
+            this.loggedAt = startedAt;
+        }
+
+        void add(ChunkResult result) {
+            imported += result.imported;
+            mutants += result.mutants;
+            invalid += result.invalid;
+            endOffset = result.endOffset;
+        }
+
+        ImportReport report(long now) {
+            return new ImportReport(imported, mutants, invalid, endOffset, now - startedAt);
+        }
+    }
+
+    /**
+     * Lee líneas como bytes (Jackson parsea UTF-8 directamente) y lleva el offset en el archivo
+     */
+    private static final class LineReader {
+        private final InputStream in;
+        private long position;
+        private byte[] buffer = new byte[256];
+
+        LineReader(InputStream in, long position) {
+            this.in = in;
+            this.position = position;
+        }
+
+        /**
+         * @return hasta maxLines líneas no vacías, o null al final del archivo
+         */
+        Chunk nextChunk(int maxLines) throws IOException {
+            List<byte[]> lines = new ArrayList<>(maxLines);
+            long[] offsets = new long[maxLines];
+            while (lines.size() < maxLines) {
+                long lineStart = position;
+                byte[] line = nextLine();
+                if (line == null) {
+                    break;
+                }
+                if (line.length > 0) {
+                    offsets[lines.size()] = lineStart;
+                    lines.add(line);
+                }
+            }
+            return lines.isEmpty() ? null : new Chunk(lines, offsets, position);
+        }
+
+        private byte[] nextLine() throws IOException {
+            int length = 0;
+            int b;
+            while ((b = in.read()) != -1) {
+                position++;
+                if (b == '\n') {
+                    return trimmed(length);
+                }
+                if (length == buffer.length) {
+                    buffer = Arrays.copyOf(buffer, length * 2);
+                }
+                buffer[length++] = (byte) b;
+            }
+            return length == 0 ? null : trimmed(length);
+        }
+
+        private byte[] trimmed(int length) {
+            while (length > 0 && (buffer[length - 1] == '\r' || buffer[length - 1] == ' ')) {
+                length--;
+            }
+            return Arrays.copyOf(buffer, length);
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package com.mercadolibre.mutant.infrastructure.importer;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mercadolibre.mutant.application.service.MutantBatchService;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * Modo línea de comandos para precargar dna_records desde un archivo NDJSON
+ *
+ * Se activa con el perfil {@code import} (sin servidor web, ver application-import.properties):
+ * <pre>
+ * java -jar mutant-detector.jar --spring.profiles.active=import --mutant.import.file=dna.ndjson
+ * </pre>
+ * Al terminar, {@link com.mercadolibre.mutant.MutantDetectorApplication} cierra la aplicación.
+ */
+@Component
+@Profile(DnaImportRunner.PROFILE)
+@Slf4j
+public class DnaImportRunner implements ApplicationRunner {
+
+    public static final String PROFILE = "import";
+
+    private final DnaBulkImporter importer;
+    private final Path file;
+    private final Path checkpoint;
+
+    public DnaImportRunner(MutantBatchService batchService,
+                           ObjectMapper objectMapper,
+                           Validator validator,
+                           @Value("${mutant.import.file}") Path file,
+                           @Value("${mutant.import.checkpoint-file:}") String checkpoint,
+                           @Value("${mutant.import.batch-size:1000}") int batchSize,
+                           @Value("${mutant.import.workers:0}") int workers,
+                           @Value("${mutant.import.progress-interval:PT10S}") Duration progressInterval) {
+        this.file = file;
+        this.checkpoint = checkpoint.isBlank()
+                ? file.resolveSibling(file.getFileName() + ".checkpoint")
+                : Path.of(checkpoint);
+        // 0: un worker por core
+        int poolSize = workers > 0 ? workers : Runtime.getRuntime().availableProcessors();
+        this.importer = new DnaBulkImporter(batchService, objectMapper, validator,
+                batchSize, poolSize, progressInterval);
+    }
+
+    @Override
+    public void run(ApplicationArguments args) throws IOException {
+        log.info("NDJSON import - file: {}, checkpoint: {}", file, checkpoint);
+        importer.importFile(file, checkpoint);
+    }
+}
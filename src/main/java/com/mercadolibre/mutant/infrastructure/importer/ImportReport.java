@@ -0,0 +1,22 @@
+package com.mercadolibre.mutant.infrastructure.importer;
+
+import lombok.Value;
+
+/**
+ * Resultado de una importación NDJSON (solo lo procesado en esta ejecución)
+ */
+@Value
+public class ImportReport {
+    long imported;
+    long mutants;
+    long invalid;
+    long endOffset;
+    long elapsedNanos;
+
+    /**
+     * @return filas válidas procesadas por segundo
+     */
+    public double rowsPerSecond() {
+        return elapsedNanos == 0 ? 0 : imported * 1_000_000_000.0 / elapsedNanos;
+    }
+}
@@ -0,0 +1,111 @@
+package com.mercadolibre.mutant.infrastructure.persistence;
+
+import com.mercadolibre.mutant.domain.entity.CompactVerificationLog;
+import com.mercadolibre.mutant.domain.entity.DnaKey;
+import com.mercadolibre.mutant.domain.hash.DnaHash;
+import com.mercadolibre.mutant.domain.repository.CompactDnaRepository;
+import com.mercadolibre.mutant.domain.repository.NewVerdict;
+import com.mercadolibre.mutant.domain.repository.StoredVerdict;
+import com.mercadolibre.mutant.domain.repository.VerdictStore;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+/**
+ * VerdictStore sobre dna_records_bin con los primeros 128 bits del hash como clave
+ *
+ * No construye el String hexadecimal en ningún momento del request.
+ */
+@RequiredArgsConstructor
+public class BinaryKeyVerdictStore implements VerdictStore {
+
+    private final CompactDnaRepository compactDnaRepository;
+
+    static DnaKey keyOf(DnaHash dnaHash) {
+        return new DnaKey(dnaHash.high(), dnaHash.low());
+    }
+
+    @Override
+    public Optional<StoredVerdict> findVerdict(DnaHash dnaHash) {
+        return compactDnaRepository.findById(keyOf(dnaHash))
+                .map(record -> new StoredVerdict(record.getIsMutant(), record.getDnaPacked()));
+    }
+
+    @Override
+    public Map<DnaHash, StoredVerdict> findVerdicts(Collection<DnaHash> dnaHashes) {
+        Map<DnaKey, DnaHash> byKey = new HashMap<>();
+        for (DnaHash dnaHash : dnaHashes) {
+            byKey.put(keyOf(dnaHash), dnaHash);
+        }
+        Map<DnaHash, StoredVerdict> verdicts = new HashMap<>();
+        for (CompactVerificationLog record : compactDnaRepository.findAllById(byKey.keySet())) {
+            verdicts.put(byKey.get(record.getKey()),
+                    new StoredVerdict(record.getIsMutant(), record.getDnaPacked()));
+        }
+        return verdicts;
+    }
+
+    @Override
+    public void save(DnaHash dnaHash, boolean isMutant, int sequenceSize, byte[] packedDna) {
+        compactDnaRepository.save(CompactVerificationLog.builder()
+                .key(keyOf(dnaHash))
+                .isMutant(isMutant)
+                .sequenceSize(sequenceSize)
+                .dnaPacked(packedDna)
+                .build());
+    }
+
+    @Override
+    public boolean insertIfAbsent(DnaHash dnaHash, boolean isMutant, int sequenceSize, byte[] packedDna) {
+        return compactDnaRepository.insertIfAbsent(dnaHash.high(), dnaHash.low(),
+                isMutant, sequenceSize, packedDna) == 1;
+    }
+
+    /**
+     * Todos o ninguno: un hash existente hace fallar la transacción
+     */
+    @Override
+    public List<NewVerdict> saveAll(List<NewVerdict> verdicts) {
+        compactDnaRepository.saveAll(verdicts.stream()
+                .map(verdict -> CompactVerificationLog.builder()
+                        .key(keyOf(verdict.getDnaHash()))
+                        .isMutant(verdict.isMutant())
+                        .sequenceSize(verdict.getSequenceSize())
+                        .dnaPacked(verdict.getPackedDna())
+                        .build())
+                .toList());
+        return verdicts;
+    }
+
+    @Override
+    public void scanHashes(int pageSize, Consumer<DnaHash> consumer) {
+        List<DnaKey> page = compactDnaRepository.findFirstKeys(PageRequest.of(0, pageSize));
+        while (!page.isEmpty()) {
+            page.forEach(key -> consumer.accept(DnaHash.ofKey(key.getHashHi(), key.getHashLo())));
+            DnaKey last = page.get(page.size() - 1);
+            page = compactDnaRepository.findKeysAfter(last.getHashHi(), last.getHashLo(),
+                    PageRequest.of(0, pageSize));
+        }
+    }
+
+    @Override
+    public long count() {
+        return compactDnaRepository.count();
+    }
+
+    @Override
+    public long countMutants() {
+        return compactDnaRepository.countByIsMutant(true);
+    }
+
+    @Override
+    public long countHumans() {
+        return compactDnaRepository.countByIsMutant(false);
+    }
+}
@@ -0,0 +1,101 @@
+package com.mercadolibre.mutant.infrastructure.persistence;
+
+import com.mercadolibre.mutant.domain.hash.DnaHash;
+import com.mercadolibre.mutant.domain.repository.NewVerdict;
+import com.mercadolibre.mutant.domain.repository.StoredVerdict;
+import com.mercadolibre.mutant.domain.repository.VerdictStore;
+import com.mercadolibre.mutant.infrastructure.cache.DnaBloomFilter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+/**
+ * VerdictStore que consulta el filtro de Bloom antes de ir a la BD
+ *
+ * Un hash que el filtro descarta se responde como "no encontrado" sin round trip:
+ * es el caso de casi todo ADN nuevo. Cada hash guardado se agrega al filtro.
+ */
+@RequiredArgsConstructor
+public class BloomFilterVerdictStore implements VerdictStore {
+
+    private final VerdictStore delegate;
+    private final DnaBloomFilter bloomFilter;
+
+    @Override
+    public Optional<StoredVerdict> findVerdict(DnaHash dnaHash) {
+        return bloomFilter.mightContain(dnaHash) ? delegate.findVerdict(dnaHash) : Optional.empty();
+    }
+
+    /**
+     * Un hash que el filtro no descarta probablemente esté guardado (falsos positivos según fpp)
+     */
+    @Override
+    public boolean isLikelyStored(DnaHash dnaHash) {
+        return bloomFilter.mightContain(dnaHash);
+    }
+
+    /**
+     * Solo los hashes que el filtro no descarta llegan a la consulta multi-clave
+     */
+    @Override
+    public Map<DnaHash, StoredVerdict> findVerdicts(Collection<DnaHash> dnaHashes) {
+        List<DnaHash> candidates = dnaHashes.stream()
+                .filter(bloomFilter::mightContain)
+                .toList();
+        return candidates.isEmpty() ? Map.of() : delegate.findVerdicts(candidates);
+    }
+
+    @Override
+    public void save(DnaHash dnaHash, boolean isMutant, int sequenceSize, byte[] packedDna) {
+        delegate.save(dnaHash, isMutant, sequenceSize, packedDna);
+        bloomFilter.put(dnaHash);
+    }
+
+    /**
+     * El insert sigue siendo una sentencia única: el filtro no puede confirmar que el hash
+     * no exista, solo evita lecturas. El hash se agrega aunque no se haya insertado: si ya
+     * estaba guardado (por ejemplo, lo insertó otra instancia) el filtro no debe descartarlo
+     */
+    @Override
+    public boolean insertIfAbsent(DnaHash dnaHash, boolean isMutant, int sequenceSize, byte[] packedDna) {
+        boolean inserted = delegate.insertIfAbsent(dnaHash, isMutant, sequenceSize, packedDna);
+        bloomFilter.put(dnaHash);
+        return inserted;
+    }
+
+    @Override
+    public List<NewVerdict> saveAll(List<NewVerdict> verdicts) {
+        List<NewVerdict> inserted = delegate.saveAll(verdicts);
+        inserted.forEach(verdict -> bloomFilter.put(verdict.getDnaHash()));
+        return inserted;
+    }
+
+    @Override
+    public void flush() {
+        delegate.flush();
+    }
+
+    @Override
+    public void scanHashes(int pageSize, Consumer<DnaHash> consumer) {
+        delegate.scanHashes(pageSize, consumer);
+    }
+
+    @Override
+    public long count() {
+        return delegate.count();
+    }
+
+    @Override
+    public long countMutants() {
+        return delegate.countMutants();
+    }
+
+    @Override
+    public long countHumans() {
+        return delegate.countHumans();
+    }
+}
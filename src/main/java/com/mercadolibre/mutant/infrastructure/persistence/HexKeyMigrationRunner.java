@@ -0,0 +1,98 @@
+package com.mercadolibre.mutant.infrastructure.persistence;
+
+import com.mercadolibre.mutant.domain.entity.CompactVerificationLog;
+import com.mercadolibre.mutant.domain.entity.DnaKey;
+import com.mercadolibre.mutant.domain.entity.VerificationLog;
+import com.mercadolibre.mutant.domain.hash.DnaHash;
+import com.mercadolibre.mutant.domain.repository.CompactDnaRepository;
+import com.mercadolibre.mutant.domain.repository.DnaRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Migración de dna_records (clave hexadecimal) a dna_records_bin (clave binaria)
+ *
+ * Se activa con {@code mutant.storage.migrate-hex-keys=true}. Recorre la tabla original
+ * por páginas ordenadas por hash (keyset) y copia cada página en su propia transacción,
+ * omitiendo las claves que ya existen: es idempotente y puede reanudarse si se interrumpe.
+ * La tabla original no se modifica.
+ */
+@Component
+@ConditionalOnProperty(name = "mutant.storage.migrate-hex-keys", havingValue = "true")
+@Slf4j
+public class HexKeyMigrationRunner implements ApplicationRunner {
+
+    private final DnaRepository dnaRepository;
+    private final CompactDnaRepository compactDnaRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+
+    public HexKeyMigrationRunner(DnaRepository dnaRepository,
+                                 CompactDnaRepository compactDnaRepository,
+                                 TransactionTemplate transactionTemplate,
+                                 @Value("${mutant.storage.migration.batch-size:1000}") int batchSize) {
+        this.dnaRepository = dnaRepository;
+        this.compactDnaRepository = compactDnaRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.batchSize = batchSize;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        migrate();
+    }
+
+    /**
+     * @return cantidad de registros copiados a dna_records_bin
+     */
+    public long migrate() {
+        long start = System.nanoTime();
+        long migrated = 0;
+        String after = "";
+
+        List<VerificationLog> page = dnaRepository.findPageAfter(after, PageRequest.of(0, batchSize));
+        while (!page.isEmpty()) {
+            List<VerificationLog> current = page;
+            Integer copied = transactionTemplate.execute(status -> migratePage(current));
+            migrated += copied == null ? 0 : copied;
+
+            after = page.get(page.size() - 1).getDnaHash();
+            log.info("Hex key migration: {} records copied (last key {})", migrated, after);
+            page = dnaRepository.findPageAfter(after, PageRequest.of(0, batchSize));
+        }
+
+        log.info("Hex key migration finished: {} records copied in {} ms",
+                 migrated, (System.nanoTime() - start) / 1_000_000);
+        return migrated;
+    }
+
+    private int migratePage(List<VerificationLog> page) {
+        Map<DnaKey, CompactVerificationLog> pending = new LinkedHashMap<>();
+        for (VerificationLog record : page) {
+            DnaKey key = BinaryKeyVerdictStore.keyOf(DnaHash.fromHex(record.getDnaHash()));
+            pending.putIfAbsent(key, CompactVerificationLog.builder()
+                    .key(key)
+                    .isMutant(record.getIsMutant())
+                    .sequenceSize(record.getSequenceSize())
+                    .analyzedAt(record.getAnalyzedAt())
+                    .dnaPacked(record.getDnaPacked())
+                    .build());
+        }
+
+        compactDnaRepository.findAllById(pending.keySet())
+                .forEach(existing -> pending.remove(existing.getKey()));
+
+        compactDnaRepository.saveAll(pending.values());
+        return pending.size();
+    }
+}
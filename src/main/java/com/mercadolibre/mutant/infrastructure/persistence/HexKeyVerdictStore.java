@@ -0,0 +1,101 @@
+package com.mercadolibre.mutant.infrastructure.persistence;
+
+import com.mercadolibre.mutant.domain.entity.VerificationLog;
+import com.mercadolibre.mutant.domain.hash.DnaHash;
+import com.mercadolibre.mutant.domain.repository.DnaRepository;
+import com.mercadolibre.mutant.domain.repository.NewVerdict;
+import com.mercadolibre.mutant.domain.repository.StoredVerdict;
+import com.mercadolibre.mutant.domain.repository.VerdictStore;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+/**
+ * VerdictStore sobre dna_records con el hash en hexadecimal como clave (formato original)
+ */
+@RequiredArgsConstructor
+public class HexKeyVerdictStore implements VerdictStore {
+
+    private final DnaRepository dnaRepository;
+
+    @Override
+    public Optional<StoredVerdict> findVerdict(DnaHash dnaHash) {
+        return dnaRepository.findById(dnaHash.toHex())
+                .map(record -> new StoredVerdict(record.getIsMutant(), record.getDnaPacked()));
+    }
+
+    @Override
+    public Map<DnaHash, StoredVerdict> findVerdicts(Collection<DnaHash> dnaHashes) {
+        Map<String, DnaHash> byHex = new HashMap<>();
+        for (DnaHash dnaHash : dnaHashes) {
+            byHex.put(dnaHash.toHex(), dnaHash);
+        }
+        Map<DnaHash, StoredVerdict> verdicts = new HashMap<>();
+        for (VerificationLog record : dnaRepository.findAllById(byHex.keySet())) {
+            verdicts.put(byHex.get(record.getDnaHash()),
+                    new StoredVerdict(record.getIsMutant(), record.getDnaPacked()));
+        }
+        return verdicts;
+    }
+
+    @Override
+    public void save(DnaHash dnaHash, boolean isMutant, int sequenceSize, byte[] packedDna) {
+        dnaRepository.save(VerificationLog.builder()
+                .dnaHash(dnaHash.toHex())
+                .isMutant(isMutant)
+                .sequenceSize(sequenceSize)
+                .dnaPacked(packedDna)
+                .build());
+    }
+
+    @Override
+    public boolean insertIfAbsent(DnaHash dnaHash, boolean isMutant, int sequenceSize, byte[] packedDna) {
+        return dnaRepository.insertIfAbsent(dnaHash.toHex(), isMutant, sequenceSize, packedDna) == 1;
+    }
+
+    /**
+     * Todos o ninguno: un hash existente hace fallar la transacción
+     */
+    @Override
+    public List<NewVerdict> saveAll(List<NewVerdict> verdicts) {
+        dnaRepository.saveAll(verdicts.stream()
+                .map(verdict -> VerificationLog.builder()
+                        .dnaHash(verdict.getDnaHash().toHex())
+                        .isMutant(verdict.isMutant())
+                        .sequenceSize(verdict.getSequenceSize())
+                        .dnaPacked(verdict.getPackedDna())
+                        .build())
+                .toList());
+        return verdicts;
+    }
+
+    @Override
+    public void scanHashes(int pageSize, Consumer<DnaHash> consumer) {
+        List<String> page = dnaRepository.findHashesAfter("", PageRequest.of(0, pageSize));
+        while (!page.isEmpty()) {
+            page.forEach(hex -> consumer.accept(DnaHash.fromHex(hex)));
+            page = dnaRepository.findHashesAfter(page.get(page.size() - 1), PageRequest.of(0, pageSize));
+        }
+    }
+
+    @Override
+    public long count() {
+        return dnaRepository.count();
+    }
+
+    @Override
+    public long countMutants() {
+        return dnaRepository.countMutants();
+    }
+
+    @Override
+    public long countHumans() {
+        return dnaRepository.countHumans();
+    }
+}
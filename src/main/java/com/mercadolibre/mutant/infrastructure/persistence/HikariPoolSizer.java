@@ -0,0 +1,46 @@
+package com.mercadolibre.mutant.infrastructure.persistence;
+
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * Tamaño del pool de HikariCP según los cores disponibles
+ *
+ * Se activa con {@code mutant.datasource.pool-size} (perfil prod). Con 0 el pool es fijo de
+ * cores * 2 + 1 conexiones (fórmula de HikariCP para una BD local, sin discos que esperar);
+ * un valor positivo fija ese tamaño. Reemplaza spring.datasource.hikari.maximum-pool-size
+ * y minimum-idle, que no pueden expresarse en función de los cores.
+ */
+@Component
+@ConditionalOnProperty("mutant.datasource.pool-size")
+@Slf4j
+public class HikariPoolSizer implements BeanPostProcessor {
+
+    private final int poolSize;
+
+    public HikariPoolSizer(@Value("${mutant.datasource.pool-size}") int poolSize) {
+        // 0: en función de los cores
+        this.poolSize = poolSize > 0 ? poolSize : Runtime.getRuntime().availableProcessors() * 2 + 1;
+    }
+
+    /**
+     * Después del binding de spring.datasource.hikari.* y antes de la primera conexión
+     */
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (bean instanceof HikariDataSource dataSource) {
+            dataSource.setMaximumPoolSize(poolSize);
+            dataSource.setMinimumIdle(poolSize);
+            log.info("HikariCP pool {} sized to {} connections", beanName, poolSize);
+        }
+        return bean;
+    }
+
+    int getPoolSize() {
+        return poolSize;
+    }
+}
@@ -0,0 +1,76 @@
+package com.mercadolibre.mutant.infrastructure.persistence;
+
+import com.mercadolibre.mutant.domain.hash.DnaHash;
+import com.mercadolibre.mutant.domain.repository.StoredVerdict;
+import com.mercadolibre.mutant.domain.repository.VerdictStore;
+import lombok.RequiredArgsConstructor;
+
+import java.util.Optional;
+import java.util.function.Consumer;
+
+/**
+ * VerdictStore sobre el log mapeado en memoria (MappedVerdictLog), sin JDBC
+ *
+ * La clave son los 128 bits del hash. Los registros son de ancho fijo, por lo que la copia
+ * compacta del ADN no se guarda: con mutant.hash.verify-collisions los veredictos de este
+ * motor se aceptan por hash, igual que los registros guardados sin verificación.
+ * El log lo abre y cierra VerdictStoreConfig.
+ */
+@RequiredArgsConstructor
+public class MappedLogVerdictStore implements VerdictStore {
+
+    private final MappedVerdictLog verdictLog;
+
+    @Override
+    public Optional<StoredVerdict> findVerdict(DnaHash dnaHash) {
+        long entry = verdictLog.find(dnaHash.high(), dnaHash.low());
+        return entry != 0
+                ? Optional.of(new StoredVerdict(MappedVerdictLog.isMutant(entry), null))
+                : Optional.empty();
+    }
+
+    /**
+     * Los registros se agregan una sola vez: si el hash ya estaba no se sobrescribe
+     * (saveAll usa insertIfAbsent e informa solo los insertados)
+     */
+    @Override
+    public void save(DnaHash dnaHash, boolean isMutant, int sequenceSize, byte[] packedDna) {
+        insertIfAbsent(dnaHash, isMutant, sequenceSize, packedDna);
+    }
+
+    @Override
+    public boolean insertIfAbsent(DnaHash dnaHash, boolean isMutant, int sequenceSize, byte[] packedDna) {
+        return verdictLog.appendIfAbsent(dnaHash.high(), dnaHash.low(), isMutant, sequenceSize);
+    }
+
+    /**
+     * Fuerza a disco el segmento activo (la reconciliación de dna_stats lo llama periódicamente)
+     */
+    @Override
+    public void flush() {
+        verdictLog.force();
+    }
+
+    /**
+     * Recorre los segmentos en orden de escritura (no de clave); pageSize no aplica
+     */
+    @Override
+    public void scanHashes(int pageSize, Consumer<DnaHash> consumer) {
+        verdictLog.scanKeys((high, low) -> consumer.accept(DnaHash.ofKey(high, low)));
+    }
+
+    @Override
+    public long count() {
+        return verdictLog.count();
+    }
+
+    @Override
+    public long countMutants() {
+        return verdictLog.countMutants();
+    }
+
+    @Override
+    public long countHumans() {
+        return verdictLog.countHumans();
+    }
+}
@@ -0,0 +1,286 @@
+package com.mercadolibre.mutant.infrastructure.persistence;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Stream;
+
+/**
+ * Log de veredictos de solo agregado en segmentos mapeados en memoria, sin JDBC
+ *
+ * Registro de ancho fijo (32 bytes): marca(1) veredicto(1) relleno(2) N(4) hash high(8)
+ * hash low(8) epoch millis(8). La marca se escribe última: al arrancar, el índice se
+ * reconstruye recorriendo los segmentos hasta el primer registro sin marca (el archivo
+ * mapeado arranca en ceros, así que un registro a medio escribir se descarta).
+ *
+ * - Segmentos {@code verdicts-NNNNN.seg} de {@code segment-size} bytes; al llenarse uno se
+ *   abre el siguiente y el lleno se fuerza a disco fuera del lock
+ * - Índice fuera del heap (OffHeapHashIndex): hash → segmento, offset y veredicto, por lo
+ *   que una búsqueda no lee el segmento
+ * - Escrituras serializadas con un ReentrantReadWriteLock (no synchronized: no fija virtual
+ *   threads); las búsquedas toman el lock de lectura
+ *
+ * Las escrituras quedan en el page cache del sistema operativo: sobreviven a un reinicio
+ * del proceso; ante un corte de energía se conserva lo forzado (al rotar y al cerrar).
+ */
+@Slf4j
+public class MappedVerdictLog implements AutoCloseable {
+
+    static final int RECORD_BYTES = 32;
+
+    private static final String SEGMENT_PREFIX = "verdicts-";
+    private static final String SEGMENT_SUFFIX = ".seg";
+    private static final byte COMMITTED = 1;
+    private static final byte MUTANT = 1;
+
+    private static final int VERDICT_OFFSET = 1;
+    private static final int SIZE_OFFSET = 4;
+    private static final int HIGH_OFFSET = 8;
+    private static final int LOW_OFFSET = 16;
+    private static final int TIME_OFFSET = 24;
+
+    /** Callback del recorrido de claves */
+    @FunctionalInterface
+    public interface KeyConsumer {
+        void accept(long high, long low);
+    }
+
+    private final Path directory;
+    private final int segmentSize;
+    private final OffHeapHashIndex index;
+    private final List<MappedByteBuffer> segments = new ArrayList<>();
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final AtomicLong mutants = new AtomicLong();
+    private final AtomicLong humans = new AtomicLong();
+
+    private MappedByteBuffer active;
+    private int position;
+    private boolean closed;
+
+    /**
+     * Abre (o crea) el log en el directorio y reconstruye el índice desde los segmentos
+     *
+     * @param segmentSize bytes por segmento, múltiplo de 32
+     * @param indexCapacity slots iniciales del índice
+     */
+    public MappedVerdictLog(Path directory, int segmentSize, int indexCapacity) throws IOException {
+        if (segmentSize < RECORD_BYTES || segmentSize % RECORD_BYTES != 0) {
+            throw new IllegalArgumentException("Segment size must be a positive multiple of " + RECORD_BYTES);
+        }
+        this.directory = Files.createDirectories(directory);
+        this.segmentSize = segmentSize;
+        this.index = new OffHeapHashIndex(indexCapacity);
+        rebuild();
+    }
+
+    /**
+     * @return 0 si el hash no está; si no, el valor del índice (ver {@link #isMutant(long)})
+     */
+    public long find(long high, long low) {
+        lock.readLock().lock();
+        try {
+            return index.get(high, low);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public static boolean isMutant(long entry) {
+        return (entry & 2) != 0;
+    }
+
+    /**
+     * Agrega el registro si el hash no está
+     *
+     * @return true si se agregó, false si el hash ya estaba
+     */
+    public boolean appendIfAbsent(long high, long low, boolean isMutant, int sequenceSize) {
+        MappedByteBuffer filled = null;
+        lock.writeLock().lock();
+        try {
+            if (closed) {
+                throw new IllegalStateException("Verdict log is closed");
+            }
+            if (index.get(high, low) != 0) {
+                return false;
+            }
+            if (position == segmentSize) {
+                filled = active;
+                roll();
+            }
+            int offset = position;
+            // Primero el índice: si no puede crecer, el registro no llega al segmento
+            index.putIfAbsent(high, low, entry(segments.size() - 1, offset, isMutant));
+            active.put(offset + VERDICT_OFFSET, isMutant ? MUTANT : 0);
+            active.putInt(offset + SIZE_OFFSET, sequenceSize);
+            active.putLong(offset + HIGH_OFFSET, high);
+            active.putLong(offset + LOW_OFFSET, low);
+            active.putLong(offset + TIME_OFFSET, System.currentTimeMillis());
+            active.put(offset, COMMITTED);
+            position += RECORD_BYTES;
+            (isMutant ? mutants : humans).incrementAndGet();
+        } finally {
+            lock.writeLock().unlock();
+        }
+        // El segmento lleno se fuerza a disco fuera del lock: los demás appends no esperan el msync
+        if (filled != null) {
+            filled.force();
+        }
+        return true;
+    }
+
+    /**
+     * Recorre las claves en orden de escritura
+     */
+    public void scanKeys(KeyConsumer consumer) {
+        List<MappedByteBuffer> snapshot;
+        int end;
+        lock.readLock().lock();
+        try {
+            snapshot = List.copyOf(segments);
+            end = position;
+        } finally {
+            lock.readLock().unlock();
+        }
+        for (int segment = 0; segment < snapshot.size(); segment++) {
+            MappedByteBuffer buffer = snapshot.get(segment);
+            int limit = segment == snapshot.size() - 1 ? end : segmentSize;
+            for (int offset = 0; offset < limit; offset += RECORD_BYTES) {
+                consumer.accept(buffer.getLong(offset + HIGH_OFFSET), buffer.getLong(offset + LOW_OFFSET));
+            }
+        }
+    }
+
+    public long count() {
+        return mutants.get() + humans.get();
+    }
+
+    public long countMutants() {
+        return mutants.get();
+    }
+
+    public long countHumans() {
+        return humans.get();
+    }
+
+    public int segmentCount() {
+        lock.readLock().lock();
+        try {
+            return segments.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Fuerza a disco el segmento activo
+     * El lock solo se toma para leer el segmento: el msync corre sin bloquear los appends
+     */
+    public void force() {
+        MappedByteBuffer current;
+        lock.readLock().lock();
+        try {
+            if (active == null || closed) {
+                return;
+            }
+            current = active;
+        } finally {
+            lock.readLock().unlock();
+        }
+        current.force();
+    }
+
+    @Override
+    public void close() {
+        lock.writeLock().lock();
+        try {
+            if (closed) {
+                return;
+            }
+            if (active != null) {
+                active.force();
+            }
+            closed = true;
+            log.info("Verdict log closed - {} records in {} segments", count(), segments.size());
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Índice: segmento (24 bits) | offset (38 bits) | veredicto | ocupado
+     */
+    private static long entry(int segment, int offset, boolean isMutant) {
+        return ((long) segment << 40) | ((long) offset << 2) | (isMutant ? 2 : 0) | 1;
+    }
+
+    private void rebuild() throws IOException {
+        long start = System.nanoTime();
+        List<Path> files;
+        try (Stream<Path> listing = Files.list(directory)) {
+            files = listing
+                    .filter(file -> {
+                        String name = file.getFileName().toString();
+                        return name.startsWith(SEGMENT_PREFIX) && name.endsWith(SEGMENT_SUFFIX);
+                    })
+                    .sorted()
+                    .toList();
+        }
+        for (Path file : files) {
+            if (Files.size(file) != segmentSize) {
+                throw new IllegalStateException("Segment " + file + " was written with a different segment size");
+            }
+            active = map(file);
+            segments.add(active);
+            position = 0;
+            while (position < segmentSize && active.get(position) == COMMITTED) {
+                long high = active.getLong(position + HIGH_OFFSET);
+                long low = active.getLong(position + LOW_OFFSET);
+                boolean isMutant = active.get(position + VERDICT_OFFSET) == MUTANT;
+                if (index.putIfAbsent(high, low, entry(segments.size() - 1, position, isMutant)) == 0) {
+                    (isMutant ? mutants : humans).incrementAndGet();
+                }
+                position += RECORD_BYTES;
+            }
+        }
+        if (active == null) {
+            roll();
+        }
+        log.info("Verdict log index rebuilt - {} records from {} segments in {} ms, {} MB off-heap",
+                 index.size(), segments.size(), (System.nanoTime() - start) / 1_000_000,
+                 index.offHeapBytes() >> 20);
+    }
+
+    /**
+     * Abre el segmento siguiente; quien rota fuerza el anterior a disco fuera del lock
+     */
+    private void roll() {
+        Path file = directory.resolve(String.format("%s%05d%s", SEGMENT_PREFIX, segments.size(), SEGMENT_SUFFIX));
+        try {
+            active = map(file);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot create verdict log segment " + file, e);
+        }
+        segments.add(active);
+        position = 0;
+        log.info("Verdict log segment {} opened", file.getFileName());
+    }
+
+    private MappedByteBuffer map(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file,
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            // El mapeo sigue siendo válido después de cerrar el canal
+            return channel.map(FileChannel.MapMode.READ_WRITE, 0, segmentSize);
+        }
+    }
+}
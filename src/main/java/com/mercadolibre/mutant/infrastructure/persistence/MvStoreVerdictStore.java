@@ -0,0 +1,125 @@
+package com.mercadolibre.mutant.infrastructure.persistence;
+
+import com.mercadolibre.mutant.domain.hash.DnaHash;
+import com.mercadolibre.mutant.domain.repository.StoredVerdict;
+import com.mercadolibre.mutant.domain.repository.VerdictStore;
+import lombok.extern.slf4j.Slf4j;
+import org.h2.mvstore.MVMap;
+import org.h2.mvstore.MVStore;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+/**
+ * VerdictStore clave-valor sobre un MVMap de H2 (MVStore usado directamente, sin SQL ni Hibernate)
+ *
+ * - Clave: los 128 bits del hash (16 bytes, igual que dna_records_bin)
+ * - Valor: 1 byte de veredicto + 4 de N + 8 de epoch millis + copia compacta opcional del ADN
+ *
+ * insertIfAbsent es un putIfAbsent del mapa. Los cambios se escriben a disco cada
+ * {@code auto-commit-delay} (fuera de la transacción JPA de dna_stats: ante un rollback o un
+ * corte, la reconciliación periódica corrige los contadores). El MVStore lo abre y cierra
+ * VerdictStoreConfig.
+ *
+ * Los totales se cuentan una vez al abrir y luego se mantienen en memoria en cada insert.
+ */
+@Slf4j
+public class MvStoreVerdictStore implements VerdictStore {
+
+    static final String MAP_NAME = "dna_verdicts";
+
+    private static final int KEY_BYTES = DnaHash.COMPACT_KEY_BYTES;
+    private static final int HEADER_BYTES = 1 + Integer.BYTES + Long.BYTES;
+    private static final byte MUTANT = 1;
+
+    private final MVMap<byte[], byte[]> verdicts;
+    private final AtomicLong mutants = new AtomicLong();
+    private final AtomicLong humans = new AtomicLong();
+
+    public MvStoreVerdictStore(MVStore store) {
+        this.verdicts = store.openMap(MAP_NAME);
+        long start = System.nanoTime();
+        for (byte[] value : verdicts.values()) {
+            (value[0] == MUTANT ? mutants : humans).incrementAndGet();
+        }
+        log.info("MVStore verdict store opened - {} records counted in {} ms",
+                 verdicts.sizeAsLong(), (System.nanoTime() - start) / 1_000_000);
+    }
+
+    static byte[] keyOf(DnaHash dnaHash) {
+        return ByteBuffer.allocate(KEY_BYTES).putLong(dnaHash.high()).putLong(dnaHash.low()).array();
+    }
+
+    static byte[] valueOf(boolean isMutant, int sequenceSize, long epochMillis, byte[] packedDna) {
+        int packedLength = packedDna != null ? packedDna.length : 0;
+        return ByteBuffer.allocate(HEADER_BYTES + packedLength)
+                .put(isMutant ? MUTANT : 0)
+                .putInt(sequenceSize)
+                .putLong(epochMillis)
+                .put(packedDna != null ? packedDna : new byte[0])
+                .array();
+    }
+
+    private static StoredVerdict verdictOf(byte[] value) {
+        byte[] packedDna = value.length > HEADER_BYTES
+                ? Arrays.copyOfRange(value, HEADER_BYTES, value.length)
+                : null;
+        return new StoredVerdict(value[0] == MUTANT, packedDna);
+    }
+
+    @Override
+    public Optional<StoredVerdict> findVerdict(DnaHash dnaHash) {
+        byte[] value = verdicts.get(keyOf(dnaHash));
+        return value != null ? Optional.of(verdictOf(value)) : Optional.empty();
+    }
+
+    /**
+     * Los registros se escriben una sola vez: si el hash ya estaba no se sobrescribe
+     * (saveAll usa insertIfAbsent e informa solo los insertados)
+     */
+    @Override
+    public void save(DnaHash dnaHash, boolean isMutant, int sequenceSize, byte[] packedDna) {
+        insertIfAbsent(dnaHash, isMutant, sequenceSize, packedDna);
+    }
+
+    @Override
+    public boolean insertIfAbsent(DnaHash dnaHash, boolean isMutant, int sequenceSize, byte[] packedDna) {
+        byte[] value = valueOf(isMutant, sequenceSize, System.currentTimeMillis(), packedDna);
+        if (verdicts.putIfAbsent(keyOf(dnaHash), value) != null) {
+            return false;
+        }
+        (isMutant ? mutants : humans).incrementAndGet();
+        return true;
+    }
+
+    /**
+     * Las claves del mapa ya están ordenadas: se recorren sin leer los valores
+     */
+    @Override
+    public void scanHashes(int pageSize, Consumer<DnaHash> consumer) {
+        Iterator<byte[]> keys = verdicts.keyIterator(null);
+        while (keys.hasNext()) {
+            ByteBuffer key = ByteBuffer.wrap(keys.next());
+            consumer.accept(DnaHash.ofKey(key.getLong(), key.getLong()));
+        }
+    }
+
+    @Override
+    public long count() {
+        return verdicts.sizeAsLong();
+    }
+
+    @Override
+    public long countMutants() {
+        return mutants.get();
+    }
+
+    @Override
+    public long countHumans() {
+        return humans.get();
+    }
+}
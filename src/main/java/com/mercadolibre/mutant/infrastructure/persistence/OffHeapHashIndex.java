@@ -0,0 +1,150 @@
+package com.mercadolibre.mutant.infrastructure.persistence;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Tabla hash de direccionamiento abierto fuera del heap: clave de 128 bits → long
+ *
+ * Cada slot ocupa 24 bytes (high, low, valor) y se resuelve con sondeo lineal. El valor 0
+ * marca un slot vacío, por lo que los valores guardados deben ser distintos de 0. Los hashes
+ * ya son uniformes: el slot inicial sale de los bits bajos. Crece al doble al superar el 70%
+ * de ocupación.
+ *
+ * Los slots se reparten en páginas de ByteBuffers directos de 2^20 slots (24 MB) con índice
+ * long, así que la capacidad no queda limitada por los 2 GB de un ByteBuffer: el límite es
+ * -XX:MaxDirectMemorySize. Si una página no se puede reservar, falla con el tamaño pedido.
+ *
+ * No es thread-safe: MappedVerdictLog serializa las escrituras y las lecturas concurrentes.
+ */
+public final class OffHeapHashIndex {
+
+    private static final int SLOT_BYTES = 3 * Long.BYTES;
+    private static final int PAGE_SHIFT = 20;
+    private static final long PAGE_MASK = (1L << PAGE_SHIFT) - 1;
+    private static final double MAX_LOAD = 0.7;
+
+    private ByteBuffer[] pages;
+    private long capacity;
+    private long mask;
+    private long size;
+
+    /**
+     * @param initialCapacity slots iniciales (se redondea a potencia de 2)
+     */
+    public OffHeapHashIndex(long initialCapacity) {
+        long slots = Math.max(16, Long.highestOneBit(Math.max(1, initialCapacity - 1)) << 1);
+        pages = allocate(slots);
+        capacity = slots;
+        mask = slots - 1;
+    }
+
+    /**
+     * @return valor guardado para la clave, o 0 si no está
+     */
+    public long get(long high, long low) {
+        for (long slot = slotOf(low); ; slot = (slot + 1) & mask) {
+            ByteBuffer page = pageOf(slot);
+            int position = positionOf(slot);
+            long value = page.getLong(position + 2 * Long.BYTES);
+            if (value == 0) {
+                return 0;
+            }
+            if (page.getLong(position) == high && page.getLong(position + Long.BYTES) == low) {
+                return value;
+            }
+        }
+    }
+
+    /**
+     * Guarda el valor solo si la clave no está
+     *
+     * @return valor existente, o 0 si se guardó el nuevo
+     */
+    public long putIfAbsent(long high, long low, long value) {
+        if (value == 0) {
+            throw new IllegalArgumentException("Index values must be non-zero");
+        }
+        if (size + 1 > capacity * MAX_LOAD) {
+            grow();
+        }
+        for (long slot = slotOf(low); ; slot = (slot + 1) & mask) {
+            ByteBuffer page = pageOf(slot);
+            int position = positionOf(slot);
+            long existing = page.getLong(position + 2 * Long.BYTES);
+            if (existing == 0) {
+                page.putLong(position, high);
+                page.putLong(position + Long.BYTES, low);
+                page.putLong(position + 2 * Long.BYTES, value);
+                size++;
+                return 0;
+            }
+            if (page.getLong(position) == high && page.getLong(position + Long.BYTES) == low) {
+                return existing;
+            }
+        }
+    }
+
+    public long size() {
+        return size;
+    }
+
+    public long capacity() {
+        return capacity;
+    }
+
+    /**
+     * Bytes reservados fuera del heap
+     */
+    public long offHeapBytes() {
+        return capacity * SLOT_BYTES;
+    }
+
+    private long slotOf(long low) {
+        return (low ^ (low >>> 32)) & mask;
+    }
+
+    private ByteBuffer pageOf(long slot) {
+        return pages[(int) (slot >>> PAGE_SHIFT)];
+    }
+
+    private static int positionOf(long slot) {
+        return (int) (slot & PAGE_MASK) * SLOT_BYTES;
+    }
+
+    /**
+     * Reserva la tabla nueva antes de soltar la actual: si no hay memoria directa el índice
+     * queda como estaba
+     */
+    private void grow() {
+        ByteBuffer[] previous = pages;
+        long previousCapacity = capacity;
+        pages = allocate(previousCapacity * 2);
+        capacity = previousCapacity * 2;
+        mask = capacity - 1;
+        size = 0;
+        for (long slot = 0; slot < previousCapacity; slot++) {
+            ByteBuffer page = previous[(int) (slot >>> PAGE_SHIFT)];
+            int position = positionOf(slot);
+            long value = page.getLong(position + 2 * Long.BYTES);
+            if (value != 0) {
+                putIfAbsent(page.getLong(position), page.getLong(position + Long.BYTES), value);
+            }
+        }
+    }
+
+    private static ByteBuffer[] allocate(long slots) {
+        int pageSlots = (int) Math.min(slots, 1L << PAGE_SHIFT);
+        int pageCount = (int) (slots / pageSlots);
+        ByteBuffer[] allocated = new ByteBuffer[pageCount];
+        try {
+            for (int i = 0; i < pageCount; i++) {
+                allocated[i] = ByteBuffer.allocateDirect(pageSlots * SLOT_BYTES);
+            }
+        } catch (OutOfMemoryError e) {
+            throw new IllegalStateException(String.format(
+                    "Off-heap index cannot allocate %d slots (%d MB): raise -XX:MaxDirectMemorySize",
+                    slots, slots * SLOT_BYTES >> 20), e);
+        }
+        return allocated;
+    }
+}
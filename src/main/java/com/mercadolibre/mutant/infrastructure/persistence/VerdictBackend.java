@@ -0,0 +1,13 @@
+package com.mercadolibre.mutant.infrastructure.persistence;
+
+/**
+ * Motor de almacenamiento de los veredictos ({@code mutant.storage.backend})
+ */
+public enum VerdictBackend {
+    /** Tablas relacionales vía JPA; el formato de clave lo define mutant.storage.key-format */
+    JPA,
+    /** Mapa clave-valor en un archivo MVStore de H2, sin SQL ni Hibernate */
+    MVSTORE,
+    /** Log de ancho fijo en segmentos mapeados en memoria con índice fuera del heap, sin JDBC */
+    MAPPED_LOG
+}
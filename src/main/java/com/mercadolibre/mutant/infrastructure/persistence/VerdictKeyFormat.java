@@ -0,0 +1,11 @@
+package com.mercadolibre.mutant.infrastructure.persistence;
+
+/**
+ * Formato de la clave primaria de los registros de ADN ({@code mutant.storage.key-format})
+ */
+public enum VerdictKeyFormat {
+    /** SHA-256 en hexadecimal, VARCHAR(64) en dna_records */
+    HEX,
+    /** 128 bits del hash como dos BIGINT en dna_records_bin */
+    BINARY
+}
@@ -0,0 +1,118 @@
+package com.mercadolibre.mutant.infrastructure.persistence;
+
+import com.mercadolibre.mutant.application.service.DnaRecordCounter;
+import com.mercadolibre.mutant.application.service.StatsCounter;
+import com.mercadolibre.mutant.domain.repository.CompactDnaRepository;
+import com.mercadolibre.mutant.domain.repository.DnaRepository;
+import com.mercadolibre.mutant.domain.repository.NewVerdict;
+import com.mercadolibre.mutant.domain.repository.VerdictStore;
+import com.mercadolibre.mutant.infrastructure.cache.DnaBloomFilter;
+import lombok.extern.slf4j.Slf4j;
+import org.h2.mvstore.MVStore;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * Configuración del almacenamiento de veredictos
+ * El motor se elige con {@code mutant.storage.backend} (JPA por defecto, MVSTORE o MAPPED_LOG) y,
+ * con JPA, el formato de clave con {@code mutant.storage.key-format} (por defecto HEX)
+ * y la escritura diferida se activa con {@code mutant.storage.write-behind.enabled}.
+ * Con {@code mutant.bloom.enabled} las búsquedas pasan antes por el filtro de Bloom
+ * (debajo de la escritura diferida, que ya resuelve los encolados en memoria).
+ */
+@Configuration
+@Slf4j
+public class VerdictStoreConfig {
+
+    /**
+     * Archivo MVStore del motor MVSTORE; se cierra (con el último commit) después del
+     * VerdictStore, que puede tener escrituras diferidas pendientes
+     */
+    @Bean(destroyMethod = "close")
+    @ConditionalOnProperty(name = "mutant.storage.backend", havingValue = "MVSTORE")
+    public MVStore verdictMvStore(
+            @Value("${mutant.storage.mvstore.file:./data/verdicts.mv}") Path file,
+            @Value("${mutant.storage.mvstore.cache-size-mb:64}") int cacheSizeMb,
+            @Value("${mutant.storage.mvstore.auto-commit-delay:PT1S}") Duration autoCommitDelay) throws IOException {
+        if (file.getParent() != null) {
+            Files.createDirectories(file.getParent());
+        }
+        log.info("Opening MVStore verdict file {}", file.toAbsolutePath());
+        MVStore store = new MVStore.Builder()
+                .fileName(file.toString())
+                .cacheSize(cacheSizeMb)
+                .compress()
+                .open();
+        store.setAutoCommitDelay((int) autoCommitDelay.toMillis());
+        return store;
+    }
+
+    /**
+     * Log mapeado en memoria del motor MAPPED_LOG; al crearlo reconstruye el índice
+     * recorriendo los segmentos, y al cerrarlo fuerza el segmento activo a disco
+     */
+    @Bean(destroyMethod = "close")
+    @ConditionalOnProperty(name = "mutant.storage.backend", havingValue = "MAPPED_LOG")
+    public MappedVerdictLog mappedVerdictLog(
+            @Value("${mutant.storage.log.directory:./data/verdict-log}") Path directory,
+            @Value("${mutant.storage.log.segment-size:67108864}") int segmentSize,
+            @Value("${mutant.storage.log.index-capacity:1048576}") int indexCapacity) throws IOException {
+        log.info("Opening verdict log in {}", directory.toAbsolutePath());
+        return new MappedVerdictLog(directory, segmentSize, indexCapacity);
+    }
+
+    @Bean
+    public VerdictStore verdictStore(
+            @Value("${mutant.storage.backend:JPA}") VerdictBackend backend,
+            @Value("${mutant.storage.key-format:HEX}") VerdictKeyFormat keyFormat,
+            @Value("${mutant.storage.write-behind.enabled:false}") boolean writeBehind,
+            @Value("${mutant.storage.write-behind.queue-capacity:10000}") int queueCapacity,
+            @Value("${mutant.storage.write-behind.batch-size:500}") int batchSize,
+            @Value("${mutant.storage.write-behind.offer-timeout:PT1S}") Duration offerTimeout,
+            @Value("${mutant.storage.write-behind.shutdown-timeout:PT30S}") Duration shutdownTimeout,
+            DnaRepository dnaRepository,
+            CompactDnaRepository compactDnaRepository,
+            TransactionTemplate transactionTemplate,
+            ObjectProvider<DnaBloomFilter> bloomFilter,
+            ObjectProvider<MVStore> mvStore,
+            ObjectProvider<MappedVerdictLog> mappedVerdictLog,
+            StatsCounter statsCounter,
+            ObjectProvider<DnaRecordCounter> recordCounter) {
+        DnaBloomFilter filter = bloomFilter.getIfAvailable();
+        log.info("Verdict store backend: {}, key format: {}, write-behind: {}, bloom filter: {}",
+                 backend, keyFormat, writeBehind, filter != null);
+        VerdictStore store = switch (backend) {
+            case JPA -> switch (keyFormat) {
+                case HEX -> new HexKeyVerdictStore(dnaRepository);
+                case BINARY -> new BinaryKeyVerdictStore(compactDnaRepository);
+            };
+            case MVSTORE -> new MvStoreVerdictStore(mvStore.getObject());
+            case MAPPED_LOG -> new MappedLogVerdictStore(mappedVerdictLog.getObject());
+        };
+        if (filter != null) {
+            store = new BloomFilterVerdictStore(store, filter);
+        }
+        if (!writeBehind) {
+            return store;
+        }
+        // Los encolados se contaron al aceptarse: los que no llegan a insertarse se descuentan.
+        // StatsCounter se inyecta directo para que se destruya después: el volcado final de
+        // STRIPED debe incluir los descuentos del vaciado de la cola al apagar. DnaRecordCounter
+        // depende del VerdictStore y solo vive en memoria, por eso va por ObjectProvider.
+        return new WriteBehindVerdictStore(store, transactionTemplate,
+                queueCapacity, batchSize, offerTimeout, shutdownTimeout, discarded -> {
+                    long mutants = discarded.stream().filter(NewVerdict::isMutant).count();
+                    statsCounter.recordInserts(-mutants, mutants - discarded.size());
+                    recordCounter.getObject().recordInserts(-discarded.size());
+                });
+    }
+}
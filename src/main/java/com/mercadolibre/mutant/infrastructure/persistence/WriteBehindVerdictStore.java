@@ -0,0 +1,343 @@
+package com.mercadolibre.mutant.infrastructure.persistence;
+
+import com.mercadolibre.mutant.domain.hash.DnaHash;
+import com.mercadolibre.mutant.domain.repository.NewVerdict;
+import com.mercadolibre.mutant.domain.repository.StoredVerdict;
+import com.mercadolibre.mutant.domain.repository.VerdictStore;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+
+/**
+ * VerdictStore con escritura diferida (write-behind) sobre otro VerdictStore
+ *
+ * Performance Optimization: save() solo encola el veredicto y la respuesta HTTP no espera
+ * el INSERT ni el fsync. Un hilo escritor vacía la cola en batches de hasta
+ * {@code batch-size} registros, cada uno en una transacción con saveAll() (batch JDBC).
+ *
+ * - Cola acotada: si está llena, save() espera hasta {@code offer-timeout} y luego escribe
+ *   de forma síncrona en el hilo del request (back-pressure, nunca se pierde un veredicto)
+ * - Los veredictos encolados se sirven desde memoria hasta que llegan a la BD
+ * - Los encolados que no llegan a insertarse (clave ya insertada por otra instancia o
+ *   descartados tras fallar el reintento) se informan a {@code discardListener}, que
+ *   descuenta de /stats lo que se contó al encolar
+ * - Al apagar se vacía la cola antes de cerrar el DataSource
+ */
+@Slf4j
+public class WriteBehindVerdictStore implements VerdictStore {
+
+    private static final long IDLE_PARK_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+    private final VerdictStore delegate;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private final Duration offerTimeout;
+    private final Duration shutdownTimeout;
+    private final Consumer<List<NewVerdict>> discardListener;
+
+    private final BlockingQueue<NewVerdict> queue;
+    private final Map<DnaHash, StoredVerdict> pending = new ConcurrentHashMap<>();
+
+    // Un batch a la vez: lo toma el escritor o flush(), sin synchronized (no fija virtual threads)
+    private final ReentrantLock writeLock = new ReentrantLock();
+
+    private volatile boolean running;
+    private volatile Thread writer;
+
+    public WriteBehindVerdictStore(VerdictStore delegate,
+                                   TransactionTemplate transactionTemplate,
+                                   int queueCapacity,
+                                   int batchSize,
+                                   Duration offerTimeout,
+                                   Duration shutdownTimeout,
+                                   Consumer<List<NewVerdict>> discardListener) {
+        if (queueCapacity < 1 || batchSize < 1) {
+            throw new IllegalArgumentException("Queue capacity and batch size must be positive");
+        }
+        this.delegate = delegate;
+        this.transactionTemplate = transactionTemplate;
+        this.batchSize = batchSize;
+        this.offerTimeout = offerTimeout;
+        this.shutdownTimeout = shutdownTimeout;
+        this.discardListener = discardListener;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+    }
+
+    @PostConstruct
+    public void start() {
+        running = true;
+        writer = new Thread(this::drainLoop, "dna-write-behind");
+        writer.setDaemon(true);
+        writer.start();
+        log.info("Write-behind verdict store started - capacity: {}, batch size: {}",
+                 queue.remainingCapacity(), batchSize);
+    }
+
+    /**
+     * Detiene el escritor y escribe todo lo pendiente
+     */
+    @PreDestroy
+    public void close() {
+        running = false;
+        Thread current = writer;
+        if (current != null) {
+            LockSupport.unpark(current);
+            try {
+                current.join(shutdownTimeout.toMillis());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        flush();
+        log.info("Write-behind verdict store flushed on shutdown");
+    }
+
+    @Override
+    public Optional<StoredVerdict> findVerdict(DnaHash dnaHash) {
+        StoredVerdict queued = pending.get(dnaHash);
+        return queued != null ? Optional.of(queued) : delegate.findVerdict(dnaHash);
+    }
+
+    @Override
+    public boolean isLikelyStored(DnaHash dnaHash) {
+        return pending.containsKey(dnaHash) || delegate.isLikelyStored(dnaHash);
+    }
+
+    /**
+     * Los encolados se resuelven en memoria y el resto en una consulta al store real
+     */
+    @Override
+    public Map<DnaHash, StoredVerdict> findVerdicts(Collection<DnaHash> dnaHashes) {
+        Map<DnaHash, StoredVerdict> verdicts = new HashMap<>();
+        List<DnaHash> notQueued = new ArrayList<>(dnaHashes.size());
+        for (DnaHash dnaHash : dnaHashes) {
+            StoredVerdict queued = pending.get(dnaHash);
+            if (queued != null) {
+                verdicts.put(dnaHash, queued);
+            } else {
+                notQueued.add(dnaHash);
+            }
+        }
+        if (!notQueued.isEmpty()) {
+            verdicts.putAll(delegate.findVerdicts(notQueued));
+        }
+        return verdicts;
+    }
+
+    @Override
+    public void save(DnaHash dnaHash, boolean isMutant, int sequenceSize, byte[] packedDna) {
+        enqueueOrWrite(dnaHash, isMutant, sequenceSize, packedDna);
+    }
+
+    /**
+     * Encola sin consultar la BD: los veredictos ya se buscaron antes de llamar
+     *
+     * @return los encolados (o escritos en el hilo llamador); no los que otro request ya encoló
+     */
+    @Override
+    public List<NewVerdict> saveAll(List<NewVerdict> verdicts) {
+        List<NewVerdict> accepted = new ArrayList<>(verdicts.size());
+        for (NewVerdict verdict : verdicts) {
+            if (enqueueOrWrite(verdict.getDnaHash(), verdict.isMutant(),
+                    verdict.getSequenceSize(), verdict.getPackedDna())) {
+                accepted.add(verdict);
+            }
+        }
+        return accepted;
+    }
+
+    /**
+     * Sin INSERT síncrono no hay sentencia única: consulta pendientes y BD, y encola
+     * Los registros encolados siguen escribiéndose con saveAll() en batch
+     */
+    @Override
+    public boolean insertIfAbsent(DnaHash dnaHash, boolean isMutant, int sequenceSize, byte[] packedDna) {
+        if (pending.containsKey(dnaHash) || delegate.findVerdict(dnaHash).isPresent()) {
+            return false;
+        }
+        return enqueueOrWrite(dnaHash, isMutant, sequenceSize, packedDna);
+    }
+
+    /**
+     * Escribe en el hilo llamador todo lo encolado hasta ahora
+     */
+    @Override
+    public void flush() {
+        writeLock.lock();
+        try {
+            while (writeNextBatch()) {
+                // Sigue mientras la cola tenga registros
+            }
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * Solo lo que ya llegó a la BD; los encolados se resuelven desde memoria
+     */
+    @Override
+    public void scanHashes(int pageSize, Consumer<DnaHash> consumer) {
+        delegate.scanHashes(pageSize, consumer);
+    }
+
+    @Override
+    public long count() {
+        return delegate.count();
+    }
+
+    @Override
+    public long countMutants() {
+        return delegate.countMutants();
+    }
+
+    @Override
+    public long countHumans() {
+        return delegate.countHumans();
+    }
+
+    int pendingCount() {
+        return pending.size();
+    }
+
+    /**
+     * @return false si el hash ya estaba encolado por otro request con el mismo ADN
+     */
+    private boolean enqueueOrWrite(DnaHash dnaHash, boolean isMutant, int sequenceSize, byte[] packedDna) {
+        if (pending.putIfAbsent(dnaHash, new StoredVerdict(isMutant, packedDna)) != null) {
+            return false;
+        }
+
+        NewVerdict verdict = new NewVerdict(dnaHash, isMutant, sequenceSize, packedDna);
+        if (enqueue(verdict)) {
+            Thread current = writer;
+            if (current != null) {
+                LockSupport.unpark(current);
+            }
+            return true;
+        }
+
+        log.warn("Write-behind queue full, writing verdict synchronously - Hash: {}", dnaHash);
+        try {
+            // Se une a la transacción del request si la hay
+            return Boolean.TRUE.equals(transactionTemplate.execute(
+                    status -> delegate.insertIfAbsent(dnaHash, isMutant, sequenceSize, packedDna)));
+        } finally {
+            pending.remove(dnaHash);
+        }
+    }
+
+    private boolean enqueue(NewVerdict verdict) {
+        try {
+            return queue.offer(verdict, offerTimeout.toNanos(), TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private void drainLoop() {
+        while (running) {
+            boolean wrote;
+            writeLock.lock();
+            try {
+                wrote = writeNextBatch();
+            } catch (RuntimeException e) {
+                log.error("Unexpected error in write-behind writer", e);
+                wrote = false;
+            } finally {
+                writeLock.unlock();
+            }
+            if (!wrote) {
+                LockSupport.parkNanos(this, IDLE_PARK_NANOS);
+            }
+        }
+    }
+
+    /**
+     * Toma hasta batchSize registros y los escribe en una transacción
+     * Si el batch falla (p. ej. clave ya insertada por otra instancia) se reintenta uno por uno
+     *
+     * @return false si la cola estaba vacía
+     */
+    private boolean writeNextBatch() {
+        List<NewVerdict> batch = new ArrayList<>(Math.min(batchSize, queue.size()));
+        queue.drainTo(batch, batchSize);
+        if (batch.isEmpty()) {
+            return false;
+        }
+
+        List<NewVerdict> discarded;
+        try {
+            List<NewVerdict> inserted = transactionTemplate.execute(status -> delegate.saveAll(batch));
+            discarded = notInserted(batch, inserted);
+        } catch (RuntimeException e) {
+            log.warn("Batch insert of {} verdicts failed, retrying one by one: {}", batch.size(), e.getMessage());
+            discarded = new ArrayList<>();
+            for (NewVerdict verdict : batch) {
+                if (!writeOne(verdict)) {
+                    discarded.add(verdict);
+                }
+            }
+        } finally {
+            batch.forEach(verdict -> pending.remove(verdict.getDnaHash()));
+        }
+        discard(discarded);
+        return true;
+    }
+
+    private static List<NewVerdict> notInserted(List<NewVerdict> batch, List<NewVerdict> inserted) {
+        if (inserted.size() == batch.size()) {
+            return List.of();
+        }
+        Set<DnaHash> insertedHashes = new HashSet<>();
+        inserted.forEach(verdict -> insertedHashes.add(verdict.getDnaHash()));
+        return batch.stream().filter(verdict -> !insertedHashes.contains(verdict.getDnaHash())).toList();
+    }
+
+    /**
+     * @return false si ya estaba en el store o no se pudo escribir
+     */
+    private boolean writeOne(NewVerdict verdict) {
+        try {
+            return Boolean.TRUE.equals(transactionTemplate.execute(status -> delegate.insertIfAbsent(
+                    verdict.getDnaHash(), verdict.isMutant(), verdict.getSequenceSize(), verdict.getPackedDna())));
+        } catch (RuntimeException e) {
+            log.error("Verdict could not be written, dropped - Hash: {}", verdict.getDnaHash(), e);
+            return false;
+        }
+    }
+
+    /**
+     * Informa los no insertados en una transacción propia (el descuento de /stats es un UPDATE)
+     * Si falla, la siguiente reconciliación de dna_stats corrige los contadores
+     */
+    private void discard(List<NewVerdict> discarded) {
+        if (discarded.isEmpty()) {
+            return;
+        }
+        try {
+            transactionTemplate.executeWithoutResult(status -> discardListener.accept(discarded));
+        } catch (RuntimeException e) {
+            log.error("Could not discount {} unwritten verdicts from stats", discarded.size(), e);
+        }
+    }
+}
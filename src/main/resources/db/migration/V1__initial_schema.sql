@@ -0,0 +1,34 @@
+-- Esquema inicial (perfil prod: Flyway + ddl-auto=validate)
+-- Equivalente a lo que genera ddl-auto=update a partir de las entidades JPA.
+-- Las bases creadas con update se toman como baseline (spring.flyway.baseline-on-migrate).
+
+CREATE TABLE IF NOT EXISTS dna_records (
+    dna_hash      VARCHAR(64)  NOT NULL,
+    is_mutant     BOOLEAN      NOT NULL,
+    sequence_size INTEGER      NOT NULL,
+    created_at    TIMESTAMP(6) NOT NULL,
+    dna_packed    BLOB,
+    CONSTRAINT pk_dna_records PRIMARY KEY (dna_hash)
+);
+
+CREATE INDEX IF NOT EXISTS idx_is_mutant ON dna_records (is_mutant);
+
+CREATE TABLE IF NOT EXISTS dna_records_bin (
+    hash_hi       BIGINT       NOT NULL,
+    hash_lo       BIGINT       NOT NULL,
+    is_mutant     BOOLEAN      NOT NULL,
+    sequence_size INTEGER      NOT NULL,
+    created_at    TIMESTAMP(6) NOT NULL,
+    dna_packed    BLOB,
+    CONSTRAINT pk_dna_records_bin PRIMARY KEY (hash_hi, hash_lo)
+);
+
+CREATE INDEX IF NOT EXISTS idx_bin_is_mutant ON dna_records_bin (is_mutant);
+
+CREATE TABLE IF NOT EXISTS dna_stats (
+    id           INTEGER      NOT NULL,
+    mutant_count BIGINT       NOT NULL,
+    human_count  BIGINT       NOT NULL,
+    updated_at   TIMESTAMP(6) NOT NULL,
+    CONSTRAINT pk_dna_stats PRIMARY KEY (id)
+);
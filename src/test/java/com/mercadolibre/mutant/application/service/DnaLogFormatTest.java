@@ -0,0 +1,70 @@
+package com.mercadolibre.mutant.application.service;
+
+import com.mercadolibre.mutant.domain.hash.DnaHash;
+import com.mercadolibre.mutant.domain.hash.Sha256DnaHasher;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests unitarios para DnaLogFormat
+ */
+@DisplayName("DnaLogFormat Tests")
+class DnaLogFormatTest {
+
+    private final String[] dna = {"ATGCGA", "CAGTGC", "TTATGT", "AGAAGG", "CCCCTA", "TCACTG"};
+    private final DnaHash dnaHash = new Sha256DnaHasher().hash(dna);
+
+    @Test
+    @DisplayName("Debe truncar el ADN al prefijo configurado")
+    void testDna_TruncatesToPrefix() {
+        DnaLogFormat logFormat = new DnaLogFormat(8, 1);
+
+        assertEquals("[ATGCGA, CA...] (6x6)", logFormat.dna(dna, dnaHash).toString());
+    }
+
+    @Test
+    @DisplayName("Un prefijo mayor al ADN debe mostrarlo completo")
+    void testDna_ShortDnaNotTruncated() {
+        DnaLogFormat logFormat = new DnaLogFormat(100, 1);
+
+        assertEquals("[ATGCGA, CAGTGC, TTATGT, AGAAGG, CCCCTA, TCACTG] (6x6)",
+                logFormat.dna(dna, dnaHash).toString());
+    }
+
+    @Test
+    @DisplayName("Con prefijo 0 solo debe loguearse el hash")
+    void testDna_HashOnly() {
+        DnaLogFormat logFormat = new DnaLogFormat(0, 1);
+
+        assertSame(dnaHash, logFormat.dna(dna, dnaHash));
+    }
+
+    @Test
+    @DisplayName("Debe muestrear aproximadamente 1 de cada N eventos")
+    void testSampled_Rate() {
+        // Arrange
+        DnaLogFormat everyEvent = new DnaLogFormat(32, 1);
+        DnaLogFormat sampled = new DnaLogFormat(32, 10);
+
+        // Act
+        int logged = 0;
+        for (int i = 0; i < 10_000; i++) {
+            if (sampled.sampled()) {
+                logged++;
+            }
+        }
+
+        // Assert
+        assertTrue(everyEvent.sampled());
+        assertTrue(logged > 700 && logged < 1300, "Logged: " + logged);
+    }
+
+    @Test
+    @DisplayName("Debe rechazar configuración inválida")
+    void testConstructor_InvalidConfig() {
+        assertThrows(IllegalArgumentException.class, () -> new DnaLogFormat(-1, 1));
+        assertThrows(IllegalArgumentException.class, () -> new DnaLogFormat(32, 0));
+    }
+}
@@ -0,0 +1,184 @@
+package com.mercadolibre.mutant.application.service;
+
+import com.mercadolibre.mutant.domain.entity.DnaStats;
+import com.mercadolibre.mutant.domain.repository.DnaStatsRepository;
+import com.mercadolibre.mutant.domain.repository.VerdictStore;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.*;
+
+/**
+ * Tests unitarios para DnaStatsReconciler
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("DnaStatsReconciler Tests")
+class DnaStatsReconcilerTest {
+
+    @Mock
+    private DnaStatsRepository dnaStatsRepository;
+
+    @Mock
+    private VerdictStore verdictStore;
+
+    @Mock
+    private StatsCounter statsCounter;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private DnaStatsReconciler reconciler;
+
+    @BeforeEach
+    void setUp() {
+        reconciler = new DnaStatsReconciler(dnaStatsRepository, verdictStore,
+                new TransactionTemplate(transactionManager), statsCounter);
+    }
+
+    @Test
+    @DisplayName("Debe contar sin bloquear la fila y sumar el desvío a la fila bloqueada")
+    void testReconcile_CountsBeforeLockingAndAppliesDrift() {
+        // Arrange: la fila dice 5/3, la tabla tiene 8/3 y un insert confirma después de contar
+        when(dnaStatsRepository.findById(DnaStats.SINGLETON_ID)).thenReturn(Optional.of(stats(5, 3)));
+        when(statsCounter.snapshot()).thenReturn(new StatsSnapshot(5, 3));
+        when(verdictStore.countMutants()).thenReturn(8L);
+        when(verdictStore.countHumans()).thenReturn(3L);
+        when(dnaStatsRepository.findForUpdate(DnaStats.SINGLETON_ID)).thenReturn(Optional.of(stats(6, 3)));
+
+        // Act
+        reconciler.reconcile();
+
+        // Assert
+        InOrder inOrder = inOrder(verdictStore, dnaStatsRepository);
+        inOrder.verify(verdictStore).countMutants();
+        inOrder.verify(verdictStore).countHumans();
+        inOrder.verify(dnaStatsRepository).findForUpdate(DnaStats.SINGLETON_ID);
+
+        ArgumentCaptor<DnaStats> saved = ArgumentCaptor.forClass(DnaStats.class);
+        verify(dnaStatsRepository).save(saved.capture());
+        assertEquals(9, saved.getValue().getMutantCount());
+        assertEquals(3, saved.getValue().getHumanCount());
+    }
+
+    @Test
+    @DisplayName("Sin desvío no debe bloquear la fila")
+    void testReconcile_NoDriftNoLock() {
+        // Arrange
+        when(dnaStatsRepository.findById(DnaStats.SINGLETON_ID)).thenReturn(Optional.of(stats(5, 3)));
+        when(statsCounter.snapshot()).thenReturn(new StatsSnapshot(5, 3));
+        when(verdictStore.countMutants()).thenReturn(5L);
+        when(verdictStore.countHumans()).thenReturn(3L);
+
+        // Act
+        reconciler.reconcile();
+
+        // Assert
+        verify(dnaStatsRepository, never()).findForUpdate(anyInt());
+        verify(dnaStatsRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("Debe comparar contra los incrementos en memoria aún no volcados")
+    void testReconcile_IncludesPendingIncrements() {
+        // Arrange: la fila dice 5/3 y hay 3 mutantes confirmados sin volcar (STRIPED)
+        when(dnaStatsRepository.findById(DnaStats.SINGLETON_ID)).thenReturn(Optional.of(stats(5, 3)));
+        when(statsCounter.snapshot()).thenReturn(new StatsSnapshot(8, 3));
+        when(verdictStore.countMutants()).thenReturn(8L);
+        when(verdictStore.countHumans()).thenReturn(3L);
+
+        // Act
+        reconciler.reconcile();
+
+        // Assert: no hay desvío, sumarlos a la fila los contaría dos veces
+        verify(dnaStatsRepository, never()).findForUpdate(anyInt());
+        verify(dnaStatsRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("Con inserts mientras se cuenta debe corregir solo el desvío que ellos no explican")
+    void testReconcile_InsertsWhileCounting() {
+        // Arrange: los contadores pasan de 5/3 a 6/3 durante el COUNT, que ve 8/3
+        when(dnaStatsRepository.findById(DnaStats.SINGLETON_ID)).thenReturn(Optional.of(stats(5, 3)));
+        when(statsCounter.snapshot())
+                .thenReturn(new StatsSnapshot(5, 3))
+                .thenReturn(new StatsSnapshot(6, 3));
+        when(verdictStore.countMutants()).thenReturn(8L);
+        when(verdictStore.countHumans()).thenReturn(3L);
+        when(dnaStatsRepository.findForUpdate(DnaStats.SINGLETON_ID)).thenReturn(Optional.of(stats(6, 3)));
+
+        // Act
+        reconciler.reconcile();
+
+        // Assert: el desvío real es 2 o 3; se suma 2 (no puede contar de más)
+        ArgumentCaptor<DnaStats> saved = ArgumentCaptor.forClass(DnaStats.class);
+        verify(dnaStatsRepository).save(saved.capture());
+        assertEquals(8, saved.getValue().getMutantCount());
+        assertEquals(3, saved.getValue().getHumanCount());
+    }
+
+    @Test
+    @DisplayName("No debe corregir si los inserts mientras se cuenta explican la diferencia")
+    void testReconcile_InsertsWhileCountingExplainDifference() {
+        // Arrange
+        when(dnaStatsRepository.findById(DnaStats.SINGLETON_ID)).thenReturn(Optional.of(stats(5, 3)));
+        when(statsCounter.snapshot())
+                .thenReturn(new StatsSnapshot(5, 3))
+                .thenReturn(new StatsSnapshot(6, 3));
+        when(verdictStore.countMutants()).thenReturn(6L);
+        when(verdictStore.countHumans()).thenReturn(3L);
+
+        // Act
+        reconciler.reconcile();
+
+        // Assert
+        verify(dnaStatsRepository, never()).findForUpdate(anyInt());
+        verify(dnaStatsRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("Debe acotar el desvío al valor más cercano a cero del rango posible")
+    void testDrift_ClosestToZero() {
+        assertEquals(2, DnaStatsReconciler.drift(8, 5, 6));
+        assertEquals(0, DnaStatsReconciler.drift(6, 5, 6));
+        assertEquals(-1, DnaStatsReconciler.drift(4, 5, 6));
+        assertEquals(0, DnaStatsReconciler.drift(5, 6, 4));
+        assertEquals(-3, DnaStatsReconciler.drift(2, 5, 5));
+    }
+
+    @Test
+    @DisplayName("Debe crear la fila de contadores si no existe")
+    void testReconcile_CreatesMissingRow() {
+        // Arrange
+        when(dnaStatsRepository.findById(DnaStats.SINGLETON_ID)).thenReturn(Optional.empty());
+        when(statsCounter.snapshot()).thenReturn(new StatsSnapshot(0, 0));
+        when(verdictStore.countMutants()).thenReturn(0L);
+        when(verdictStore.countHumans()).thenReturn(0L);
+        when(dnaStatsRepository.findForUpdate(DnaStats.SINGLETON_ID)).thenReturn(Optional.empty());
+
+        // Act
+        reconciler.reconcile();
+
+        // Assert
+        ArgumentCaptor<DnaStats> saved = ArgumentCaptor.forClass(DnaStats.class);
+        verify(dnaStatsRepository).save(saved.capture());
+        assertEquals(DnaStats.SINGLETON_ID, saved.getValue().getId());
+        assertEquals(0, saved.getValue().getMutantCount());
+    }
+
+    private static DnaStats stats(long mutants, long humans) {
+        return DnaStats.builder().id(DnaStats.SINGLETON_ID).mutantCount(mutants).humanCount(humans).build();
+    }
+}
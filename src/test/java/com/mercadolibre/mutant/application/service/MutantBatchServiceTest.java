@@ -0,0 +1,197 @@
+package com.mercadolibre.mutant.application.service;
+
+import com.mercadolibre.mutant.domain.detector.MutantDetector;
+import com.mercadolibre.mutant.domain.entity.VerificationLog;
+import com.mercadolibre.mutant.domain.hash.DnaHasher;
+import com.mercadolibre.mutant.domain.hash.Sha256DnaHasher;
+import com.mercadolibre.mutant.domain.repository.DnaRepository;
+import com.mercadolibre.mutant.infrastructure.cache.DnaVerdictCache;
+import com.mercadolibre.mutant.infrastructure.persistence.HexKeyVerdictStore;
+import com.mercadolibre.mutant.infrastructure.persistence.MvStoreVerdictStore;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.h2.mvstore.MVStore;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyIterable;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * Tests unitarios para MutantBatchService
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("MutantBatchService Tests")
+class MutantBatchServiceTest {
+
+    @Mock
+    private DnaRepository dnaRepository;
+
+    @Mock
+    private MutantDetector mutantDetector;
+
+    @Mock
+    private StatsCounter statsCounter;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private final DnaHasher dnaHasher = new Sha256DnaHasher();
+
+    private DnaVerdictCache verdictCache;
+
+    private MutantBatchService batchService;
+
+    private final String[] mutantDna = {"ATGCGA", "CAGTGC", "TTATGT", "AGAAGG", "CCCCTA", "TCACTG"};
+    private final String[] humanDna = {"ATGCGA", "CAGTGC", "TTATGT", "AGAAGG", "CCCTTA", "TCACTG"};
+
+    @BeforeEach
+    void setUp() {
+        HexKeyVerdictStore verdictStore = new HexKeyVerdictStore(dnaRepository);
+        verdictCache = new DnaVerdictCache(100, Duration.ofMinutes(1), new SimpleMeterRegistry());
+        batchService = new MutantBatchService(verdictStore, mutantDetector, verdictCache, dnaHasher,
+                new DnaRecordCounter(verdictStore), statsCounter, new TransactionTemplate(transactionManager));
+    }
+
+    @Test
+    @DisplayName("Debe consultar una vez, analizar los nuevos y guardarlos en un solo saveAll")
+    @SuppressWarnings("unchecked")
+    void testIsMutantBatch_NewDna() {
+        // Arrange
+        when(dnaRepository.findAllById(anyIterable())).thenReturn(List.of());
+        when(mutantDetector.isMutant(mutantDna)).thenReturn(true);
+        when(mutantDetector.isMutant(humanDna)).thenReturn(false);
+
+        // Act
+        boolean[] results = batchService.isMutantBatch(List.of(mutantDna, humanDna));
+
+        // Assert
+        assertArrayEquals(new boolean[]{true, false}, results);
+        verify(dnaRepository, times(1)).findAllById(anyIterable());
+        ArgumentCaptor<List<VerificationLog>> saved = ArgumentCaptor.forClass(List.class);
+        verify(dnaRepository, times(1)).saveAll(saved.capture());
+        assertEquals(2, saved.getValue().size());
+        verify(dnaRepository, never()).findById(anyString());
+        verify(statsCounter, times(1)).recordInserts(1, 1);
+    }
+
+    @Test
+    @DisplayName("Debe analizar una sola vez los ADN repetidos dentro del lote")
+    void testIsMutantBatch_DuplicatesInBatch() {
+        // Arrange
+        when(dnaRepository.findAllById(anyIterable())).thenReturn(List.of());
+        when(mutantDetector.isMutant(mutantDna)).thenReturn(true);
+
+        // Act
+        boolean[] results = batchService.isMutantBatch(List.of(mutantDna, mutantDna, mutantDna));
+
+        // Assert
+        assertArrayEquals(new boolean[]{true, true, true}, results);
+        verify(mutantDetector, times(1)).isMutant(any());
+        verify(statsCounter, times(1)).recordInserts(1, 0);
+    }
+
+    @Test
+    @DisplayName("Debe resolver los ADN ya guardados sin analizarlos ni guardarlos")
+    void testIsMutantBatch_ExistingRecords() {
+        // Arrange
+        VerificationLog stored = VerificationLog.builder()
+                .dnaHash(dnaHasher.hash(humanDna).toHex())
+                .isMutant(false)
+                .sequenceSize(6)
+                .build();
+        when(dnaRepository.findAllById(anyIterable())).thenReturn(List.of(stored));
+
+        // Act
+        boolean[] results = batchService.isMutantBatch(List.<String[]>of(humanDna));
+
+        // Assert
+        assertArrayEquals(new boolean[]{false}, results);
+        verify(mutantDetector, never()).isMutant(any());
+        verify(dnaRepository, never()).saveAll(anyIterable());
+        verify(statsCounter, never()).recordInserts(anyLong(), anyLong());
+    }
+
+    @Test
+    @DisplayName("Debe resolver desde la caché en memoria sin consultar la BD")
+    void testIsMutantBatch_InMemoryCachedResult() {
+        // Arrange
+        when(dnaRepository.findAllById(anyIterable())).thenReturn(List.of());
+        when(mutantDetector.isMutant(mutantDna)).thenReturn(true);
+        batchService.isMutantBatch(List.<String[]>of(mutantDna));
+
+        // Act
+        boolean[] results = batchService.isMutantBatch(List.<String[]>of(mutantDna));
+
+        // Assert
+        assertArrayEquals(new boolean[]{true}, results);
+        verify(dnaRepository, times(1)).findAllById(anyIterable());
+        verify(mutantDetector, times(1)).isMutant(any());
+    }
+
+    @Test
+    @DisplayName("Si el batch falla debe reintentar uno por uno y respetar lo guardado por otro request")
+    void testIsMutantBatch_FallbackOneByOne() {
+        // Arrange: otro request guardó el ADN humano entre la consulta y el insert
+        when(dnaRepository.findAllById(anyIterable())).thenReturn(List.of());
+        when(dnaRepository.saveAll(anyIterable())).thenThrow(new DataIntegrityViolationException("duplicate key"));
+        when(mutantDetector.isMutant(any())).thenReturn(true);
+        String humanHash = dnaHasher.hash(humanDna).toHex();
+        when(dnaRepository.insertIfAbsent(anyString(), anyBoolean(), anyInt(), any())).thenReturn(1);
+        when(dnaRepository.insertIfAbsent(eq(humanHash), anyBoolean(), anyInt(), any())).thenReturn(0);
+        when(dnaRepository.findById(humanHash)).thenReturn(Optional.of(VerificationLog.builder()
+                .dnaHash(humanHash)
+                .isMutant(false)
+                .sequenceSize(6)
+                .build()));
+
+        // Act
+        boolean[] results = batchService.isMutantBatch(List.of(mutantDna, humanDna));
+
+        // Assert
+        assertArrayEquals(new boolean[]{true, false}, results);
+        verify(dnaRepository, times(2)).insertIfAbsent(anyString(), anyBoolean(), anyInt(), any());
+        verify(statsCounter, times(1)).recordInserts(1, 0);
+    }
+
+    @Test
+    @DisplayName("Con un store sin transacción debe contar solo los insertados y responder lo ya guardado")
+    void testIsMutantBatch_StoreSkipsExistingHashes() {
+        // Arrange: MVStore en memoria; otro request guarda el ADN humano entre la consulta y el insert
+        MvStoreVerdictStore mvStore = spy(new MvStoreVerdictStore(new MVStore.Builder().open()));
+        doReturn(Map.of()).when(mvStore).findVerdicts(anyCollection());
+        mvStore.insertIfAbsent(dnaHasher.hash(humanDna), false, 6, null);
+        MutantBatchService service = new MutantBatchService(mvStore, mutantDetector, verdictCache, dnaHasher,
+                new DnaRecordCounter(mvStore), statsCounter, new TransactionTemplate(transactionManager));
+        when(mutantDetector.isMutant(any())).thenReturn(true);
+
+        // Act
+        boolean[] results = service.isMutantBatch(List.of(mutantDna, humanDna));
+
+        // Assert
+        assertArrayEquals(new boolean[]{true, false}, results);
+        verify(statsCounter, times(1)).recordInserts(1, 0);
+        assertEquals(1, mvStore.countMutants());
+        assertEquals(1, mvStore.countHumans());
+    }
+}
@@ -2,20 +2,46 @@ package com.mercadolibre.mutant.application.service;
 
 import com.mercadolibre.mutant.domain.detector.MutantDetector;
 import com.mercadolibre.mutant.domain.entity.VerificationLog;
+import com.mercadolibre.mutant.domain.hash.DnaHash;
+import com.mercadolibre.mutant.domain.hash.DnaPacker;
+import com.mercadolibre.mutant.domain.hash.Sha256DnaHasher;
 import com.mercadolibre.mutant.domain.repository.DnaRepository;
+import com.mercadolibre.mutant.domain.repository.VerdictStore;
+import com.mercadolibre.mutant.infrastructure.cache.DnaVerdictCache;
+import com.mercadolibre.mutant.infrastructure.persistence.HexKeyVerdictStore;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.ArgumentMatchers.anyBoolean;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.*;
 
@@ -32,7 +58,19 @@ class MutantServiceTest {
     @Mock
     private MutantDetector mutantDetector;
 
-    @InjectMocks
+    @Mock
+    private StatsCounter statsCounter;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Spy
+    private DnaVerdictCache verdictCache = new DnaVerdictCache(100, Duration.ofMinutes(1), new SimpleMeterRegistry());
+
+    private VerdictCoalescer verdictCoalescer;
+
+    private SimpleMeterRegistry meterRegistry;
+
     private MutantService mutantService;
 
     private String[] mutantDna;
@@ -40,6 +78,17 @@ class MutantServiceTest {
 
     @BeforeEach
     void setUp() {
+        // Store real con clave hexadecimal sobre el repositorio mockeado
+        HexKeyVerdictStore verdictStore = new HexKeyVerdictStore(dnaRepository);
+        verdictCoalescer = new VerdictCoalescer(new SimpleMeterRegistry());
+        meterRegistry = new SimpleMeterRegistry();
+        mutantService = new MutantService(verdictStore, mutantDetector, verdictCache,
+                new Sha256DnaHasher(), new DnaRecordCounter(verdictStore), statsCounter,
+                verdictCoalescer, new TransactionTemplate(transactionManager), new DnaStageMetrics(meterRegistry),
+                new DnaLogFormat(32, 1));
+        // Valor por defecto de mutant.storage.lookup-first.min-size
+        ReflectionTestUtils.setField(mutantService, "lookupFirstMinSize", 100);
+
         mutantDna = new String[]{
             "ATGCGA",
             "CAGTGC",
@@ -63,35 +112,63 @@ class MutantServiceTest {
     @DisplayName("Debe analizar y guardar ADN mutante nuevo")
     void testIsMutant_NewMutantDna() {
         // Arrange
-        when(dnaRepository.findById(anyString())).thenReturn(Optional.empty());
         when(mutantDetector.isMutant(mutantDna)).thenReturn(true);
-        when(dnaRepository.save(any(VerificationLog.class))).thenAnswer(i -> i.getArguments()[0]);
+        when(dnaRepository.insertIfAbsent(anyString(), anyBoolean(), anyInt(), any())).thenReturn(1);
 
         // Act
         boolean result = mutantService.isMutant(mutantDna);
 
-        // Assert
+        // Assert: una única sentencia, sin SELECT previo
         assertTrue(result);
-        verify(dnaRepository, times(1)).findById(anyString());
         verify(mutantDetector, times(1)).isMutant(mutantDna);
-        verify(dnaRepository, times(1)).save(any(VerificationLog.class));
+        ArgumentCaptor<String> hashCaptor = ArgumentCaptor.forClass(String.class);
+        verify(dnaRepository, times(1)).insertIfAbsent(hashCaptor.capture(), eq(true), eq(6), isNull());
+        assertNotNull(hashCaptor.getValue());
+        verify(dnaRepository, never()).findById(anyString());
+        verify(dnaRepository, never()).save(any());
+        verify(statsCounter, times(1)).recordInsert(true);
+    }
+
+    @Test
+    @DisplayName("Debe medir hash, búsqueda en memoria y guardado de un ADN nuevo")
+    void testIsMutant_RecordsStageTimers() {
+        // Arrange
+        when(mutantDetector.isMutant(mutantDna)).thenReturn(true);
+        when(dnaRepository.insertIfAbsent(anyString(), anyBoolean(), anyInt(), any())).thenReturn(1);
+
+        // Act
+        mutantService.isMutant(mutantDna);
+
+        // Assert
+        assertEquals(1, meterRegistry.get("dna.hash").timer().count());
+        assertEquals(1, meterRegistry.get("dna.lookup").tags("source", "cache", "result", "miss").timer().count());
+        assertEquals(1, meterRegistry.get("dna.save").tag("outcome", "inserted").timer().count());
+        assertEquals(0, meterRegistry.get("dna.lookup").tags("source", "store", "result", "hit").timer().count());
+    }
+
+    @Test
+    @DisplayName("No debe ejecutar COUNT sobre la tabla al guardar ADN nuevo")
+    void testIsMutant_NoCountQuery() {
+        // Arrange
+        when(mutantDetector.isMutant(any())).thenReturn(true);
+        when(dnaRepository.insertIfAbsent(anyString(), anyBoolean(), anyInt(), any())).thenReturn(1);
+
+        // Act
+        mutantService.isMutant(mutantDna);
+        mutantService.isMutant(humanDna);
 
-        // Verificar que se guardó correctamente
-        ArgumentCaptor<VerificationLog> captor = ArgumentCaptor.forClass(VerificationLog.class);
-        verify(dnaRepository).save(captor.capture());
-        VerificationLog saved = captor.getValue();
-        assertTrue(saved.getIsMutant());
-        assertEquals(6, saved.getSequenceSize());
-        assertNotNull(saved.getDnaHash());
+        // Assert
+        verify(dnaRepository, never()).count();
+        verify(dnaRepository, never()).countMutants();
+        verify(dnaRepository, never()).countHumans();
     }
 
     @Test
     @DisplayName("Debe analizar y guardar ADN humano nuevo")
     void testIsMutant_NewHumanDna() {
         // Arrange
-        when(dnaRepository.findById(anyString())).thenReturn(Optional.empty());
         when(mutantDetector.isMutant(humanDna)).thenReturn(false);
-        when(dnaRepository.save(any(VerificationLog.class))).thenAnswer(i -> i.getArguments()[0]);
+        when(dnaRepository.insertIfAbsent(anyString(), anyBoolean(), anyInt(), any())).thenReturn(1);
 
         // Act
         boolean result = mutantService.isMutant(humanDna);
@@ -99,18 +176,38 @@ class MutantServiceTest {
         // Assert
         assertFalse(result);
         verify(mutantDetector, times(1)).isMutant(humanDna);
-        verify(dnaRepository, times(1)).save(any(VerificationLog.class));
+        verify(dnaRepository, times(1)).insertIfAbsent(anyString(), eq(false), eq(6), isNull());
+        verify(statsCounter, times(1)).recordInsert(false);
+    }
+
+    @Test
+    @DisplayName("Debe retornar el veredicto guardado sin contarlo si el hash ya existía en BD")
+    void testIsMutant_ExistingRecord() {
+        // Arrange: el insert no inserta porque el hash ya estaba guardado
+        VerificationLog cachedRecord = VerificationLog.builder()
+                .dnaHash("test-hash")
+                .isMutant(true)
+                .sequenceSize(6)
+                .build();
+
+        when(dnaRepository.findById(anyString())).thenReturn(Optional.of(cachedRecord));
+
+        // Act
+        boolean result = mutantService.isMutant(mutantDna);
 
-        ArgumentCaptor<VerificationLog> captor = ArgumentCaptor.forClass(VerificationLog.class);
-        verify(dnaRepository).save(captor.capture());
-        VerificationLog saved = captor.getValue();
-        assertFalse(saved.getIsMutant());
+        // Assert
+        assertTrue(result);
+        verify(dnaRepository, times(1)).insertIfAbsent(anyString(), anyBoolean(), anyInt(), any());
+        verify(dnaRepository, times(1)).findById(anyString());
+        verify(dnaRepository, never()).save(any()); // No debe guardar
+        verify(statsCounter, never()).recordInsert(anyBoolean());
     }
 
     @Test
-    @DisplayName("Debe retornar resultado desde caché sin analizar nuevamente")
+    @DisplayName("Debe retornar resultado guardado sin analizar nuevamente si N supera el umbral de búsqueda previa")
     void testIsMutant_CachedResult() {
-        // Arrange
+        // Arrange: umbral en 6 para que el ADN de prueba cuente como grande
+        ReflectionTestUtils.setField(mutantService, "lookupFirstMinSize", 6);
         VerificationLog cachedRecord = VerificationLog.builder()
                 .dnaHash("test-hash")
                 .isMutant(true)
@@ -126,24 +223,155 @@ class MutantServiceTest {
         assertTrue(result);
         verify(dnaRepository, times(1)).findById(anyString());
         verify(mutantDetector, never()).isMutant(any()); // No debe llamar al detector
-        verify(dnaRepository, never()).save(any()); // No debe guardar
+        verify(dnaRepository, never()).insertIfAbsent(anyString(), anyBoolean(), anyInt(), any());
+        verify(statsCounter, never()).recordInsert(anyBoolean());
+    }
+
+    @Test
+    @DisplayName("Debe buscar antes de analizar si el store indica que el hash probablemente esté guardado")
+    void testIsMutant_LikelyStoredLooksUpFirst() {
+        // Arrange
+        VerdictStore likelyStored = spy(new HexKeyVerdictStore(dnaRepository));
+        doReturn(true).when(likelyStored).isLikelyStored(any());
+        mutantService = new MutantService(likelyStored, mutantDetector, verdictCache,
+                new Sha256DnaHasher(), new DnaRecordCounter(likelyStored), statsCounter,
+                verdictCoalescer, new TransactionTemplate(transactionManager), new DnaStageMetrics(meterRegistry),
+                new DnaLogFormat(32, 1));
+        ReflectionTestUtils.setField(mutantService, "lookupFirstMinSize", 100);
+        when(dnaRepository.findById(anyString())).thenReturn(Optional.of(VerificationLog.builder()
+                .dnaHash("test-hash")
+                .isMutant(false)
+                .sequenceSize(6)
+                .build()));
+
+        // Act
+        boolean first = mutantService.isMutant(humanDna);
+        boolean second = mutantService.isMutant(humanDna);
+
+        // Assert: la segunda vez responde la caché en memoria
+        assertFalse(first);
+        assertFalse(second);
+        verify(mutantDetector, never()).isMutant(any());
+        verify(dnaRepository, times(1)).findById(anyString());
+        verify(dnaRepository, never()).insertIfAbsent(anyString(), anyBoolean(), anyInt(), any());
+    }
+
+    @Test
+    @DisplayName("Debe resolver la violación de clave de un insert concurrente con el veredicto guardado")
+    void testIsMutant_DuplicateKeyFromConcurrentInsert() {
+        // Arrange: otra instancia insertó el hash entre el MERGE y el commit
+        when(mutantDetector.isMutant(mutantDna)).thenReturn(true);
+        when(dnaRepository.insertIfAbsent(anyString(), anyBoolean(), anyInt(), any()))
+                .thenThrow(new DuplicateKeyException("PRIMARY KEY ON dna_records"));
+        when(dnaRepository.findById(anyString())).thenReturn(Optional.of(VerificationLog.builder()
+                .dnaHash("test-hash")
+                .isMutant(false)
+                .sequenceSize(6)
+                .build()));
+
+        // Act
+        boolean result = mutantService.isMutant(mutantDna);
+
+        // Assert
+        assertFalse(result);
+        verify(dnaRepository, times(1)).findById(anyString());
+        verify(statsCounter, never()).recordInsert(anyBoolean());
+    }
+
+    @Test
+    @DisplayName("Debe retornar resultado desde caché en memoria sin consultar la BD")
+    void testIsMutant_InMemoryCachedResult() {
+        // Arrange
+        when(mutantDetector.isMutant(humanDna)).thenReturn(false);
+        when(dnaRepository.insertIfAbsent(anyString(), anyBoolean(), anyInt(), any())).thenReturn(1);
+        mutantService.isMutant(humanDna);
+
+        // Act
+        boolean result = mutantService.isMutant(humanDna);
+
+        // Assert
+        assertFalse(result);
+        verify(mutantDetector, times(1)).isMutant(any());
+        verify(dnaRepository, times(1)).insertIfAbsent(anyString(), anyBoolean(), anyInt(), any());
+        assertEquals(1, verdictCache.stats().hitCount());
+    }
+
+    @Test
+    @DisplayName("Debe poblar la caché en memoria con resultados leídos de la BD")
+    void testIsMutant_DbHitPopulatesMemoryCache() {
+        // Arrange
+        VerificationLog cachedRecord = VerificationLog.builder()
+                .dnaHash("test-hash")
+                .isMutant(true)
+                .sequenceSize(6)
+                .build();
+        when(dnaRepository.findById(anyString())).thenReturn(Optional.of(cachedRecord));
+
+        // Act
+        mutantService.isMutant(mutantDna);
+        boolean result = mutantService.isMutant(mutantDna);
+
+        // Assert
+        assertTrue(result);
+        verify(dnaRepository, times(1)).findById(anyString());
+        verify(dnaRepository, times(1)).insertIfAbsent(anyString(), anyBoolean(), anyInt(), any());
+    }
+
+    @Test
+    @DisplayName("Requests concurrentes con el mismo ADN deben analizarse y guardarse una sola vez")
+    void testIsMutant_ConcurrentDuplicatesCoalesced() throws Exception {
+        // Arrange: el detector del líder se bloquea hasta que llegan los duplicados
+        CountDownLatch release = new CountDownLatch(1);
+        when(mutantDetector.isMutant(mutantDna)).thenAnswer(i -> release.await(5, TimeUnit.SECONDS));
+        when(dnaRepository.insertIfAbsent(anyString(), anyBoolean(), anyInt(), any())).thenReturn(1);
+        int requests = 4;
+        ExecutorService executor = Executors.newFixedThreadPool(requests);
+
+        try {
+            // Act
+            Future<Boolean> leader = executor.submit(() -> mutantService.isMutant(mutantDna));
+            verify(mutantDetector, timeout(5000)).isMutant(mutantDna);
+            List<Future<Boolean>> duplicates = new ArrayList<>();
+            for (int i = 1; i < requests; i++) {
+                duplicates.add(executor.submit(() -> mutantService.isMutant(mutantDna)));
+            }
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while (verdictCoalescer.coalescedCount() < requests - 1) {
+                assertTrue(System.nanoTime() < deadline, "Los duplicados no llegaron a esperar");
+                Thread.onSpinWait();
+            }
+            release.countDown();
+
+            // Assert
+            assertTrue(leader.get(5, TimeUnit.SECONDS));
+            for (Future<Boolean> duplicate : duplicates) {
+                assertTrue(duplicate.get(5, TimeUnit.SECONDS));
+            }
+            verify(mutantDetector, times(1)).isMutant(any());
+            verify(dnaRepository, times(1)).insertIfAbsent(anyString(), anyBoolean(), anyInt(), any());
+            verify(statsCounter, times(1)).recordInsert(true);
+            assertEquals(requests - 1, verdictCoalescer.coalescedCount());
+        } finally {
+            executor.shutdownNow();
+        }
     }
 
     @Test
     @DisplayName("Debe generar hash único para la misma secuencia")
     void testGenerateDnaHash_SameSequence() {
         // Arrange
-        when(dnaRepository.findById(anyString())).thenReturn(Optional.empty());
         when(mutantDetector.isMutant(any())).thenReturn(true);
-        when(dnaRepository.save(any(VerificationLog.class))).thenAnswer(i -> i.getArguments()[0]);
+        when(dnaRepository.insertIfAbsent(anyString(), anyBoolean(), anyInt(), any())).thenReturn(1);
 
         // Act
         mutantService.isMutant(mutantDna);
         mutantService.isMutant(mutantDna);
 
         // Assert
-        ArgumentCaptor<String> hashCaptor = ArgumentCaptor.forClass(String.class);
-        verify(dnaRepository, times(2)).findById(hashCaptor.capture());
+        ArgumentCaptor<DnaHash> hashCaptor = ArgumentCaptor.forClass(DnaHash.class);
+        verify(verdictCache, times(2)).get(hashCaptor.capture());
+        // La segunda resuelve en memoria
+        verify(dnaRepository, times(1)).insertIfAbsent(anyString(), anyBoolean(), anyInt(), any());
         
         // Los dos hash deben ser iguales
         assertEquals(hashCaptor.getAllValues().get(0), hashCaptor.getAllValues().get(1));
@@ -153,9 +381,8 @@ class MutantServiceTest {
     @DisplayName("Debe generar hash diferente para secuencias diferentes")
     void testGenerateDnaHash_DifferentSequences() {
         // Arrange
-        when(dnaRepository.findById(anyString())).thenReturn(Optional.empty());
         when(mutantDetector.isMutant(any())).thenReturn(true);
-        when(dnaRepository.save(any(VerificationLog.class))).thenAnswer(i -> i.getArguments()[0]);
+        when(dnaRepository.insertIfAbsent(anyString(), anyBoolean(), anyInt(), any())).thenReturn(1);
 
         // Act
         mutantService.isMutant(mutantDna);
@@ -163,7 +390,7 @@ class MutantServiceTest {
 
         // Assert
         ArgumentCaptor<String> hashCaptor = ArgumentCaptor.forClass(String.class);
-        verify(dnaRepository, times(2)).findById(hashCaptor.capture());
+        verify(dnaRepository, times(2)).insertIfAbsent(hashCaptor.capture(), anyBoolean(), anyInt(), any());
         
         // Los dos hash deben ser diferentes
         assertNotEquals(hashCaptor.getAllValues().get(0), hashCaptor.getAllValues().get(1));
@@ -173,17 +400,159 @@ class MutantServiceTest {
     @DisplayName("Debe generar hash de 64 caracteres (SHA-256)")
     void testGenerateDnaHash_Length() {
         // Arrange
-        when(dnaRepository.findById(anyString())).thenReturn(Optional.empty());
         when(mutantDetector.isMutant(any())).thenReturn(true);
-        when(dnaRepository.save(any(VerificationLog.class))).thenAnswer(i -> i.getArguments()[0]);
+        when(dnaRepository.insertIfAbsent(anyString(), anyBoolean(), anyInt(), any())).thenReturn(1);
 
         // Act
         mutantService.isMutant(mutantDna);
 
         // Assert
-        ArgumentCaptor<VerificationLog> captor = ArgumentCaptor.forClass(VerificationLog.class);
-        verify(dnaRepository).save(captor.capture());
+        ArgumentCaptor<String> captor = ArgumentCaptor.forClass(String.class);
+        verify(dnaRepository).insertIfAbsent(captor.capture(), anyBoolean(), anyInt(), any());
         
-        assertEquals(64, captor.getValue().getDnaHash().length());
+        assertEquals(64, captor.getValue().length());
+    }
+
+    @Test
+    @DisplayName("Debe generar el mismo hash que SHA-256 sobre las filas unidas con '|'")
+    void testGenerateDnaHash_CompatibleWithJoinedRows() throws Exception {
+        // Arrange
+        when(mutantDetector.isMutant(any())).thenReturn(true);
+        when(dnaRepository.insertIfAbsent(anyString(), anyBoolean(), anyInt(), any())).thenReturn(1);
+
+        byte[] expected = MessageDigest.getInstance("SHA-256")
+                .digest(String.join("|", mutantDna).getBytes(StandardCharsets.UTF_8));
+
+        // Act
+        mutantService.isMutant(mutantDna);
+
+        // Assert
+        ArgumentCaptor<String> captor = ArgumentCaptor.forClass(String.class);
+        verify(dnaRepository).insertIfAbsent(captor.capture(), anyBoolean(), anyInt(), any());
+
+        assertEquals(HexFormat.of().formatHex(expected), captor.getValue());
+    }
+
+    @Test
+    @DisplayName("Debe resolver ADN por streaming con el mismo hash que el camino String[]")
+    void testIsMutantFromStream_SameHashAsArrayPath() {
+        // Arrange
+        when(dnaRepository.insertIfAbsent(anyString(), anyBoolean(), anyInt(), any())).thenReturn(1);
+
+        DnaStreamAnalysis analysis = new DnaStreamAnalysis(new Sha256DnaHasher(), false);
+        for (String row : mutantDna) {
+            analysis.acceptRow(row.toCharArray(), 0, row.length());
+        }
+
+        // Act
+        boolean streamed = mutantService.isMutantFromStream(analysis);
+        mutantService.isMutant(mutantDna);
+
+        // Assert
+        assertTrue(streamed);
+        ArgumentCaptor<String> captor = ArgumentCaptor.forClass(String.class);
+        verify(dnaRepository, times(1)).insertIfAbsent(captor.capture(), eq(true), eq(6), any());
+
+        // El camino String[] resuelve desde la caché en memoria con el mismo hash
+        ArgumentCaptor<DnaHash> hashCaptor = ArgumentCaptor.forClass(DnaHash.class);
+        verify(verdictCache, times(2)).get(hashCaptor.capture());
+        assertEquals(captor.getValue(), hashCaptor.getAllValues().get(1).toHex());
+        verify(mutantDetector, never()).isMutant(any());
+    }
+
+    @Test
+    @DisplayName("Debe retornar resultado desde caché para ADN recibido por streaming")
+    void testIsMutantFromStream_CachedResult() {
+        // Arrange
+        VerificationLog cachedRecord = VerificationLog.builder()
+                .dnaHash("test-hash")
+                .isMutant(false)
+                .sequenceSize(6)
+                .build();
+        when(dnaRepository.findById(anyString())).thenReturn(Optional.of(cachedRecord));
+
+        DnaStreamAnalysis analysis = new DnaStreamAnalysis(new Sha256DnaHasher(), false);
+        for (String row : mutantDna) {
+            analysis.acceptRow(row.toCharArray(), 0, row.length());
+        }
+
+        // Act
+        boolean result = mutantService.isMutantFromStream(analysis);
+
+        // Assert
+        assertFalse(result);
+        verify(dnaRepository, never()).save(any());
+        verify(statsCounter, never()).recordInsert(anyBoolean());
+    }
+
+    @Test
+    @DisplayName("Debe rechazar ADN por streaming que no es NxN")
+    void testIsMutantFromStream_NotSquare() {
+        DnaStreamAnalysis analysis = new DnaStreamAnalysis(new Sha256DnaHasher(), false);
+        analysis.acceptRow("ATGC".toCharArray(), 0, 4);
+
+        assertThrows(IllegalArgumentException.class, () -> mutantService.isMutantFromStream(analysis));
+        verify(dnaRepository, never()).insertIfAbsent(anyString(), anyBoolean(), anyInt(), any());
+    }
+
+    @Test
+    @DisplayName("Debe guardar la copia compacta del ADN cuando se verifican colisiones")
+    void testIsMutant_VerifyCollisions_StoresPackedDna() {
+        // Arrange
+        ReflectionTestUtils.setField(mutantService, "verifyCollisions", true);
+        when(mutantDetector.isMutant(mutantDna)).thenReturn(true);
+        when(dnaRepository.insertIfAbsent(anyString(), anyBoolean(), anyInt(), any())).thenReturn(1);
+
+        // Act
+        mutantService.isMutant(mutantDna);
+
+        // Assert
+        ArgumentCaptor<byte[]> captor = ArgumentCaptor.forClass(byte[].class);
+        verify(dnaRepository).insertIfAbsent(anyString(), eq(true), eq(6), captor.capture());
+        assertArrayEquals(DnaPacker.pack(mutantDna), captor.getValue());
+    }
+
+    @Test
+    @DisplayName("Debe analizar sin guardar cuando el hash colisiona con otro ADN")
+    void testIsMutant_VerifyCollisions_Collision() {
+        // Arrange
+        ReflectionTestUtils.setField(mutantService, "verifyCollisions", true);
+        VerificationLog otherDna = VerificationLog.builder()
+                .dnaHash("test-hash")
+                .isMutant(true)
+                .sequenceSize(6)
+                .dnaPacked(DnaPacker.pack(mutantDna))
+                .build();
+        when(dnaRepository.findById(anyString())).thenReturn(Optional.of(otherDna));
+        when(mutantDetector.isMutant(humanDna)).thenReturn(false);
+
+        // Act
+        boolean result = mutantService.isMutant(humanDna);
+
+        // Assert
+        assertFalse(result);
+        verify(mutantDetector, times(1)).isMutant(humanDna);
+        verify(dnaRepository, never()).save(any());
+        verify(statsCounter, never()).recordInsert(anyBoolean());
+    }
+
+    @Test
+    @DisplayName("Debe aceptar por hash registros guardados sin copia compacta")
+    void testIsMutant_VerifyCollisions_LegacyRecord() {
+        // Arrange
+        ReflectionTestUtils.setField(mutantService, "verifyCollisions", true);
+        VerificationLog legacyRecord = VerificationLog.builder()
+                .dnaHash("test-hash")
+                .isMutant(true)
+                .sequenceSize(6)
+                .build();
+        when(dnaRepository.findById(anyString())).thenReturn(Optional.of(legacyRecord));
+
+        // Act
+        boolean result = mutantService.isMutant(mutantDna);
+
+        // Assert
+        assertTrue(result);
+        verify(statsCounter, never()).recordInsert(anyBoolean());
     }
 }
@@ -1,12 +1,13 @@
 package com.mercadolibre.mutant.application.service;
 
 import com.mercadolibre.mutant.application.dto.StatsResponse;
-import com.mercadolibre.mutant.domain.repository.DnaRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -20,7 +21,10 @@ import static org.mockito.Mockito.*;
 class StatsServiceTest {
 
     @Mock
-    private DnaRepository dnaRepository;
+    private StatsCounter statsCounter;
+
+    @Spy
+    private DnaStageMetrics stageMetrics = new DnaStageMetrics(new SimpleMeterRegistry());
 
     @InjectMocks
     private StatsService statsService;
@@ -29,8 +33,7 @@ class StatsServiceTest {
     @DisplayName("Debe calcular estadísticas correctamente con mutantes y humanos")
     void testGetStats_WithMutantsAndHumans() {
         // Arrange
-        when(dnaRepository.countMutants()).thenReturn(40L);
-        when(dnaRepository.countHumans()).thenReturn(100L);
+        when(statsCounter.snapshot()).thenReturn(new StatsSnapshot(40L, 100L));
 
         // Act
         StatsResponse stats = statsService.getStats();
@@ -41,16 +44,14 @@ class StatsServiceTest {
         assertEquals(100L, stats.getCountHumanDna());
         assertEquals(0.4, stats.getRatio());
 
-        verify(dnaRepository, times(1)).countMutants();
-        verify(dnaRepository, times(1)).countHumans();
+        verify(statsCounter, times(1)).snapshot();
     }
 
     @Test
     @DisplayName("Debe retornar ratio 0 cuando no hay registros")
     void testGetStats_NoRecords() {
         // Arrange
-        when(dnaRepository.countMutants()).thenReturn(0L);
-        when(dnaRepository.countHumans()).thenReturn(0L);
+        when(statsCounter.snapshot()).thenReturn(new StatsSnapshot(0L, 0L));
 
         // Act
         StatsResponse stats = statsService.getStats();
@@ -66,8 +67,7 @@ class StatsServiceTest {
     @DisplayName("Debe calcular ratio cuando solo hay mutantes")
     void testGetStats_OnlyMutants() {
         // Arrange
-        when(dnaRepository.countMutants()).thenReturn(10L);
-        when(dnaRepository.countHumans()).thenReturn(0L);
+        when(statsCounter.snapshot()).thenReturn(new StatsSnapshot(10L, 0L));
 
         // Act
         StatsResponse stats = statsService.getStats();
@@ -83,8 +83,7 @@ class StatsServiceTest {
     @DisplayName("Debe calcular ratio 0 cuando solo hay humanos")
     void testGetStats_OnlyHumans() {
         // Arrange
-        when(dnaRepository.countMutants()).thenReturn(0L);
-        when(dnaRepository.countHumans()).thenReturn(50L);
+        when(statsCounter.snapshot()).thenReturn(new StatsSnapshot(0L, 50L));
 
         // Act
         StatsResponse stats = statsService.getStats();
@@ -100,8 +99,7 @@ class StatsServiceTest {
     @DisplayName("Debe calcular ratio 1.0 cuando hay igual cantidad")
     void testGetStats_EqualAmounts() {
         // Arrange
-        when(dnaRepository.countMutants()).thenReturn(50L);
-        when(dnaRepository.countHumans()).thenReturn(50L);
+        when(statsCounter.snapshot()).thenReturn(new StatsSnapshot(50L, 50L));
 
         // Act
         StatsResponse stats = statsService.getStats();
@@ -117,8 +115,7 @@ class StatsServiceTest {
     @DisplayName("Debe redondear ratio correctamente a 2 decimales")
     void testGetStats_RatioRounding() {
         // Arrange
-        when(dnaRepository.countMutants()).thenReturn(1L);
-        when(dnaRepository.countHumans()).thenReturn(3L);
+        when(statsCounter.snapshot()).thenReturn(new StatsSnapshot(1L, 3L));
 
         // Act
         StatsResponse stats = statsService.getStats();
@@ -132,8 +129,7 @@ class StatsServiceTest {
     @DisplayName("Debe manejar números grandes correctamente")
     void testGetStats_LargeNumbers() {
         // Arrange
-        when(dnaRepository.countMutants()).thenReturn(1000000L);
-        when(dnaRepository.countHumans()).thenReturn(5000000L);
+        when(statsCounter.snapshot()).thenReturn(new StatsSnapshot(1000000L, 5000000L));
 
         // Act
         StatsResponse stats = statsService.getStats();
@@ -0,0 +1,168 @@
+package com.mercadolibre.mutant.application.service;
+
+import com.mercadolibre.mutant.domain.entity.DnaStats;
+import com.mercadolibre.mutant.domain.repository.DnaStatsRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * Tests unitarios para StripedStatsCounter
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Striped Stats Counter Tests")
+class StripedStatsCounterTest {
+
+    @Mock
+    private DnaStatsRepository dnaStatsRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private StripedStatsCounter counter;
+
+    @BeforeEach
+    void setUp() {
+        when(dnaStatsRepository.findById(DnaStats.SINGLETON_ID)).thenReturn(Optional.of(row(10, 20)));
+        counter = new StripedStatsCounter(dnaStatsRepository,
+                new TransactionTemplate(transactionManager), Duration.ofHours(1));
+        counter.restore();
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("Debe sumar los incrementos en memoria sin escribir en la BD")
+    void testRecordInsert_NoDatabaseWrite() {
+        // Act
+        counter.recordInsert(true);
+        counter.recordInsert(false);
+        counter.recordInsert(false);
+        StatsSnapshot snapshot = counter.snapshot();
+
+        // Assert
+        assertEquals(11, snapshot.getMutantCount());
+        assertEquals(22, snapshot.getHumanCount());
+        verify(dnaStatsRepository, never()).increment(anyInt(), anyLong(), anyLong());
+    }
+
+    @Test
+    @DisplayName("Dentro de una transacción solo debe contar tras el commit")
+    void testRecordInsert_CountsAfterCommit() {
+        // Arrange
+        TransactionSynchronizationManager.initSynchronization();
+
+        // Act
+        counter.recordInsert(true);
+        long beforeCommit = counter.snapshot().getMutantCount();
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+
+        // Assert
+        assertEquals(10, beforeCommit);
+        assertEquals(11, counter.snapshot().getMutantCount());
+    }
+
+    @Test
+    @DisplayName("El volcado debe aplicar todos los pendientes en un único UPDATE")
+    void testFlush_SingleBatchedUpdate() {
+        // Arrange
+        counter.recordInsert(true);
+        counter.recordInsert(true);
+        counter.recordInsert(false);
+        when(dnaStatsRepository.findById(DnaStats.SINGLETON_ID)).thenReturn(Optional.of(row(12, 21)));
+
+        // Act
+        counter.flush();
+        counter.flush();
+
+        // Assert
+        verify(dnaStatsRepository, times(1)).increment(DnaStats.SINGLETON_ID, 2, 1);
+        StatsSnapshot snapshot = counter.snapshot();
+        assertEquals(12, snapshot.getMutantCount());
+        assertEquals(21, snapshot.getHumanCount());
+    }
+
+    @Test
+    @DisplayName("Un volcado con solo descuentos debe aplicarse")
+    void testFlush_NegativeOnlyBatch() {
+        // Arrange: veredictos encolados que la escritura diferida no llegó a insertar
+        counter.recordInserts(-1, -2);
+        when(dnaStatsRepository.findById(DnaStats.SINGLETON_ID)).thenReturn(Optional.of(row(9, 18)));
+
+        // Act
+        counter.flush();
+
+        // Assert
+        verify(dnaStatsRepository).increment(DnaStats.SINGLETON_ID, -1, -2);
+        StatsSnapshot snapshot = counter.snapshot();
+        assertEquals(9, snapshot.getMutantCount());
+        assertEquals(18, snapshot.getHumanCount());
+    }
+
+    @Test
+    @DisplayName("Si el volcado falla los incrementos deben quedar pendientes")
+    void testFlush_FailureKeepsPending() {
+        // Arrange
+        counter.recordInsert(true);
+        when(dnaStatsRepository.increment(eq(DnaStats.SINGLETON_ID), anyLong(), anyLong()))
+                .thenThrow(new IllegalStateException("DB down"));
+
+        // Act
+        counter.flush();
+
+        // Assert
+        assertEquals(11, counter.snapshot().getMutantCount());
+
+        // Act: la BD vuelve y el siguiente volcado reintenta
+        reset(dnaStatsRepository);
+        when(dnaStatsRepository.findById(DnaStats.SINGLETON_ID)).thenReturn(Optional.of(row(11, 20)));
+        counter.flush();
+
+        // Assert
+        verify(dnaStatsRepository).increment(DnaStats.SINGLETON_ID, 1, 0);
+        assertEquals(11, counter.snapshot().getMutantCount());
+    }
+
+    @Test
+    @DisplayName("Debe releer dna_stats cuando se supera la antigüedad máxima")
+    void testSnapshot_RefreshesWhenStale() {
+        // Arrange: sin tolerancia, cada lectura relee la fila (lo volcado por otras instancias)
+        StripedStatsCounter fresh = new StripedStatsCounter(dnaStatsRepository,
+                new TransactionTemplate(transactionManager), Duration.ZERO);
+        fresh.restore();
+        when(dnaStatsRepository.findById(DnaStats.SINGLETON_ID)).thenReturn(Optional.of(row(50, 60)));
+
+        // Act
+        StatsSnapshot snapshot = fresh.snapshot();
+
+        // Assert
+        assertEquals(50, snapshot.getMutantCount());
+        assertEquals(60, snapshot.getHumanCount());
+        assertEquals(10, counter.snapshot().getMutantCount());
+    }
+
+    private static DnaStats row(long mutants, long humans) {
+        return DnaStats.builder().id(DnaStats.SINGLETON_ID).mutantCount(mutants).humanCount(humans).build();
+    }
+}
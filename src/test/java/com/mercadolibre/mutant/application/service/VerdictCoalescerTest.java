@@ -0,0 +1,162 @@
+package com.mercadolibre.mutant.application.service;
+
+import com.mercadolibre.mutant.domain.hash.DnaHash;
+import com.mercadolibre.mutant.domain.repository.StoredVerdict;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests unitarios para VerdictCoalescer
+ */
+@DisplayName("Verdict Coalescer Tests")
+class VerdictCoalescerTest {
+
+    private static final DnaHash HASH =
+            DnaHash.fromHex("0123456789abcdeffedcba987654321000112233445566778899aabbccddeeff");
+    private static final DnaHash OTHER_HASH =
+            DnaHash.fromHex("ffeeddccbbaa99887766554433221100fedcba98765432100123456789abcdef");
+
+    private SimpleMeterRegistry meterRegistry;
+    private VerdictCoalescer coalescer;
+    private ExecutorService executor;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        coalescer = new VerdictCoalescer(meterRegistry);
+        executor = Executors.newFixedThreadPool(8);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("Los duplicados concurrentes deben esperar el cálculo del líder")
+    void testComputeOnce_ConcurrentDuplicatesShareResult() throws Exception {
+        // Arrange
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger computations = new AtomicInteger();
+        StoredVerdict expected = new StoredVerdict(true, null);
+
+        // Act
+        Future<StoredVerdict> leader = executor.submit(() -> coalescer.computeOnce(HASH, () -> {
+            computations.incrementAndGet();
+            await(release);
+            return expected;
+        }));
+        awaitInFlight(1);
+        List<Future<StoredVerdict>> duplicates = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            duplicates.add(executor.submit(() -> coalescer.computeOnce(HASH, () -> {
+                computations.incrementAndGet();
+                return new StoredVerdict(false, null);
+            })));
+        }
+        awaitCoalesced(5);
+        release.countDown();
+
+        // Assert
+        assertSame(expected, leader.get(5, TimeUnit.SECONDS));
+        for (Future<StoredVerdict> duplicate : duplicates) {
+            assertSame(expected, duplicate.get(5, TimeUnit.SECONDS));
+        }
+        assertEquals(1, computations.get());
+        assertEquals(5.0, meterRegistry.get(VerdictCoalescer.COALESCED_METRIC).counter().count());
+        assertEquals(0.0, meterRegistry.get(VerdictCoalescer.IN_FLIGHT_METRIC).gauge().value());
+    }
+
+    @Test
+    @DisplayName("Hashes distintos no deben compartir el cálculo")
+    void testComputeOnce_DifferentHashesNotCoalesced() {
+        // Act
+        StoredVerdict first = coalescer.computeOnce(HASH, () -> new StoredVerdict(true, null));
+        StoredVerdict second = coalescer.computeOnce(OTHER_HASH, () -> new StoredVerdict(false, null));
+
+        // Assert
+        assertTrue(first.isMutant());
+        assertFalse(second.isMutant());
+        assertEquals(0, coalescer.coalescedCount());
+    }
+
+    @Test
+    @DisplayName("Un request posterior al líder debe calcular de nuevo")
+    void testComputeOnce_KeyReleasedAfterCompletion() {
+        // Arrange
+        AtomicInteger computations = new AtomicInteger();
+
+        // Act
+        coalescer.computeOnce(HASH, () -> new StoredVerdict(computations.incrementAndGet() > 0, null));
+        coalescer.computeOnce(HASH, () -> new StoredVerdict(computations.incrementAndGet() > 0, null));
+
+        // Assert
+        assertEquals(2, computations.get());
+        assertEquals(0, coalescer.coalescedCount());
+    }
+
+    @Test
+    @DisplayName("Si el líder falla los duplicados deben recibir la misma excepción")
+    void testComputeOnce_LeaderFailurePropagates() throws Exception {
+        // Arrange
+        CountDownLatch release = new CountDownLatch(1);
+
+        // Act
+        Future<StoredVerdict> leader = executor.submit(() -> coalescer.computeOnce(HASH, () -> {
+            await(release);
+            throw new IllegalStateException("DB down");
+        }));
+        awaitInFlight(1);
+        Future<StoredVerdict> duplicate = executor.submit(() -> coalescer.computeOnce(HASH, () -> new StoredVerdict(true, null)));
+        awaitCoalesced(1);
+        release.countDown();
+
+        // Assert
+        ExecutionException leaderError = assertThrows(ExecutionException.class, () -> leader.get(5, TimeUnit.SECONDS));
+        ExecutionException duplicateError = assertThrows(ExecutionException.class, () -> duplicate.get(5, TimeUnit.SECONDS));
+        assertInstanceOf(IllegalStateException.class, leaderError.getCause());
+        assertInstanceOf(IllegalStateException.class, duplicateError.getCause());
+
+        // La clave se libera: el siguiente request vuelve a calcular
+        assertTrue(coalescer.computeOnce(HASH, () -> new StoredVerdict(true, null)).isMutant());
+    }
+
+    private void awaitInFlight(int expected) {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (meterRegistry.get(VerdictCoalescer.IN_FLIGHT_METRIC).gauge().value() < expected) {
+            assertTrue(System.nanoTime() < deadline, "El líder no empezó a calcular");
+            Thread.onSpinWait();
+        }
+    }
+
+    private void awaitCoalesced(int expected) {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (coalescer.coalescedCount() < expected) {
+            assertTrue(System.nanoTime() < deadline, "Los duplicados no llegaron a esperar");
+            Thread.onSpinWait();
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,142 @@
+package com.mercadolibre.mutant.domain.detector;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests unitarios para BitPackedMutantDetector
+ * Incluye comparación diferencial contra el motor char[][]
+ */
+@DisplayName("BitPackedMutantDetector Tests")
+class BitPackedMutantDetectorTest {
+
+    private static final char[] BASES = {'A', 'T', 'C', 'G'};
+
+    private BitPackedMutantDetector bitPackedDetector;
+    private MutantDetector referenceDetector;
+
+    @BeforeEach
+    void setUp() {
+        bitPackedDetector = new BitPackedMutantDetector();
+        referenceDetector = new MutantDetector();
+    }
+
+    @Test
+    @DisplayName("Debe detectar mutante ejemplo MercadoLibre")
+    void testMutant_Example() {
+        String[] dna = {"ATGCGA", "CAGTGC", "TTATGT", "AGAAGG", "CCCCTA", "TCACTG"};
+
+        assertTrue(bitPackedDetector.isMutant(dna));
+    }
+
+    @Test
+    @DisplayName("Debe detectar humano ejemplo MercadoLibre modificado")
+    void testHuman_Example() {
+        String[] dna = {"ATGCGA", "CAGTGC", "TTATGT", "AGACGG", "CCCTTA", "TCACTG"};
+
+        assertFalse(bitPackedDetector.isMutant(dna));
+    }
+
+    @Test
+    @DisplayName("Debe detectar diagonales secundarias (↙)")
+    void testMutant_AntiDiagonal() {
+        String[] dna = {
+            "ATGCT",
+            "CAGTC",
+            "TCTGA",
+            "GTCAG",
+            "TCAGT"
+        };
+
+        assertEquals(referenceDetector.isMutant(dna), bitPackedDetector.isMutant(dna));
+        assertTrue(bitPackedDetector.isMutant(dna));
+    }
+
+    @Test
+    @DisplayName("Debe detectar secuencias que cruzan el límite de palabra de 32 bases")
+    void testMutant_RunAcrossWordBoundary() {
+        int n = 40;
+        String[] dna = humanMatrix(n);
+        // Secuencias en columnas 30..33 de las filas 0 y 5
+        dna[0] = dna[0].substring(0, 30) + "GGGG" + dna[0].substring(34);
+        dna[5] = dna[5].substring(0, 30) + "TTTT" + dna[5].substring(34);
+
+        assertTrue(referenceDetector.isMutant(dna));
+        assertTrue(bitPackedDetector.isMutant(dna));
+    }
+
+    @Test
+    @DisplayName("No debe contar el relleno de la última palabra como bases A")
+    void testHuman_PaddingIsIgnored() {
+        // Filas que terminan en "AAA": con el relleno (A=00) formarían secuencias falsas
+        int n = 35;
+        String[] dna = humanMatrix(n);
+        for (int i = 0; i < n; i += 3) {
+            dna[i] = dna[i].substring(0, n - 3) + "AAA";
+        }
+
+        assertEquals(referenceDetector.isMutant(dna), bitPackedDetector.isMutant(dna));
+    }
+
+    @Test
+    @DisplayName("Debe lanzar las mismas excepciones de validación")
+    void testValidation_SameErrors() {
+        IllegalArgumentException ex = assertThrows(IllegalArgumentException.class,
+            () -> bitPackedDetector.isMutant(new String[]{"ATGC", "CXGT", "TTAT", "AGAC"}));
+        assertEquals("DNA must contain only A, T, C, G characters", ex.getMessage());
+
+        assertThrows(IllegalArgumentException.class, () -> bitPackedDetector.isMutant(null));
+        assertThrows(IllegalArgumentException.class,
+            () -> bitPackedDetector.isMutant(new String[]{"ATGC", "CAGTGC", "TTAT", "AGAC"}));
+    }
+
+    @ParameterizedTest(name = "N = {0}")
+    @ValueSource(ints = {1, 3, 4, 5, 6, 31, 32, 33, 63, 64, 65, 100})
+    @DisplayName("Debe coincidir con el motor char[][] en matrices aleatorias")
+    void testDifferential_RandomMatrices(int n) {
+        Random random = new Random(31L * n);
+        for (int round = 0; round < 200; round++) {
+            String[] dna = randomMatrix(random, n);
+            assertEquals(referenceDetector.isMutant(dna), bitPackedDetector.isMutant(dna),
+                () -> "Discrepancia para " + String.join(",", dna));
+        }
+    }
+
+    /**
+     * Genera una matriz con alfabeto reducido para producir secuencias con frecuencia
+     */
+    private static String[] randomMatrix(Random random, int n) {
+        int alphabet = 2 + random.nextInt(3);
+        String[] dna = new String[n];
+        for (int i = 0; i < n; i++) {
+            char[] row = new char[n];
+            for (int j = 0; j < n; j++) {
+                row[j] = BASES[random.nextInt(alphabet)];
+            }
+            dna[i] = new String(row);
+        }
+        return dna;
+    }
+
+    /**
+     * Matriz sin ninguna secuencia de 4 en ninguna dirección
+     */
+    private static String[] humanMatrix(int n) {
+        String[] dna = new String[n];
+        for (int i = 0; i < n; i++) {
+            char[] row = new char[n];
+            for (int j = 0; j < n; j++) {
+                row[j] = BASES[(j + 2 * i) % 4];
+            }
+            dna[i] = new String(row);
+        }
+        return dna;
+    }
+}
@@ -0,0 +1,72 @@
+package com.mercadolibre.mutant.domain.detector;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests unitarios para DnaRowScanner
+ */
+@DisplayName("DnaRowScanner Tests")
+class DnaRowScannerTest {
+
+    @Test
+    @DisplayName("Debe detectar mutante procesando filas de a una")
+    void testMutant_RowByRow() {
+        DnaRowScanner scanner = new DnaRowScanner(6);
+
+        for (String row : new String[]{"ATGCGA", "CAGTGC", "TTATGT", "AGAAGG", "CCCCTA", "TCACTG"}) {
+            scanner.acceptRow(row);
+        }
+
+        assertTrue(scanner.finish());
+        assertEquals(6, scanner.getRows());
+    }
+
+    @Test
+    @DisplayName("Debe aceptar filas desde un buffer de caracteres con offset")
+    void testMutant_FromCharBuffer() {
+        char[] buffer = "xxAAAACCCCTATATGTGxx".toCharArray();
+        DnaRowScanner scanner = new DnaRowScanner(4);
+
+        for (int row = 0; row < 4; row++) {
+            scanner.acceptRow(buffer, 2 + row * 4, 4);
+        }
+
+        assertTrue(scanner.finish());
+    }
+
+    @Test
+    @DisplayName("Debe informar el resultado parcial apenas encuentra la segunda secuencia")
+    void testPartialResult_EarlyTermination() {
+        DnaRowScanner scanner = new DnaRowScanner(4);
+
+        scanner.acceptRow("AAAA");
+        assertFalse(scanner.isMutant());
+        scanner.acceptRow("CCCC");
+        assertTrue(scanner.isMutant());
+    }
+
+    @Test
+    @DisplayName("Debe rechazar si faltan o sobran filas")
+    void testValidation_RowCount() {
+        DnaRowScanner missing = new DnaRowScanner(4);
+        missing.acceptRow("ATGC");
+        assertThrows(IllegalArgumentException.class, missing::finish);
+
+        DnaRowScanner extra = new DnaRowScanner(1);
+        extra.acceptRow("A");
+        assertThrows(IllegalArgumentException.class, () -> extra.acceptRow("A"));
+    }
+
+    @Test
+    @DisplayName("Debe rechazar tamaño inválido y caracteres inválidos")
+    void testValidation_RowContent() {
+        assertThrows(IllegalArgumentException.class, () -> new DnaRowScanner(0));
+
+        DnaRowScanner scanner = new DnaRowScanner(4);
+        assertThrows(IllegalArgumentException.class, () -> scanner.acceptRow("ATG"));
+        assertThrows(IllegalArgumentException.class, () -> scanner.acceptRow("ATGN"));
+    }
+}
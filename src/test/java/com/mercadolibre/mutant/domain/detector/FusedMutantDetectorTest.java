@@ -0,0 +1,107 @@
+package com.mercadolibre.mutant.domain.detector;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests unitarios para FusedMutantDetector
+ */
+@DisplayName("FusedMutantDetector Tests")
+class FusedMutantDetectorTest {
+
+    private static final char[] BASES = {'A', 'T', 'C', 'G'};
+
+    private FusedMutantDetector fusedDetector;
+    private MutantDetector referenceDetector;
+
+    @BeforeEach
+    void setUp() {
+        fusedDetector = new FusedMutantDetector();
+        referenceDetector = new MutantDetector();
+    }
+
+    @Test
+    @DisplayName("Debe detectar mutante ejemplo MercadoLibre")
+    void testMutant_Example() {
+        String[] dna = {"ATGCGA", "CAGTGC", "TTATGT", "AGAAGG", "CCCCTA", "TCACTG"};
+
+        assertTrue(fusedDetector.isMutant(dna));
+    }
+
+    @Test
+    @DisplayName("Debe detectar humano ejemplo MercadoLibre modificado")
+    void testHuman_Example() {
+        String[] dna = {"ATGCGA", "CAGTGC", "TTATGT", "AGACGG", "CCCTTA", "TCACTG"};
+
+        assertFalse(fusedDetector.isMutant(dna));
+    }
+
+    @Test
+    @DisplayName("Debe contar rachas largas como varias secuencias (igual que char[][])")
+    void testMutant_LongRunCountsTwice() {
+        String[] dna = {"AAAAA", "CTGCT", "GCTGC", "TGCTG", "CTGCT"};
+
+        assertEquals(referenceDetector.isMutant(dna), fusedDetector.isMutant(dna));
+        assertTrue(fusedDetector.isMutant(dna));
+    }
+
+    @Test
+    @DisplayName("Debe rechazar caracteres inválidos aunque ya haya encontrado dos secuencias")
+    void testValidation_InvalidAfterEarlyTermination() {
+        String[] dna = {"AAAA", "CCCC", "TATA", "TGTX"};
+
+        IllegalArgumentException ex = assertThrows(IllegalArgumentException.class,
+            () -> fusedDetector.isMutant(dna));
+        assertEquals("DNA must contain only A, T, C, G characters", ex.getMessage());
+    }
+
+    @Test
+    @DisplayName("Debe rechazar una fila de tamaño incorrecto aunque ya haya encontrado dos secuencias")
+    void testValidation_NotSquareAfterEarlyTermination() {
+        String[] dna = {"AAAA", "CCCC", "TATA", "TGT"};
+
+        IllegalArgumentException ex = assertThrows(IllegalArgumentException.class,
+            () -> fusedDetector.isMutant(dna));
+        assertEquals("DNA must be an NxN matrix", ex.getMessage());
+    }
+
+    @Test
+    @DisplayName("Debe lanzar los mismos mensajes de error que el motor char[][]")
+    void testValidation_SameMessages() {
+        assertEquals("DNA sequence cannot be null or empty",
+            assertThrows(IllegalArgumentException.class, () -> fusedDetector.isMutant(null)).getMessage());
+        assertEquals("DNA sequence cannot be null or empty",
+            assertThrows(IllegalArgumentException.class, () -> fusedDetector.isMutant(new String[]{})).getMessage());
+        assertEquals("DNA must be an NxN matrix",
+            assertThrows(IllegalArgumentException.class,
+                () -> fusedDetector.isMutant(new String[]{"ATGC", null, "TTAT", "AGAC"})).getMessage());
+    }
+
+    @ParameterizedTest(name = "N = {0}")
+    @ValueSource(ints = {1, 3, 4, 5, 6, 7, 10, 33, 64})
+    @DisplayName("Debe coincidir con el motor char[][] en matrices aleatorias")
+    void testDifferential_RandomMatrices(int n) {
+        Random random = new Random(17L * n);
+        for (int round = 0; round < 300; round++) {
+            int alphabet = 2 + random.nextInt(3);
+            String[] dna = new String[n];
+            for (int i = 0; i < n; i++) {
+                char[] row = new char[n];
+                for (int j = 0; j < n; j++) {
+                    row[j] = BASES[random.nextInt(alphabet)];
+                }
+                dna[i] = new String(row);
+            }
+
+            assertEquals(referenceDetector.isMutant(dna), fusedDetector.isMutant(dna),
+                () -> "Discrepancia para " + String.join(",", dna));
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package com.mercadolibre.mutant.domain.detector;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests unitarios para InstrumentedMutantDetector
+ */
+@DisplayName("InstrumentedMutantDetector Tests")
+class InstrumentedMutantDetectorTest {
+
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @Test
+    @DisplayName("Debe registrar el análisis con rango de N, dirección de salida y resultado")
+    void testIsMutant_RecordsTaggedTimer() {
+        // Arrange
+        MutantDetector detector = new InstrumentedMutantDetector(new MutantDetector(), "CHAR_MATRIX", meterRegistry);
+        String[] mutant = {"GGGG", "GGGG", "GGGG", "GGGG"};
+        String[] human = {"ATGC", "CAGT", "TTAT", "AGAC"};
+
+        // Act
+        assertTrue(detector.isMutant(mutant));
+        assertFalse(detector.isMutant(human));
+
+        // Assert
+        assertEquals(1, meterRegistry.get(InstrumentedMutantDetector.METRIC)
+                .tags("n", "4-10", "exit", "horizontal", "result", "mutant").timer().count());
+        assertEquals(1, meterRegistry.get(InstrumentedMutantDetector.METRIC)
+                .tags("n", "4-10", "exit", "full_scan", "result", "human").timer().count());
+    }
+
+    @Test
+    @DisplayName("Los motores sin dirección de salida deben registrarse como unknown")
+    void testIsMutant_UnknownExitForOtherEngines() {
+        // Arrange
+        MutantDetector detector = new InstrumentedMutantDetector(new FusedMutantDetector(), "FUSED", meterRegistry);
+
+        // Act
+        detector.isMutant(new String[]{"GGGG", "GGGG", "GGGG", "GGGG"});
+
+        // Assert
+        assertEquals(1, meterRegistry.get(InstrumentedMutantDetector.METRIC)
+                .tags("engine", "FUSED", "n", "4-10", "exit", "unknown", "result", "mutant").timer().count());
+    }
+}
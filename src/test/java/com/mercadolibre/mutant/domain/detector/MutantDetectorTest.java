@@ -320,4 +320,37 @@ class MutantDetectorTest {
         
         assertFalse(mutantDetector.isMutant(dna)); // Solo 0 secuencias
     }
+
+    // ==================== TESTS DE DIRECCIÓN DE SALIDA ====================
+
+    @Test
+    @DisplayName("detect debe informar salida horizontal si alcanzan las filas")
+    void testDetect_HorizontalExit() {
+        String[] dna = {"GGGG", "GGGG", "GGGG", "GGGG"};
+
+        assertEquals(new Detection(true, SearchExit.HORIZONTAL), mutantDetector.detect(dna));
+    }
+
+    @Test
+    @DisplayName("detect debe informar salida vertical si la segunda secuencia es una columna")
+    void testDetect_VerticalExit() {
+        String[] dna = {
+            "ATGCGA",
+            "CAGTGC",
+            "TTATGT",
+            "AGAAGG",
+            "CCCCTA",
+            "TCACTG"
+        };
+
+        assertEquals(new Detection(true, SearchExit.VERTICAL), mutantDetector.detect(dna));
+    }
+
+    @Test
+    @DisplayName("detect debe informar recorrido completo para un humano")
+    void testDetect_FullScanForHuman() {
+        String[] dna = {"ATGC", "CAGT", "TTAT", "AGAC"};
+
+        assertEquals(new Detection(false, SearchExit.FULL_SCAN), mutantDetector.detect(dna));
+    }
 }
@@ -0,0 +1,120 @@
+package com.mercadolibre.mutant.domain.detector;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests unitarios para ParallelMutantDetector
+ */
+@DisplayName("ParallelMutantDetector Tests")
+class ParallelMutantDetectorTest {
+
+    private static final char[] BASES = {'A', 'T', 'C', 'G'};
+
+    private ForkJoinPool pool;
+    private ParallelMutantDetector parallelDetector;
+    private MutantDetector referenceDetector;
+
+    @BeforeEach
+    void setUp() {
+        pool = new ForkJoinPool(4);
+        // Umbral bajo para forzar el camino paralelo también en matrices chicas
+        parallelDetector = new ParallelMutantDetector(8, pool);
+        referenceDetector = new MutantDetector();
+    }
+
+    @AfterEach
+    void tearDown() {
+        pool.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("Debe usar el camino secuencial por debajo del umbral")
+    void testMutant_BelowThreshold() {
+        String[] dna = {"ATGCGA", "CAGTGC", "TTATGT", "AGAAGG", "CCCCTA", "TCACTG"};
+
+        assertTrue(parallelDetector.isMutant(dna));
+    }
+
+    @Test
+    @DisplayName("Debe contar secuencias verticales que cruzan el límite entre bandas")
+    void testMutant_SequenceAcrossBands() {
+        int n = 128;
+        String[] dna = humanMatrix(n);
+        // Dos verticales que comienzan en la última fila de una banda (bandas de 16 filas)
+        setCell(dna, 14, 10, 'A');
+        setCell(dna, 15, 10, 'A');
+        setCell(dna, 16, 10, 'A');
+        setCell(dna, 17, 10, 'A');
+        setCell(dna, 62, 40, 'C');
+        setCell(dna, 63, 40, 'C');
+        setCell(dna, 64, 40, 'C');
+        setCell(dna, 65, 40, 'C');
+
+        assertEquals(referenceDetector.isMutant(dna), parallelDetector.isMutant(dna));
+        assertTrue(parallelDetector.isMutant(dna));
+    }
+
+    @Test
+    @DisplayName("Debe detectar humano en matriz grande sin secuencias")
+    void testHuman_LargeMatrix() {
+        assertFalse(parallelDetector.isMutant(humanMatrix(256)));
+    }
+
+    @Test
+    @DisplayName("Debe lanzar las mismas excepciones de validación")
+    void testValidation_SameErrors() {
+        assertThrows(IllegalArgumentException.class, () -> parallelDetector.isMutant(null));
+        assertThrows(IllegalArgumentException.class,
+            () -> parallelDetector.isMutant(new String[]{"ATGC", "CXGT", "TTAT", "AGAC"}));
+    }
+
+    @ParameterizedTest(name = "N = {0}")
+    @ValueSource(ints = {8, 9, 33, 64, 100, 200})
+    @DisplayName("Debe coincidir con el motor secuencial en matrices aleatorias")
+    void testDifferential_RandomMatrices(int n) {
+        Random random = new Random(7L * n);
+        for (int round = 0; round < 100; round++) {
+            String[] dna = humanMatrix(n);
+            // Pocas mutaciones puntuales para obtener tanto humanos como mutantes
+            int mutations = random.nextInt(3 * n);
+            for (int k = 0; k < mutations; k++) {
+                setCell(dna, random.nextInt(n), random.nextInt(n), BASES[random.nextInt(BASES.length)]);
+            }
+
+            assertEquals(referenceDetector.isMutant(dna), parallelDetector.isMutant(dna),
+                () -> "Discrepancia para " + Arrays.toString(dna));
+        }
+    }
+
+    /**
+     * Matriz sin ninguna secuencia de 4 en ninguna dirección
+     */
+    private static String[] humanMatrix(int n) {
+        String[] dna = new String[n];
+        for (int i = 0; i < n; i++) {
+            char[] row = new char[n];
+            for (int j = 0; j < n; j++) {
+                row[j] = BASES[(j + 2 * i) % 4];
+            }
+            dna[i] = new String(row);
+        }
+        return dna;
+    }
+
+    private static void setCell(String[] dna, int row, int column, char base) {
+        char[] chars = dna[row].toCharArray();
+        chars[column] = base;
+        dna[row] = new String(chars);
+    }
+}
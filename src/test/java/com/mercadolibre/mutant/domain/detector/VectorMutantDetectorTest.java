@@ -0,0 +1,94 @@
+package com.mercadolibre.mutant.domain.detector;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Tests unitarios para VectorMutantDetector
+ * Incluye comparación diferencial aleatoria contra el motor char[][]
+ */
+@DisplayName("VectorMutantDetector Tests")
+class VectorMutantDetectorTest {
+
+    private static final char[] BASES = {'A', 'T', 'C', 'G'};
+
+    private MutantDetector vectorDetector;
+    private MutantDetector referenceDetector;
+
+    @BeforeEach
+    void setUp() {
+        assumeTrue(ModuleLayer.boot().findModule("jdk.incubator.vector").isPresent(),
+            "La JVM de test debe arrancar con --add-modules jdk.incubator.vector");
+        vectorDetector = new VectorMutantDetector();
+        referenceDetector = new MutantDetector();
+    }
+
+    @Test
+    @DisplayName("Debe detectar mutante ejemplo MercadoLibre")
+    void testMutant_Example() {
+        String[] dna = {"ATGCGA", "CAGTGC", "TTATGT", "AGAAGG", "CCCCTA", "TCACTG"};
+
+        assertTrue(vectorDetector.isMutant(dna));
+    }
+
+    @Test
+    @DisplayName("Debe detectar humano ejemplo MercadoLibre modificado")
+    void testHuman_Example() {
+        String[] dna = {"ATGCGA", "CAGTGC", "TTATGT", "AGACGG", "CCCTTA", "TCACTG"};
+
+        assertFalse(vectorDetector.isMutant(dna));
+    }
+
+    @Test
+    @DisplayName("Debe lanzar las mismas excepciones de validación")
+    void testValidation_SameErrors() {
+        assertThrows(IllegalArgumentException.class, () -> vectorDetector.isMutant(null));
+        assertThrows(IllegalArgumentException.class,
+            () -> vectorDetector.isMutant(new String[]{"ATGC", "CXGT", "TTAT", "AGAC"}));
+        assertThrows(IllegalArgumentException.class,
+            () -> vectorDetector.isMutant(new String[]{"ATGC", "CAGTGC", "TTAT", "AGAC"}));
+    }
+
+    @ParameterizedTest(name = "N = {0}")
+    @ValueSource(ints = {1, 3, 4, 5, 15, 16, 17, 19, 31, 35, 64, 67, 130})
+    @DisplayName("Debe coincidir con el motor char[][] en matrices aleatorias")
+    void testDifferential_RandomMatrices(int n) {
+        Random random = new Random(13L * n);
+        for (int round = 0; round < 200; round++) {
+            String[] dna = randomMatrix(random, n);
+            assertEquals(referenceDetector.isMutant(dna), vectorDetector.isMutant(dna),
+                () -> "Discrepancia para " + String.join(",", dna));
+        }
+    }
+
+    /**
+     * Matriz casi humana (patrón sin secuencias) con mutaciones puntuales aleatorias,
+     * para obtener tanto humanos como mutantes en tamaños grandes
+     */
+    private static String[] randomMatrix(Random random, int n) {
+        char[][] rows = new char[n][n];
+        for (int i = 0; i < n; i++) {
+            for (int j = 0; j < n; j++) {
+                rows[i][j] = BASES[(j + 2 * i) % 4];
+            }
+        }
+        int mutations = random.nextInt(2 * n * n + 1);
+        for (int k = 0; k < mutations; k++) {
+            rows[random.nextInt(n)][random.nextInt(n)] = BASES[random.nextInt(2)];
+        }
+
+        String[] dna = new String[n];
+        for (int i = 0; i < n; i++) {
+            dna[i] = new String(rows[i]);
+        }
+        return dna;
+    }
+}
@@ -0,0 +1,73 @@
+package com.mercadolibre.mutant.domain.hash;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.security.MessageDigest;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests unitarios para DnaHash
+ */
+@DisplayName("DnaHash Tests")
+class DnaHashTest {
+
+    private static final String HEX = "0123456789abcdeffedcba987654321000112233445566778899aabbccddeeff";
+
+    @Test
+    @DisplayName("Debe convertir a hexadecimal y volver sin pérdida")
+    void testHexRoundTrip() {
+        DnaHash hash = DnaHash.fromHex(HEX);
+
+        assertEquals(32, hash.length());
+        assertEquals(HEX, hash.toHex());
+        assertEquals(hash, DnaHash.fromHex(HEX.toUpperCase()));
+    }
+
+    @Test
+    @DisplayName("Debe exponer los primeros 128 bits como dos long big-endian")
+    void testHighLow() {
+        DnaHash hash = DnaHash.fromHex(HEX);
+
+        assertEquals(0x0123456789abcdefL, hash.high());
+        assertEquals(0xfedcba9876543210L, hash.low());
+    }
+
+    @Test
+    @DisplayName("Debe reconstruir el hash de 128 bits desde la clave compacta")
+    void testOfKey() {
+        DnaHash hash = DnaHash.ofKey(0x0123456789abcdefL, 0xfedcba9876543210L);
+
+        assertEquals(16, hash.length());
+        assertEquals(HEX.substring(0, 32), hash.toHex());
+        assertEquals(0x0123456789abcdefL, hash.high());
+        assertEquals(0xfedcba9876543210L, hash.low());
+    }
+
+    @Test
+    @DisplayName("Debe comparar por contenido")
+    void testEqualsAndHashCode() throws Exception {
+        byte[] digest = MessageDigest.getInstance("SHA-256").digest("ATGC".getBytes(StandardCharsets.UTF_8));
+
+        DnaHash a = DnaHash.of(digest.clone());
+        DnaHash b = DnaHash.of(digest.clone());
+
+        assertEquals(a, b);
+        assertEquals(a.hashCode(), b.hashCode());
+        assertNotEquals(a, DnaHash.fromHex(HEX));
+    }
+
+    @Test
+    @DisplayName("Debe mostrar solo un prefijo en toString")
+    void testToString() {
+        assertEquals("0123456789abcdef...", DnaHash.fromHex(HEX).toString());
+    }
+
+    @Test
+    @DisplayName("Debe rechazar hashes de menos de 128 bits")
+    void testTooShort() {
+        assertThrows(IllegalArgumentException.class, () -> DnaHash.of(new byte[8]));
+    }
+}
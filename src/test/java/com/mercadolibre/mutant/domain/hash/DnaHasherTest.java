@@ -0,0 +1,98 @@
+package com.mercadolibre.mutant.domain.hash;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.HexFormat;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests unitarios para las implementaciones de DnaHasher
+ */
+@DisplayName("DnaHasher Tests")
+class DnaHasherTest {
+
+    private static final String[] DNA = {
+        "ATGCGA",
+        "CAGTGC",
+        "TTATGT",
+        "AGAAGG",
+        "CCCCTA",
+        "TCACTG"
+    };
+
+    @Test
+    @DisplayName("SHA256 debe coincidir con SHA-256 de las filas unidas con '|'")
+    void testSha256_CompatibleWithJoinedRows() throws Exception {
+        byte[] expected = MessageDigest.getInstance("SHA-256")
+                .digest(String.join("|", DNA).getBytes(StandardCharsets.UTF_8));
+
+        assertEquals(HexFormat.of().formatHex(expected), new Sha256DnaHasher().hash(DNA).toHex());
+    }
+
+    @Test
+    @DisplayName("MURMUR3_128 debe coincidir con el vector de referencia de MurmurHash3 x64 128")
+    void testMurmur3_ReferenceVector() {
+        DnaHash hash = new Murmur3DnaHasher().hash(new String[]{"The quick brown fox jumps over the lazy dog"});
+
+        assertEquals("6c1b07bc7bbc4be347939ac4a93c437a", hash.toHex());
+    }
+
+    @Test
+    @DisplayName("MURMUR3_128 debe ser equivalente a hashear las filas ya unidas con '|'")
+    void testMurmur3_RowsEquivalentToJoined() {
+        String[] rows = {"ATGCGATTTTAAAACCCCGG", "CAG", "TTATGTAGAAGGCCCCTATCACTG"};
+
+        assertEquals(new Murmur3DnaHasher().hash(new String[]{String.join("|", rows)}),
+                     new Murmur3DnaHasher().hash(rows));
+    }
+
+    @ParameterizedTest
+    @EnumSource(DnaHashAlgorithm.class)
+    @DisplayName("El camino char[] (streaming) debe dar el mismo hash que String[]")
+    void testCharArrayPathMatchesStringPath(DnaHashAlgorithm algorithm) {
+        DnaHasher hasher = new DnaHasherConfig().dnaHasher(algorithm);
+        Random random = new Random(42);
+
+        for (int n = 1; n <= 40; n++) {
+            String[] dna = randomDna(random, n);
+
+            DnaHasher.RowHasher rowHasher = hasher.newRowHasher();
+            for (String row : dna) {
+                char[] padded = (" " + row + " ").toCharArray();
+                rowHasher.acceptRow(padded, 1, row.length());
+            }
+
+            assertEquals(hasher.hash(dna), rowHasher.finish(), "N=" + n);
+        }
+    }
+
+    @ParameterizedTest
+    @EnumSource(DnaHashAlgorithm.class)
+    @DisplayName("Debe distinguir matrices distintas y la posición de los separadores")
+    void testDifferentDna(DnaHashAlgorithm algorithm) {
+        DnaHasher hasher = new DnaHasherConfig().dnaHasher(algorithm);
+
+        assertNotEquals(hasher.hash(new String[]{"AAAA", "CCCC"}), hasher.hash(new String[]{"AAAA", "CCCG"}));
+        assertNotEquals(hasher.hash(new String[]{"AA", "AAAA"}), hasher.hash(new String[]{"AAAA", "AA"}));
+    }
+
+    private static String[] randomDna(Random random, int n) {
+        char[] bases = {'A', 'T', 'C', 'G'};
+        String[] dna = new String[n];
+        for (int i = 0; i < n; i++) {
+            char[] row = new char[n];
+            for (int j = 0; j < n; j++) {
+                row[j] = bases[random.nextInt(4)];
+            }
+            dna[i] = new String(row);
+        }
+        return dna;
+    }
+}
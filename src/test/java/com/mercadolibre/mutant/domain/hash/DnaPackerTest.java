@@ -0,0 +1,56 @@
+package com.mercadolibre.mutant.domain.hash;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests unitarios para DnaPacker
+ */
+@DisplayName("DnaPacker Tests")
+class DnaPackerTest {
+
+    @Test
+    @DisplayName("Debe empaquetar 4 bases por byte con N en la cabecera")
+    void testPack() {
+        byte[] packed = DnaPacker.pack(new String[]{"ACGT", "TGCA", "AAAA", "CCCC"});
+
+        // 4 bytes de N + 16 bases / 4
+        assertEquals(8, packed.length);
+        assertArrayEquals(new byte[]{0, 0, 0, 4}, Arrays.copyOf(packed, 4));
+        // A=0, C=1, G=2, T=3, la primera base en los bits bajos
+        assertEquals((byte) 0b11_10_01_00, packed[4]);
+        assertEquals((byte) 0b00_01_10_11, packed[5]);
+        assertEquals((byte) 0, packed[6]);
+        assertEquals((byte) 0b01_01_01_01, packed[7]);
+    }
+
+    @Test
+    @DisplayName("El camino char[] debe dar la misma copia que String[]")
+    void testCharArrayPath() {
+        String[] dna = {"ATGCG", "CAGTG", "TTATG", "AGAAG", "CCCCT"};
+        DnaPacker packer = new DnaPacker(5);
+        for (String row : dna) {
+            packer.acceptRow(row.toCharArray(), 0, row.length());
+        }
+
+        assertArrayEquals(DnaPacker.pack(dna), packer.toBytes());
+    }
+
+    @Test
+    @DisplayName("Debe distinguir matrices de distinto tamaño con los mismos bytes de bases")
+    void testDifferentSizes() {
+        assertFalse(Arrays.equals(DnaPacker.pack(new String[]{"A"}), DnaPacker.pack(new String[]{"AA", "AA"})));
+    }
+
+    @Test
+    @DisplayName("Debe rechazar bases inválidas y matrices que no son NxN")
+    void testInvalid() {
+        assertThrows(IllegalArgumentException.class, () -> DnaPacker.pack(new String[]{"AXGC", "ATGC", "ATGC", "ATGC"}));
+        assertThrows(IllegalArgumentException.class, () -> DnaPacker.pack(new String[]{"ATGC", "ATG", "ATGC", "ATGC"}));
+        assertThrows(IllegalArgumentException.class, () -> new DnaPacker(4).toBytes());
+    }
+}
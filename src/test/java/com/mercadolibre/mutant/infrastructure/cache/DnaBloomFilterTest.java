@@ -0,0 +1,133 @@
+package com.mercadolibre.mutant.infrastructure.cache;
+
+import com.mercadolibre.mutant.domain.hash.DnaHash;
+import com.mercadolibre.mutant.domain.hash.Sha256DnaHasher;
+import com.mercadolibre.mutant.domain.repository.VerdictStore;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.*;
+
+/**
+ * Tests unitarios para DnaBloomFilter
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("DNA Bloom Filter Tests")
+class DnaBloomFilterTest {
+
+    private static final int STORED = 1000;
+
+    @Mock
+    private VerdictStore verdictStore;
+
+    @Mock
+    private ObjectProvider<VerdictStore> verdictStoreProvider;
+
+    private final Sha256DnaHasher hasher = new Sha256DnaHasher();
+
+    private SimpleMeterRegistry meterRegistry;
+    private DnaBloomFilter filter;
+    private List<DnaHash> stored;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        filter = new DnaBloomFilter(STORED, 0.01, 100, verdictStoreProvider, meterRegistry);
+        stored = new ArrayList<>();
+        for (int i = 0; i < STORED; i++) {
+            stored.add(hash("stored-" + i));
+        }
+        lenient().when(verdictStoreProvider.getObject()).thenReturn(verdictStore);
+    }
+
+    @Test
+    @DisplayName("Antes de cargar debe responder 'puede estar' para cualquier hash")
+    void testMightContain_BeforeLoad() {
+        assertFalse(filter.isLoaded());
+        assertTrue(filter.mightContain(hash("never-stored")));
+    }
+
+    @Test
+    @DisplayName("Después de cargar no debe dar falsos negativos y los falsos positivos deben rondar la tasa configurada")
+    @SuppressWarnings("unchecked")
+    void testLoad_NoFalseNegatives() {
+        // Arrange
+        doAnswer(invocation -> {
+            stored.forEach(invocation.<Consumer<DnaHash>>getArgument(1));
+            return null;
+        }).when(verdictStore).scanHashes(eq(100), any(Consumer.class));
+
+        // Act
+        filter.load();
+
+        // Assert
+        assertTrue(filter.isLoaded());
+        stored.forEach(dnaHash -> assertTrue(filter.mightContain(dnaHash)));
+        int falsePositives = 0;
+        for (int i = 0; i < 10_000; i++) {
+            if (filter.mightContain(hash("absent-" + i))) {
+                falsePositives++;
+            }
+        }
+        assertTrue(falsePositives < 300, "False positives: " + falsePositives);
+        assertEquals(0.01, filter.expectedFpp(), 0.005);
+        assertEquals(10_000 - falsePositives,
+                meterRegistry.get(DnaBloomFilter.SKIPPED_METRIC).counter().count());
+    }
+
+    @Test
+    @DisplayName("Los hashes agregados después de la carga deben estar en el filtro")
+    void testPut_AfterLoad() {
+        // Arrange
+        filter.load();
+        DnaHash inserted = hash("inserted");
+
+        // Act
+        filter.put(inserted);
+
+        // Assert
+        assertTrue(filter.mightContain(inserted));
+        assertEquals(1, meterRegistry.get("dna.bloom.items").gauge().value());
+    }
+
+    @Test
+    @DisplayName("Si la carga falla debe seguir respondiendo 'puede estar'")
+    void testLoad_FailureKeepsFilterOpen() {
+        // Arrange
+        doThrow(new IllegalStateException("database down")).when(verdictStore).scanHashes(anyInt(), any());
+
+        // Act
+        filter.load();
+
+        // Assert
+        assertFalse(filter.isLoaded());
+        assertTrue(filter.mightContain(hash("never-stored")));
+    }
+
+    @Test
+    @DisplayName("Debe publicar tamaño, hashes, fpp estimada y tiempo de carga")
+    void testMetrics() {
+        filter.load();
+
+        assertTrue(meterRegistry.get("dna.bloom.bits").gauge().value() >= STORED * 9);
+        assertNotNull(meterRegistry.get("dna.bloom.fpp").gauge());
+        assertNotNull(meterRegistry.get("dna.bloom.rebuild.time").timeGauge());
+    }
+
+    private DnaHash hash(String row) {
+        return hasher.hash(new String[]{row});
+    }
+}
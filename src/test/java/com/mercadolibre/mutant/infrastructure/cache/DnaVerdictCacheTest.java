@@ -0,0 +1,107 @@
+package com.mercadolibre.mutant.infrastructure.cache;
+
+import com.mercadolibre.mutant.domain.hash.DnaHash;
+import com.mercadolibre.mutant.domain.repository.StoredVerdict;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests unitarios para DnaVerdictCache
+ */
+@DisplayName("DnaVerdictCache Tests")
+class DnaVerdictCacheTest {
+
+    private static final DnaHash HASH = DnaHash.fromHex("00112233445566778899aabbccddeeff");
+    private static final DnaHash OTHER_HASH = DnaHash.fromHex("ffeeddccbbaa99887766554433221100");
+
+    private SimpleMeterRegistry meterRegistry;
+    private DnaVerdictCache cache;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        cache = new DnaVerdictCache(100, Duration.ofMinutes(1), meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("Debe guardar inmediatamente fuera de una transacción")
+    void testPut_WithoutTransaction() {
+        // Act
+        cache.put(HASH, new StoredVerdict(true, null));
+
+        // Assert
+        assertTrue(cache.get(HASH).isMutant());
+        assertNull(cache.get(OTHER_HASH));
+        assertEquals(1, cache.stats().hitCount());
+        assertEquals(1, cache.stats().missCount());
+    }
+
+    @Test
+    @DisplayName("Debe diferir el guardado hasta el commit de la transacción")
+    void testPut_DeferredUntilCommit() {
+        // Arrange
+        TransactionSynchronizationManager.initSynchronization();
+
+        // Act
+        cache.put(HASH, new StoredVerdict(false, null));
+
+        // Assert: no visible antes del commit
+        assertNull(cache.get(HASH));
+
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        assertFalse(cache.get(HASH).isMutant());
+    }
+
+    @Test
+    @DisplayName("Debe publicar métricas de la caché en Micrometer")
+    void testMetricsRegistered() {
+        // Act
+        cache.get(HASH);
+
+        // Assert
+        assertNotNull(meterRegistry.find("cache.gets").tag("cache", "dna.verdicts").functionCounter());
+    }
+
+    @Test
+    @DisplayName("Las copias compactas grandes deben desalojarse por peso, no por cantidad")
+    void testPut_BoundedByPackedDnaBytes() {
+        // Arrange: 100 entradas y 10 KB de ADN, 100 bytes por unidad; cada copia de 2.5 KB pesa 25
+        DnaVerdictCache weighted = new DnaVerdictCache(100, 10_000, Duration.ofMinutes(1), meterRegistry);
+
+        // Act
+        for (int i = 0; i < 20; i++) {
+            weighted.put(DnaHash.fromHex(String.format("%032x", i)), new StoredVerdict(true, new byte[2500]));
+        }
+
+        // Assert
+        assertEquals(4, weighted.size());
+    }
+
+    @Test
+    @DisplayName("Sin copia compacta cada entrada debe pesar 1")
+    void testPut_WithoutPackedDnaBoundedByCount() {
+        // Act
+        for (int i = 0; i < 150; i++) {
+            cache.put(DnaHash.fromHex(String.format("%032x", i)), new StoredVerdict(false, null));
+        }
+
+        // Assert
+        assertEquals(100, cache.size());
+    }
+}
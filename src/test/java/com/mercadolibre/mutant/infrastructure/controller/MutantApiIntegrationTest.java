@@ -0,0 +1,252 @@
+package com.mercadolibre.mutant.infrastructure.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mercadolibre.mutant.application.dto.DnaRequest;
+import com.mercadolibre.mutant.application.dto.StatsResponse;
+import com.mercadolibre.mutant.application.service.DnaStatsReconciler;
+import com.mercadolibre.mutant.application.service.MutantService;
+import com.mercadolibre.mutant.domain.entity.DnaStats;
+import com.mercadolibre.mutant.domain.hash.DnaHash;
+import com.mercadolibre.mutant.domain.hash.DnaHasher;
+import com.mercadolibre.mutant.domain.repository.DnaRepository;
+import com.mercadolibre.mutant.domain.repository.DnaStatsRepository;
+import com.mercadolibre.mutant.domain.repository.VerdictStore;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Arrays;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Tests end-to-end de POST /mutant contra H2 en memoria, midiendo las sentencias
+ * que Hibernate ejecuta por request
+ */
+@SpringBootTest(properties = {
+    "spring.datasource.url=jdbc:h2:mem:apitest;DB_CLOSE_DELAY=-1",
+    "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+@AutoConfigureMockMvc
+@DisplayName("Mutant API Integration Tests")
+class MutantApiIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private DnaStatsRepository dnaStatsRepository;
+
+    @Autowired
+    private DnaRepository dnaRepository;
+
+    @Autowired
+    private DnaHasher dnaHasher;
+
+    @Autowired
+    private DnaStatsReconciler dnaStatsReconciler;
+
+    @Autowired
+    private MutantService mutantService;
+
+    @Autowired
+    private VerdictStore verdictStore;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private ConfigurableListableBeanFactory beanFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    @DisplayName("POST /mutant con ADN nuevo: un único INSERT-si-no-existe, sin SELECT previo ni COUNT")
+    void testPostMutant_NoCountQuery() throws Exception {
+        // Arrange
+        DnaRequest request = new DnaRequest(new String[]{
+            "ATGCGA",
+            "CAGTGC",
+            "TTATGT",
+            "AGAAGG",
+            "CCCCTA",
+            "TCACTG"
+        });
+
+        // Act
+        mockMvc.perform(post("/mutant")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk());
+
+        // Assert: MERGE del registro + incremento de dna_stats, ninguna lectura ni COUNT
+        assertEquals(2, statistics.getPrepareStatementCount());
+        assertEquals(0, statistics.getEntityLoadCount());
+        assertNoCountQuery();
+        assertTrue(dnaRepository.findById(dnaHasher.hash(request.getDna()).toHex()).isPresent());
+    }
+
+    @Test
+    @DisplayName("GET /stats debe leer los contadores por clave primaria, sin COUNT")
+    void testGetStats_SinglePrimaryKeyRead() throws Exception {
+        // Arrange
+        StatsResponse before = getStats();
+        mockMvc.perform(post("/mutant")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(new DnaRequest(new String[]{
+                    "ATGC",
+                    "CAGT",
+                    "TTAT",
+                    "AGAC"
+                }))))
+                .andExpect(status().isForbidden());
+        statistics.clear();
+
+        // Act
+        StatsResponse after = getStats();
+
+        // Assert
+        assertEquals(before.getCountHumanDna() + 1, after.getCountHumanDna());
+        assertEquals(before.getCountMutantDna(), after.getCountMutantDna());
+        assertEquals(1, statistics.getEntityLoadCount());
+        assertNoCountQuery();
+    }
+
+    @Test
+    @DisplayName("La reconciliación debe reconstruir dna_stats desde la tabla de registros")
+    void testReconcile_RebuildsFromRecords() throws Exception {
+        // Arrange
+        StatsResponse expected = getStats();
+        DnaStats stats = dnaStatsRepository.findById(DnaStats.SINGLETON_ID).orElseThrow();
+        stats.setMutantCount(stats.getMutantCount() + 7);
+        stats.setHumanCount(0);
+        dnaStatsRepository.save(stats);
+
+        // Act
+        dnaStatsReconciler.reconcile();
+
+        // Assert
+        StatsResponse reconciled = getStats();
+        assertEquals(expected.getCountMutantDna(), reconciled.getCountMutantDna());
+        assertEquals(expected.getCountHumanDna(), reconciled.getCountHumanDna());
+    }
+
+    @Test
+    @DisplayName("El VerdictStore debe cerrarse antes que StatsCounter (descuentos del vaciado final)")
+    void testShutdownOrder_VerdictStoreBeforeStatsCounter() {
+        // Assert: los dependientes se destruyen antes que el bean del que dependen
+        assertTrue(Arrays.asList(beanFactory.getDependentBeans("statsCounter")).contains("verdictStore"));
+    }
+
+    @Test
+    @DisplayName("POST /mutant/batch debe guardar los nuevos en un solo lote y actualizar /stats una vez")
+    void testPostBatch_SingleLookupAndBatchInsert() throws Exception {
+        // Arrange
+        StatsResponse before = getStats();
+        String body = "[{\"dna\":[\"AAAAGA\",\"CAGTGC\",\"TTATGT\",\"AGAAGG\",\"CCCCTA\",\"TCACTG\"]},"
+                    + "{\"dna\":[\"ATCG\",\"CAGT\",\"TTAT\",\"AGAC\"]},"
+                    + "{\"dna\":[\"ATCG\",\"CAGT\",\"TTAT\",\"AGAC\"]}]";
+        statistics.clear();
+
+        // Act
+        mockMvc.perform(post("/mutant/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(body))
+                .andExpect(status().isOk());
+
+        // Assert: sin COUNT y con los contadores de /stats sumados una vez por ADN distinto
+        assertNoCountQuery();
+        assertEquals(0, statistics.getEntityLoadCount());
+        StatsResponse after = getStats();
+        assertEquals(before.getCountMutantDna() + 1, after.getCountMutantDna());
+        assertEquals(before.getCountHumanDna() + 1, after.getCountHumanDna());
+    }
+
+    @Test
+    @DisplayName("Dos transacciones insertando el mismo hash: la perdedora responde con el veredicto guardado")
+    void testIsMutant_ConcurrentInsertFromAnotherTransaction() throws Exception {
+        // Arrange: otra transacción (otra instancia) inserta el hash y demora el commit
+        String[] dna = {"AAAAGT", "CAGTGC", "TTATGT", "AGAAGG", "CCCCTA", "TCACTG"};
+        DnaHash dnaHash = dnaHasher.hash(dna);
+        StatsResponse before = getStats();
+        CountDownLatch inserted = new CountDownLatch(1);
+        CountDownLatch commit = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+
+        try {
+            Future<?> otherInstance = executor.submit(() -> transactionTemplate.executeWithoutResult(status -> {
+                // Veredicto distinto al del detector: la respuesta debe salir de la BD
+                assertTrue(verdictStore.insertIfAbsent(dnaHash, false, dna.length, null));
+                inserted.countDown();
+                await(commit);
+            }));
+            assertTrue(inserted.await(5, TimeUnit.SECONDS));
+
+            // Act: el MERGE queda esperando el lock de la fila sin commitear
+            Future<Boolean> result = executor.submit(() -> mutantService.isMutant(dna));
+            Thread.sleep(300);
+            commit.countDown();
+            otherInstance.get(5, TimeUnit.SECONDS);
+
+            // Assert: sin excepción, con el veredicto guardado y sin contarlo en /stats
+            assertFalse(result.get(5, TimeUnit.SECONDS));
+            StatsResponse after = getStats();
+            assertEquals(before.getCountMutantDna(), after.getCountMutantDna());
+            assertEquals(before.getCountHumanDna(), after.getCountHumanDna());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private StatsResponse getStats() throws Exception {
+        String body = mockMvc.perform(get("/stats"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        return objectMapper.readValue(body, StatsResponse.class);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            assertTrue(latch.await(5, TimeUnit.SECONDS));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private void assertNoCountQuery() {
+        String[] queries = statistics.getQueries();
+        assertTrue(Arrays.stream(queries).noneMatch(query -> query.toLowerCase().contains("count(")),
+                () -> "Queries ejecutadas: " + String.join(", ", queries));
+    }
+}
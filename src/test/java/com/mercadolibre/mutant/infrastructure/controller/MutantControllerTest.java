@@ -3,17 +3,25 @@ package com.mercadolibre.mutant.infrastructure.controller;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.mercadolibre.mutant.application.dto.DnaRequest;
 import com.mercadolibre.mutant.application.dto.StatsResponse;
+import com.mercadolibre.mutant.application.service.DnaStreamAnalysis;
+import com.mercadolibre.mutant.application.service.MutantBatchService;
 import com.mercadolibre.mutant.application.service.MutantService;
 import com.mercadolibre.mutant.application.service.StatsService;
+import com.mercadolibre.mutant.domain.hash.DnaHasherConfig;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 
+import java.util.List;
+
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.Mockito.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -22,6 +30,7 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
  * Tests de integración para MutantController
  */
 @WebMvcTest(MutantController.class)
+@Import({DnaStreamReader.class, DnaBatchReader.class, DnaHasherConfig.class})
 @DisplayName("MutantController Integration Tests")
 class MutantControllerTest {
 
@@ -37,6 +46,9 @@ class MutantControllerTest {
     @MockBean
     private StatsService statsService;
 
+    @MockBean
+    private MutantBatchService mutantBatchService;
+
     @Test
     @DisplayName("POST /mutant debe retornar 200 OK para mutante")
     void testMutantEndpoint_ReturnOkForMutant() throws Exception {
@@ -204,4 +216,151 @@ class MutantControllerTest {
 
         verify(statsService, times(1)).getStats();
     }
+
+    @Test
+    @DisplayName("POST /mutant/stream debe retornar 200 OK para mutante")
+    void testMutantStreamEndpoint_ReturnOkForMutant() throws Exception {
+        // Arrange
+        when(mutantService.isMutantFromStream(any(DnaStreamAnalysis.class))).thenReturn(true);
+
+        // Act & Assert
+        mockMvc.perform(post("/mutant/stream")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"dna\":[\"ATGCGA\",\"CAGTGC\",\"TTATGT\",\"AGAAGG\",\"CCCCTA\",\"TCACTG\"]}"))
+                .andExpect(status().isOk());
+
+        verify(mutantService, times(1)).isMutantFromStream(any(DnaStreamAnalysis.class));
+    }
+
+    @Test
+    @DisplayName("POST /mutant/stream debe retornar 403 FORBIDDEN para humano e ignorar campos desconocidos")
+    void testMutantStreamEndpoint_ReturnForbiddenForHuman() throws Exception {
+        // Arrange
+        when(mutantService.isMutantFromStream(any(DnaStreamAnalysis.class))).thenReturn(false);
+
+        // Act & Assert
+        mockMvc.perform(post("/mutant/stream")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"source\":{\"id\":1},\"dna\":[\"ATGC\",\"CAGT\",\"TTAT\",\"AGAC\"]}"))
+                .andExpect(status().isForbidden());
+
+        verify(mutantService, times(1)).isMutantFromStream(any(DnaStreamAnalysis.class));
+    }
+
+    @Test
+    @DisplayName("POST /mutant/stream debe retornar 400 BAD REQUEST para caracteres inválidos")
+    void testMutantStreamEndpoint_ReturnBadRequestForInvalidCharacters() throws Exception {
+        mockMvc.perform(post("/mutant/stream")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"dna\":[\"ATGC\",\"CXGT\",\"TTAT\",\"AGAC\"]}"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("DNA must contain only A, T, C, G characters"));
+
+        verify(mutantService, never()).isMutantFromStream(any());
+    }
+
+    @Test
+    @DisplayName("POST /mutant/stream debe retornar 400 BAD REQUEST para filas de distinto tamaño")
+    void testMutantStreamEndpoint_ReturnBadRequestForNonSquareMatrix() throws Exception {
+        mockMvc.perform(post("/mutant/stream")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"dna\":[\"ATGC\",\"CAGTGC\",\"TTAT\"]}"))
+                .andExpect(status().isBadRequest());
+
+        verify(mutantService, never()).isMutantFromStream(any());
+    }
+
+    @Test
+    @DisplayName("POST /mutant/stream debe retornar 400 BAD REQUEST para DNA null, vacío o ausente")
+    void testMutantStreamEndpoint_ReturnBadRequestForMissingDna() throws Exception {
+        for (String body : new String[]{"{\"dna\":null}", "{\"dna\":[]}", "{}", "{\"dna\":[null]}"}) {
+            mockMvc.perform(post("/mutant/stream")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(body))
+                    .andExpect(status().isBadRequest());
+        }
+
+        verify(mutantService, never()).isMutantFromStream(any());
+    }
+
+    @Test
+    @DisplayName("POST /mutant/stream debe retornar 400 BAD REQUEST si el campo dna está repetido")
+    void testMutantStreamEndpoint_ReturnBadRequestForDuplicateDna() throws Exception {
+        for (String body : new String[]{
+                "{\"dna\":[\"ATGC\",\"CAGT\",\"TTAT\",\"AGAC\"],\"dna\":[\"AAAA\",\"CAGT\",\"TTAT\",\"AGAC\"]}",
+                "{\"dna\":[\"ATGC\",\"CAGT\",\"TTAT\",\"AGAC\"],\"dna\":null}"}) {
+            mockMvc.perform(post("/mutant/stream")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(body))
+                    .andExpect(status().isBadRequest());
+        }
+
+        verify(mutantService, never()).isMutantFromStream(any());
+    }
+
+    @Test
+    @DisplayName("POST /mutant/stream debe retornar 400 BAD REQUEST para JSON mal formado")
+    void testMutantStreamEndpoint_ReturnBadRequestForMalformedJson() throws Exception {
+        mockMvc.perform(post("/mutant/stream")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"dna\":[\"ATGC\",\"CAGT\""))
+                .andExpect(status().isBadRequest());
+
+        verify(mutantService, never()).isMutantFromStream(any());
+    }
+
+    @Test
+    @DisplayName("POST /mutant/batch debe retornar un veredicto por ítem y el error de los inválidos")
+    void testMutantBatchEndpoint_ReturnPerItemVerdicts() throws Exception {
+        // Arrange
+        when(mutantBatchService.isMutantBatch(anyList())).thenReturn(new boolean[]{true, false});
+
+        // Act & Assert
+        mockMvc.perform(post("/mutant/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("[{\"dna\":[\"ATGCGA\",\"CAGTGC\",\"TTATGT\",\"AGAAGG\",\"CCCCTA\",\"TCACTG\"]},"
+                       + "{\"dna\":[\"ATGC\",\"CXGT\",\"TTAT\",\"AGAC\"]},"
+                       + "{\"dna\":[\"ATGC\",\"CAGT\",\"TTAT\",\"AGAC\"]}]"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.count_mutant_dna").value(1))
+                .andExpect(jsonPath("$.count_human_dna").value(1))
+                .andExpect(jsonPath("$.count_invalid_dna").value(1))
+                .andExpect(jsonPath("$.results[0].index").value(0))
+                .andExpect(jsonPath("$.results[0].mutant").value(true))
+                .andExpect(jsonPath("$.results[1].mutant").doesNotExist())
+                .andExpect(jsonPath("$.results[1].error").exists())
+                .andExpect(jsonPath("$.results[2].mutant").value(false));
+
+        // Solo los válidos llegan al servicio
+        verify(mutantBatchService, times(1)).isMutantBatch(argThat((List<String[]> dnas) -> dnas.size() == 2));
+    }
+
+    @Test
+    @DisplayName("POST /mutant/batch debe aceptar NDJSON")
+    void testMutantBatchEndpoint_AcceptNdjson() throws Exception {
+        // Arrange
+        when(mutantBatchService.isMutantBatch(anyList())).thenReturn(new boolean[]{false, true});
+
+        // Act & Assert
+        mockMvc.perform(post("/mutant/batch")
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .content("{\"dna\":[\"ATGC\",\"CAGT\",\"TTAT\",\"AGAC\"]}\n"
+                       + "{\"dna\":[\"ATGCGA\",\"CAGTGC\",\"TTATGT\",\"AGAAGG\",\"CCCCTA\",\"TCACTG\"]}\n"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.results[0].mutant").value(false))
+                .andExpect(jsonPath("$.results[1].mutant").value(true));
+    }
+
+    @Test
+    @DisplayName("POST /mutant/batch debe retornar 400 BAD REQUEST para lote vacío, no array o mal formado")
+    void testMutantBatchEndpoint_ReturnBadRequestForInvalidBody() throws Exception {
+        for (String body : new String[]{"[]", "{\"dna\":[\"ATGC\"]}", "[{\"dna\":[\"ATGC\""}) {
+            mockMvc.perform(post("/mutant/batch")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(body))
+                    .andExpect(status().isBadRequest());
+        }
+
+        verify(mutantBatchService, never()).isMutantBatch(any());
+    }
 }
@@ -0,0 +1,116 @@
+package com.mercadolibre.mutant.infrastructure.importer;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mercadolibre.mutant.application.service.MutantBatchService;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+/**
+ * Tests unitarios para DnaBulkImporter
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("DNA Bulk Importer Tests")
+class DnaBulkImporterTest {
+
+    private static final String MUTANT_LINE =
+            "{\"dna\":[\"ATGCGA\",\"CAGTGC\",\"TTATGT\",\"AGAAGG\",\"CCCCTA\",\"TCACTG\"]}";
+    private static final String HUMAN_LINE = "{\"dna\":[\"ATGC\",\"CAGT\",\"TTAT\",\"AGAC\"]}";
+
+    @Mock
+    private MutantBatchService batchService;
+
+    @TempDir
+    Path tempDir;
+
+    private final Validator validator = Validation.buildDefaultValidatorFactory().getValidator();
+
+    private DnaBulkImporter importer;
+
+    @BeforeEach
+    void setUp() {
+        importer = new DnaBulkImporter(batchService, new ObjectMapper(), validator, 2, 2, Duration.ofHours(1));
+        lenient().when(batchService.isMutantBatch(anyList())).thenAnswer(invocation -> {
+            List<String[]> dnas = invocation.getArgument(0);
+            boolean[] verdicts = new boolean[dnas.size()];
+            for (int i = 0; i < verdicts.length; i++) {
+                verdicts[i] = dnas.get(i).length == 6;
+            }
+            return verdicts;
+        });
+    }
+
+    @Test
+    @DisplayName("Debe importar por bloques, omitir líneas inválidas y guardar el checkpoint al final")
+    void testImportFile_CountsAndCheckpoint() throws Exception {
+        // Arrange
+        String content = MUTANT_LINE + "\n" + HUMAN_LINE + "\r\n\n{\"dna\":[\"AX\",\"CA\"]}\nnot json\n" + HUMAN_LINE;
+        Path file = write(content);
+        Path checkpoint = tempDir.resolve("dna.ndjson.checkpoint");
+
+        // Act
+        ImportReport report = importer.importFile(file, checkpoint);
+
+        // Assert
+        assertEquals(3, report.getImported());
+        assertEquals(1, report.getMutants());
+        assertEquals(2, report.getInvalid());
+        assertEquals(Files.size(file), report.getEndOffset());
+        assertEquals(Files.size(file), DnaBulkImporter.readCheckpoint(checkpoint));
+        verify(batchService, times(2)).isMutantBatch(anyList());
+    }
+
+    @Test
+    @DisplayName("Debe reanudar desde el offset del checkpoint sin reprocesar lo confirmado")
+    void testImportFile_ResumeFromCheckpoint() throws Exception {
+        // Arrange: las dos primeras líneas ya estaban confirmadas
+        String confirmed = MUTANT_LINE + "\n" + HUMAN_LINE + "\n";
+        Path file = write(confirmed + HUMAN_LINE + "\n");
+        Path checkpoint = tempDir.resolve("dna.ndjson.checkpoint");
+        Files.writeString(checkpoint, Integer.toString(confirmed.getBytes(StandardCharsets.UTF_8).length));
+
+        // Act
+        ImportReport report = importer.importFile(file, checkpoint);
+
+        // Assert
+        assertEquals(1, report.getImported());
+        assertEquals(0, report.getMutants());
+        verify(batchService, times(1)).isMutantBatch(argThat(dnas -> dnas.size() == 1));
+        assertEquals(Files.size(file), DnaBulkImporter.readCheckpoint(checkpoint));
+    }
+
+    @Test
+    @DisplayName("Si un bloque falla no debe avanzar el checkpoint más allá del último confirmado")
+    void testImportFile_FailureKeepsCheckpoint() throws Exception {
+        // Arrange
+        Path file = write(MUTANT_LINE + "\n" + HUMAN_LINE + "\n" + HUMAN_LINE + "\n");
+        Path checkpoint = tempDir.resolve("dna.ndjson.checkpoint");
+        when(batchService.isMutantBatch(anyList())).thenThrow(new IllegalStateException("database down"));
+
+        // Act & Assert
+        assertThrows(IllegalStateException.class, () -> importer.importFile(file, checkpoint));
+        assertEquals(0, DnaBulkImporter.readCheckpoint(checkpoint));
+    }
+
+    private Path write(String content) throws Exception {
+        Path file = tempDir.resolve("dna.ndjson");
+        Files.writeString(file, content, StandardCharsets.UTF_8);
+        return file;
+    }
+}
@@ -0,0 +1,162 @@
+package com.mercadolibre.mutant.infrastructure.persistence;
+
+import com.mercadolibre.mutant.domain.entity.VerificationLog;
+import com.mercadolibre.mutant.domain.hash.DnaHash;
+import com.mercadolibre.mutant.domain.hash.DnaPacker;
+import com.mercadolibre.mutant.domain.repository.CompactDnaRepository;
+import com.mercadolibre.mutant.domain.repository.DnaRepository;
+import com.mercadolibre.mutant.domain.repository.StoredVerdict;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests de integración JPA para BinaryKeyVerdictStore y la migración desde claves hexadecimales
+ */
+@DataJpaTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@DisplayName("BinaryKeyVerdictStore Tests")
+class BinaryKeyVerdictStoreTest {
+
+    private static final DnaHash MUTANT_HASH =
+            DnaHash.fromHex("0123456789abcdeffedcba987654321000112233445566778899aabbccddeeff");
+    private static final DnaHash HUMAN_HASH =
+            DnaHash.fromHex("ffeeddccbbaa99887766554433221100fedcba98765432100123456789abcdef");
+
+    @Autowired
+    private DnaRepository dnaRepository;
+
+    @Autowired
+    private CompactDnaRepository compactDnaRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private BinaryKeyVerdictStore store;
+
+    @BeforeEach
+    void setUp() {
+        compactDnaRepository.deleteAll();
+        dnaRepository.deleteAll();
+        store = new BinaryKeyVerdictStore(compactDnaRepository);
+    }
+
+    @Test
+    @DisplayName("Debe guardar y recuperar veredictos por clave binaria")
+    void testSaveAndFind() {
+        // Act
+        store.save(MUTANT_HASH, true, 6, null);
+        store.save(HUMAN_HASH, false, 6, null);
+
+        // Assert
+        assertEquals(Optional.of(true), store.findVerdict(MUTANT_HASH).map(StoredVerdict::isMutant));
+        assertEquals(Optional.of(false), store.findVerdict(HUMAN_HASH).map(StoredVerdict::isMutant));
+        assertEquals(Optional.of(true), store.findVerdict(DnaHash.fromHex(MUTANT_HASH.toHex())).map(StoredVerdict::isMutant));
+        assertEquals(2, store.count());
+        assertEquals(1, store.countMutants());
+        assertEquals(1, store.countHumans());
+    }
+
+    @Test
+    @DisplayName("Debe guardar y recuperar la copia compacta del ADN")
+    void testSaveWithPackedDna() {
+        // Arrange
+        byte[] packed = DnaPacker.pack(new String[]{"ATGC", "CAGT", "TTAT", "AGAA"});
+
+        // Act
+        store.save(MUTANT_HASH, false, 4, packed);
+
+        // Assert
+        assertArrayEquals(packed, store.findVerdict(MUTANT_HASH).orElseThrow().getPackedDna());
+    }
+
+    @Test
+    @DisplayName("insertIfAbsent debe insertar solo la primera vez")
+    void testInsertIfAbsent() {
+        // Arrange
+        byte[] packed = DnaPacker.pack(new String[]{"ATGC", "CAGT", "TTAT", "AGAA"});
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+
+        // Act
+        Boolean first = tx.execute(status -> store.insertIfAbsent(MUTANT_HASH, true, 4, packed));
+        Boolean second = tx.execute(status -> store.insertIfAbsent(MUTANT_HASH, false, 4, null));
+        Boolean other = tx.execute(status -> store.insertIfAbsent(HUMAN_HASH, false, 6, null));
+
+        // Assert
+        assertTrue(first);
+        assertFalse(second);
+        assertTrue(other);
+        StoredVerdict stored = store.findVerdict(MUTANT_HASH).orElseThrow();
+        assertTrue(stored.isMutant());
+        assertArrayEquals(packed, stored.getPackedDna());
+        assertNull(store.findVerdict(HUMAN_HASH).orElseThrow().getPackedDna());
+        assertEquals(2, store.count());
+    }
+
+    @Test
+    @DisplayName("insertIfAbsent con clave hexadecimal debe insertar solo la primera vez")
+    void testInsertIfAbsent_HexKey() {
+        // Arrange
+        HexKeyVerdictStore hexStore = new HexKeyVerdictStore(dnaRepository);
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+
+        // Act
+        Boolean first = tx.execute(status -> hexStore.insertIfAbsent(MUTANT_HASH, true, 6, null));
+        Boolean second = tx.execute(status -> hexStore.insertIfAbsent(MUTANT_HASH, true, 6, null));
+
+        // Assert
+        assertTrue(first);
+        assertFalse(second);
+        assertEquals(1, dnaRepository.count());
+        assertNotNull(dnaRepository.findById(MUTANT_HASH.toHex()).orElseThrow().getAnalyzedAt());
+    }
+
+    @Test
+    @DisplayName("Debe retornar vacío para un hash no guardado")
+    void testFindMissing() {
+        assertTrue(store.findVerdict(MUTANT_HASH).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Debe migrar registros hexadecimales por páginas y ser idempotente")
+    void testMigrateHexKeys() {
+        // Arrange
+        for (int i = 0; i < 5; i++) {
+            dnaRepository.save(VerificationLog.builder()
+                    .dnaHash(hexKey(i + 1))
+                    .isMutant(i % 2 == 0)
+                    .sequenceSize(6)
+                    .build());
+        }
+        HexKeyMigrationRunner runner = new HexKeyMigrationRunner(
+                dnaRepository, compactDnaRepository, new TransactionTemplate(transactionManager), 2);
+
+        // Act
+        long migrated = runner.migrate();
+        long migratedAgain = runner.migrate();
+
+        // Assert
+        assertEquals(5, migrated);
+        assertEquals(0, migratedAgain);
+        assertEquals(5, store.count());
+        assertEquals(3, store.countMutants());
+        assertEquals(Optional.of(false), store.findVerdict(DnaHash.fromHex(hexKey(2))).map(StoredVerdict::isMutant));
+    }
+
+    /**
+     * Hash hexadecimal con el índice en los primeros 64 bits (parte de la clave compacta)
+     */
+    private static String hexKey(int index) {
+        return String.format("%016x", index) + "0".repeat(48);
+    }
+}
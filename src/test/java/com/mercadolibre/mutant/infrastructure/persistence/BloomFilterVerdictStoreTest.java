@@ -0,0 +1,120 @@
+package com.mercadolibre.mutant.infrastructure.persistence;
+
+import com.mercadolibre.mutant.domain.hash.DnaHash;
+import com.mercadolibre.mutant.domain.hash.Sha256DnaHasher;
+import com.mercadolibre.mutant.domain.repository.NewVerdict;
+import com.mercadolibre.mutant.domain.repository.StoredVerdict;
+import com.mercadolibre.mutant.domain.repository.VerdictStore;
+import com.mercadolibre.mutant.infrastructure.cache.DnaBloomFilter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * Tests unitarios para BloomFilterVerdictStore
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Bloom Filter Verdict Store Tests")
+class BloomFilterVerdictStoreTest {
+
+    @Mock
+    private VerdictStore delegate;
+
+    @Mock
+    private ObjectProvider<VerdictStore> verdictStoreProvider;
+
+    private final Sha256DnaHasher hasher = new Sha256DnaHasher();
+    private final DnaHash storedHash = hasher.hash(new String[]{"ATGC", "CAGT", "TTAT", "AGAC"});
+    private final DnaHash newHash = hasher.hash(new String[]{"AAAA", "CAGT", "TTAT", "AGAC"});
+
+    private DnaBloomFilter bloomFilter;
+    private BloomFilterVerdictStore store;
+
+    @BeforeEach
+    void setUp() {
+        when(verdictStoreProvider.getObject()).thenReturn(delegate);
+        bloomFilter = new DnaBloomFilter(1000, 0.001, 100, verdictStoreProvider, new SimpleMeterRegistry());
+        bloomFilter.load();
+        bloomFilter.put(storedHash);
+        store = new BloomFilterVerdictStore(delegate, bloomFilter);
+    }
+
+    @Test
+    @DisplayName("Debe responder 'no encontrado' sin consultar la BD si el filtro descarta el hash")
+    void testFindVerdict_SkipsLookupForAbsentHash() {
+        assertTrue(store.findVerdict(newHash).isEmpty());
+        verify(delegate, never()).findVerdict(any());
+    }
+
+    @Test
+    @DisplayName("Debe consultar la BD si el hash puede estar guardado")
+    void testFindVerdict_LooksUpPossiblyStoredHash() {
+        // Arrange
+        when(delegate.findVerdict(storedHash)).thenReturn(Optional.of(new StoredVerdict(true, null)));
+
+        // Act & Assert
+        assertTrue(store.findVerdict(storedHash).orElseThrow().isMutant());
+    }
+
+    @Test
+    @DisplayName("Debe indicar que conviene buscar antes de analizar solo si el filtro no descarta el hash")
+    void testIsLikelyStored_FollowsFilter() {
+        assertTrue(store.isLikelyStored(storedHash));
+        assertFalse(store.isLikelyStored(newHash));
+    }
+
+    @Test
+    @DisplayName("La consulta multi-clave debe incluir solo los hashes no descartados")
+    void testFindVerdicts_FiltersCandidates() {
+        // Arrange
+        when(delegate.findVerdicts(List.of(storedHash))).thenReturn(Map.of(storedHash, new StoredVerdict(false, null)));
+
+        // Act
+        Map<DnaHash, StoredVerdict> verdicts = store.findVerdicts(List.of(storedHash, newHash));
+
+        // Assert
+        assertEquals(1, verdicts.size());
+        verify(delegate, times(1)).findVerdicts(List.of(storedHash));
+    }
+
+    @Test
+    @DisplayName("Un hash que ya estaba guardado debe agregarse al filtro aunque el insert no inserte")
+    void testInsertIfAbsent_ExistingHashAddsToFilter() {
+        // Arrange: otra instancia ya lo insertó
+        when(delegate.insertIfAbsent(newHash, true, 4, null)).thenReturn(false);
+
+        // Act
+        boolean inserted = store.insertIfAbsent(newHash, true, 4, null);
+
+        // Assert
+        assertFalse(inserted);
+        assertTrue(bloomFilter.mightContain(newHash));
+    }
+
+    @Test
+    @DisplayName("Los hashes guardados deben agregarse al filtro")
+    void testSaveAll_AddsToFilter() {
+        // Arrange: el store real informa los insertados
+        when(delegate.saveAll(any())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // Act
+        store.saveAll(List.of(new NewVerdict(newHash, true, 4, null)));
+
+        // Assert
+        assertTrue(bloomFilter.mightContain(newHash));
+        verify(delegate, times(1)).saveAll(any());
+    }
+}
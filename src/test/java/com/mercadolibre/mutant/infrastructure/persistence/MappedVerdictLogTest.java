@@ -0,0 +1,112 @@
+package com.mercadolibre.mutant.infrastructure.persistence;
+
+import com.mercadolibre.mutant.domain.hash.DnaHash;
+import com.mercadolibre.mutant.domain.hash.Sha256DnaHasher;
+import com.mercadolibre.mutant.domain.repository.VerdictStore;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests unitarios para MappedVerdictLog y MappedLogVerdictStore
+ */
+@DisplayName("Mapped Verdict Log Tests")
+class MappedVerdictLogTest {
+
+    /** 4 registros por segmento */
+    private static final int SEGMENT_SIZE = 4 * MappedVerdictLog.RECORD_BYTES;
+
+    private final Sha256DnaHasher hasher = new Sha256DnaHasher();
+
+    @TempDir
+    Path directory;
+
+    @Test
+    @DisplayName("Debe agregar solo hashes nuevos y responder desde el índice")
+    void testInsertIfAbsent() throws IOException {
+        try (MappedVerdictLog verdictLog = new MappedVerdictLog(directory, SEGMENT_SIZE, 16)) {
+            VerdictStore store = new MappedLogVerdictStore(verdictLog);
+            DnaHash dnaHash = hash(1);
+
+            assertTrue(store.insertIfAbsent(dnaHash, true, 6, null));
+            assertFalse(store.insertIfAbsent(dnaHash, false, 6, null));
+
+            assertTrue(store.findVerdict(dnaHash).orElseThrow().isMutant());
+            assertTrue(store.findVerdict(hash(2)).isEmpty());
+            assertEquals(1, store.countMutants());
+            assertEquals(0, store.countHumans());
+        }
+    }
+
+    @Test
+    @DisplayName("Debe rotar de segmento al llenarse y reconstruir el índice al reabrir")
+    void testRollAndRebuild() throws IOException {
+        // Arrange: 10 registros en segmentos de 4
+        try (MappedVerdictLog verdictLog = new MappedVerdictLog(directory, SEGMENT_SIZE, 16)) {
+            for (int i = 0; i < 10; i++) {
+                verdictLog.appendIfAbsent(hash(i).high(), hash(i).low(), i % 2 == 0, 6);
+            }
+            assertEquals(3, verdictLog.segmentCount());
+        }
+
+        // Act
+        try (MappedVerdictLog reopened = new MappedVerdictLog(directory, SEGMENT_SIZE, 16)) {
+            VerdictStore store = new MappedLogVerdictStore(reopened);
+
+            // Assert
+            assertEquals(10, store.count());
+            assertEquals(5, store.countMutants());
+            for (int i = 0; i < 10; i++) {
+                assertEquals(i % 2 == 0, store.findVerdict(hash(i)).orElseThrow().isMutant());
+            }
+            assertTrue(store.insertIfAbsent(hash(10), false, 6, null));
+            assertEquals(3, reopened.segmentCount());
+
+            List<DnaHash> scanned = new ArrayList<>();
+            store.scanHashes(100, scanned::add);
+            assertEquals(11, scanned.size());
+            assertEquals(DnaHash.ofKey(hash(0).high(), hash(0).low()), scanned.get(0));
+        }
+    }
+
+    @Test
+    @DisplayName("Un registro sin marca de confirmación debe descartarse al reconstruir")
+    void testRebuild_IgnoresUncommittedRecord() throws IOException {
+        // Arrange: dos registros y se borra la marca del segundo (escritura cortada)
+        try (MappedVerdictLog verdictLog = new MappedVerdictLog(directory, SEGMENT_SIZE, 16)) {
+            verdictLog.appendIfAbsent(hash(1).high(), hash(1).low(), true, 6);
+            verdictLog.appendIfAbsent(hash(2).high(), hash(2).low(), false, 6);
+        }
+        try (FileChannel channel = FileChannel.open(directory.resolve("verdicts-00000.seg"), StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.wrap(new byte[]{0}), MappedVerdictLog.RECORD_BYTES);
+        }
+
+        // Act
+        try (MappedVerdictLog reopened = new MappedVerdictLog(directory, SEGMENT_SIZE, 16)) {
+            // Assert
+            assertEquals(1, reopened.count());
+            assertNotEquals(0, reopened.find(hash(1).high(), hash(1).low()));
+            assertEquals(0, reopened.find(hash(2).high(), hash(2).low()));
+        }
+    }
+
+    @Test
+    @DisplayName("Debe rechazar un tamaño de segmento que no sea múltiplo del registro")
+    void testInvalidSegmentSize() {
+        assertThrows(IllegalArgumentException.class, () -> new MappedVerdictLog(directory, 100, 16));
+    }
+
+    private DnaHash hash(int i) {
+        return hasher.hash(new String[]{"row-" + i});
+    }
+}
@@ -0,0 +1,133 @@
+package com.mercadolibre.mutant.infrastructure.persistence;
+
+import com.mercadolibre.mutant.domain.hash.DnaHash;
+import com.mercadolibre.mutant.domain.hash.Sha256DnaHasher;
+import com.mercadolibre.mutant.domain.repository.NewVerdict;
+import com.mercadolibre.mutant.domain.repository.StoredVerdict;
+import org.h2.mvstore.MVStore;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests unitarios para MvStoreVerdictStore
+ */
+@DisplayName("MVStore Verdict Store Tests")
+class MvStoreVerdictStoreTest {
+
+    private final Sha256DnaHasher hasher = new Sha256DnaHasher();
+    private final DnaHash mutantHash = hasher.hash(new String[]{"AAAA", "CCCC", "TTAT", "AGAC"});
+    private final DnaHash humanHash = hasher.hash(new String[]{"ATGC", "CAGT", "TTAT", "AGAC"});
+
+    @TempDir
+    Path tempDir;
+
+    private MVStore mvStore;
+    private MvStoreVerdictStore store;
+
+    @BeforeEach
+    void setUp() {
+        mvStore = open();
+        store = new MvStoreVerdictStore(mvStore);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (!mvStore.isClosed()) {
+            mvStore.close();
+        }
+    }
+
+    @Test
+    @DisplayName("Debe insertar solo si el hash no existe y conservar el primer veredicto")
+    void testInsertIfAbsent() {
+        assertTrue(store.insertIfAbsent(mutantHash, true, 4, null));
+        assertFalse(store.insertIfAbsent(mutantHash, false, 4, null));
+
+        assertTrue(store.findVerdict(mutantHash).orElseThrow().isMutant());
+        assertTrue(store.findVerdict(humanHash).isEmpty());
+        assertEquals(1, store.count());
+        assertEquals(1, store.countMutants());
+        assertEquals(0, store.countHumans());
+    }
+
+    @Test
+    @DisplayName("saveAll debe informar solo los veredictos insertados y contar cada hash una vez")
+    void testSaveAll_ReportsInserted() {
+        // Arrange: otro request ya guardó el hash mutante
+        store.insertIfAbsent(mutantHash, true, 4, null);
+        NewVerdict human = new NewVerdict(humanHash, false, 4, null);
+
+        // Act
+        List<NewVerdict> inserted = store.saveAll(List.of(new NewVerdict(mutantHash, true, 4, null), human));
+
+        // Assert
+        assertEquals(List.of(human), inserted);
+        assertEquals(1, store.countMutants());
+        assertEquals(1, store.countHumans());
+    }
+
+    @Test
+    @DisplayName("Debe guardar y devolver la copia compacta del ADN")
+    void testPackedDnaRoundTrip() {
+        // Arrange
+        byte[] packedDna = {1, 2, 3, 4};
+
+        // Act
+        store.save(humanHash, false, 4, packedDna);
+
+        // Assert
+        StoredVerdict verdict = store.findVerdict(humanHash).orElseThrow();
+        assertFalse(verdict.isMutant());
+        assertArrayEquals(packedDna, verdict.getPackedDna());
+    }
+
+    @Test
+    @DisplayName("Los veredictos y contadores deben sobrevivir a un reinicio")
+    void testReopen() {
+        // Arrange
+        store.saveAll(List.of(
+                new NewVerdict(mutantHash, true, 4, null),
+                new NewVerdict(humanHash, false, 4, null)));
+        mvStore.close();
+
+        // Act
+        mvStore = open();
+        MvStoreVerdictStore reopened = new MvStoreVerdictStore(mvStore);
+
+        // Assert
+        assertEquals(2, reopened.count());
+        assertEquals(1, reopened.countMutants());
+        assertEquals(1, reopened.countHumans());
+        assertTrue(reopened.findVerdict(mutantHash).orElseThrow().isMutant());
+    }
+
+    @Test
+    @DisplayName("Debe recorrer todos los hashes con la clave de 128 bits")
+    void testScanHashes() {
+        // Arrange
+        store.save(mutantHash, true, 4, null);
+        store.save(humanHash, false, 4, null);
+
+        // Act
+        Set<DnaHash> scanned = new HashSet<>();
+        store.scanHashes(1, scanned::add);
+
+        // Assert
+        assertEquals(Set.of(DnaHash.ofKey(mutantHash.high(), mutantHash.low()),
+                DnaHash.ofKey(humanHash.high(), humanHash.low())), scanned);
+    }
+
+    private MVStore open() {
+        return new MVStore.Builder().fileName(tempDir.resolve("verdicts.mv").toString()).open();
+    }
+}
@@ -0,0 +1,88 @@
+package com.mercadolibre.mutant.infrastructure.persistence;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests unitarios para OffHeapHashIndex
+ */
+@DisplayName("Off-Heap Hash Index Tests")
+class OffHeapHashIndexTest {
+
+    @Test
+    @DisplayName("Debe guardar solo el primer valor de cada clave")
+    void testPutIfAbsent() {
+        OffHeapHashIndex index = new OffHeapHashIndex(16);
+
+        assertEquals(0, index.putIfAbsent(1L, 2L, 10L));
+        assertEquals(10L, index.putIfAbsent(1L, 2L, 20L));
+
+        assertEquals(10L, index.get(1L, 2L));
+        assertEquals(0, index.get(2L, 1L));
+        assertEquals(1, index.size());
+    }
+
+    @Test
+    @DisplayName("Debe resolver claves que caen en el mismo slot")
+    void testCollidingSlots() {
+        // Arrange: mismo low (mismo slot inicial), distinto high
+        OffHeapHashIndex index = new OffHeapHashIndex(16);
+
+        // Act
+        index.putIfAbsent(1L, 7L, 100L);
+        index.putIfAbsent(2L, 7L, 200L);
+
+        // Assert
+        assertEquals(100L, index.get(1L, 7L));
+        assertEquals(200L, index.get(2L, 7L));
+    }
+
+    @Test
+    @DisplayName("Debe crecer conservando todas las claves")
+    void testGrow() {
+        // Arrange
+        OffHeapHashIndex index = new OffHeapHashIndex(16);
+
+        // Act
+        for (long i = 1; i <= 10_000; i++) {
+            index.putIfAbsent(i * 31, i * 0x9E3779B97F4A7C15L, i);
+        }
+
+        // Assert
+        assertEquals(10_000, index.size());
+        assertTrue(index.capacity() >= 10_000 / 0.7);
+        for (long i = 1; i <= 10_000; i++) {
+            assertEquals(i, index.get(i * 31, i * 0x9E3779B97F4A7C15L));
+        }
+    }
+
+    @Test
+    @DisplayName("Debe repartir los slots en varias páginas de memoria directa")
+    void testMultiplePages() {
+        // Arrange: 2^21 slots = dos páginas de 2^20
+        OffHeapHashIndex index = new OffHeapHashIndex(1 << 21);
+        long firstPageLow = 5L;
+        long secondPageLow = (1L << 20) + 5;
+
+        // Act
+        index.putIfAbsent(1L, firstPageLow, 100L);
+        index.putIfAbsent(2L, secondPageLow, 200L);
+
+        // Assert
+        assertEquals(1L << 21, index.capacity());
+        assertEquals((1L << 21) * 24, index.offHeapBytes());
+        assertEquals(100L, index.get(1L, firstPageLow));
+        assertEquals(200L, index.get(2L, secondPageLow));
+        assertEquals(0, index.get(1L, secondPageLow));
+    }
+
+    @Test
+    @DisplayName("Debe rechazar el valor 0 (marca de slot vacío)")
+    void testZeroValueRejected() {
+        OffHeapHashIndex index = new OffHeapHashIndex(16);
+
+        assertThrows(IllegalArgumentException.class, () -> index.putIfAbsent(1L, 2L, 0L));
+    }
+}
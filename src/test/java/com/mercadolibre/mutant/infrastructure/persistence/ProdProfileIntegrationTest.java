@@ -0,0 +1,75 @@
+package com.mercadolibre.mutant.infrastructure.persistence;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mercadolibre.mutant.application.dto.DnaRequest;
+import com.zaxxer.hikari.HikariDataSource;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import javax.sql.DataSource;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Perfil prod contra H2 en memoria: el esquema lo crea Flyway y Hibernate lo valida
+ * contra las entidades (ddl-auto=validate), por lo que el arranque falla si difieren
+ */
+@SpringBootTest(properties = {
+    "spring.datasource.url=jdbc:h2:mem:prodtest;DB_CLOSE_DELAY=-1",
+    "spring.flyway.enabled=true",
+    "spring.jpa.hibernate.ddl-auto=validate"
+})
+@ActiveProfiles("prod")
+@AutoConfigureMockMvc
+@DisplayName("Prod Profile Integration Tests")
+class ProdProfileIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private Flyway flyway;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Test
+    @DisplayName("El esquema debe venir de las migraciones y coincidir con las entidades")
+    void testSchema_MigratedAndValidated() throws Exception {
+        // Assert: migración aplicada y la app atiende requests sobre ese esquema
+        assertEquals("1", flyway.info().current().getVersion().getVersion());
+        mockMvc.perform(post("/mutant")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(new DnaRequest(new String[]{
+                    "ATGCGA",
+                    "CAGTGC",
+                    "TTATGT",
+                    "AGAAGG",
+                    "CCCCTA",
+                    "TCACTG"
+                }))))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    @DisplayName("El pool de conexiones debe dimensionarse según los cores")
+    void testPoolSize_FromCores() {
+        int expected = Runtime.getRuntime().availableProcessors() * 2 + 1;
+
+        HikariDataSource hikari = assertInstanceOf(HikariDataSource.class, dataSource);
+        assertEquals(expected, hikari.getMaximumPoolSize());
+        assertEquals(expected, hikari.getMinimumIdle());
+    }
+}
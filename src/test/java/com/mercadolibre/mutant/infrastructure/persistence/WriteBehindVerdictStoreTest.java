@@ -0,0 +1,186 @@
+package com.mercadolibre.mutant.infrastructure.persistence;
+
+import com.mercadolibre.mutant.domain.hash.DnaHash;
+import com.mercadolibre.mutant.domain.repository.DnaRepository;
+import com.mercadolibre.mutant.domain.repository.NewVerdict;
+import com.mercadolibre.mutant.domain.repository.StoredVerdict;
+import com.mercadolibre.mutant.domain.repository.VerdictStore;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+/**
+ * Tests de integración JPA para WriteBehindVerdictStore
+ * Salvo el test de apagado, el hilo escritor no se arranca y la cola se vacía con flush()
+ */
+@DataJpaTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@DisplayName("WriteBehindVerdictStore Tests")
+class WriteBehindVerdictStoreTest {
+
+    @Autowired
+    private DnaRepository dnaRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private VerdictStore delegate;
+
+    private final List<NewVerdict> discarded = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        dnaRepository.deleteAll();
+        delegate = spy(new HexKeyVerdictStore(dnaRepository));
+        discarded.clear();
+    }
+
+    @Test
+    @DisplayName("Debe servir desde memoria un veredicto aún no escrito")
+    void testSave_ServedBeforeFlush() {
+        // Arrange
+        WriteBehindVerdictStore store = newStore(10, 10, Duration.ofSeconds(1));
+
+        // Act
+        store.save(hash(1), true, 6, null);
+
+        // Assert
+        assertEquals(0, dnaRepository.count());
+        Optional<StoredVerdict> verdict = store.findVerdict(hash(1));
+        assertTrue(verdict.isPresent());
+        assertTrue(verdict.get().isMutant());
+        verify(delegate, never()).findVerdict(any());
+    }
+
+    @Test
+    @DisplayName("flush() debe escribir la cola en batches de batch-size")
+    void testFlush_WritesInBatches() {
+        // Arrange
+        WriteBehindVerdictStore store = newStore(10, 2, Duration.ofSeconds(1));
+        for (int i = 0; i < 5; i++) {
+            store.save(hash(i), i % 2 == 0, 6, null);
+        }
+
+        // Act
+        store.flush();
+
+        // Assert
+        verify(delegate, times(3)).saveAll(anyList());
+        assertEquals(5, dnaRepository.count());
+        assertEquals(3, dnaRepository.countMutants());
+        assertEquals(0, store.pendingCount());
+        assertTrue(store.findVerdict(hash(4)).isPresent());
+    }
+
+    @Test
+    @DisplayName("Con la cola llena debe escribir de forma síncrona (back-pressure)")
+    void testSave_QueueFullWritesSynchronously() {
+        // Arrange
+        WriteBehindVerdictStore store = newStore(1, 10, Duration.ZERO);
+        store.save(hash(1), true, 6, null);
+
+        // Act
+        store.save(hash(2), false, 6, null);
+
+        // Assert
+        assertEquals(1, dnaRepository.count());
+        assertTrue(dnaRepository.existsById(hash(2).toHex()));
+        assertEquals(1, store.pendingCount());
+    }
+
+    @Test
+    @DisplayName("Un hash ya encolado no debe encolarse dos veces")
+    void testSave_DuplicateIgnored() {
+        // Arrange
+        WriteBehindVerdictStore store = newStore(10, 10, Duration.ofSeconds(1));
+        store.save(hash(1), true, 6, null);
+
+        // Act
+        store.save(hash(1), true, 6, null);
+        store.flush();
+
+        // Assert
+        verify(delegate, times(1)).saveAll(argThat(batch -> batch.size() == 1));
+        assertEquals(1, dnaRepository.count());
+        assertTrue(discarded.isEmpty());
+    }
+
+    @Test
+    @DisplayName("Si el batch falla debe reintentar uno por uno")
+    void testFlush_BatchFailureRetriesIndividually() {
+        // Arrange: hash(1) ya existe en la BD (p. ej. insertado por otra instancia)
+        delegate.save(hash(1), true, 6, null);
+        WriteBehindVerdictStore store = newStore(10, 10, Duration.ofSeconds(1));
+        store.save(hash(1), true, 6, null);
+        store.save(hash(2), false, 6, null);
+
+        // Act
+        store.flush();
+
+        // Assert: hash(1) se contó al encolarse y debe descontarse
+        assertEquals(2, dnaRepository.count());
+        assertTrue(dnaRepository.existsById(hash(2).toHex()));
+        assertEquals(0, store.pendingCount());
+        assertEquals(List.of(hash(1)), discarded.stream().map(NewVerdict::getDnaHash).toList());
+    }
+
+    @Test
+    @DisplayName("Los que saveAll no insertó deben informarse como descartados")
+    void testFlush_ReportsNotInserted() {
+        // Arrange: el store real saltea los existentes sin fallar (p. ej. MVSTORE)
+        WriteBehindVerdictStore store = newStore(10, 10, Duration.ofSeconds(1));
+        store.save(hash(1), true, 6, null);
+        store.save(hash(2), false, 6, null);
+        doAnswer(invocation -> List.of(invocation.<List<NewVerdict>>getArgument(0).get(1)))
+                .when(delegate).saveAll(anyList());
+
+        // Act
+        store.flush();
+
+        // Assert
+        assertEquals(List.of(hash(1)), discarded.stream().map(NewVerdict::getDnaHash).toList());
+        assertEquals(0, store.pendingCount());
+    }
+
+    @Test
+    @DisplayName("El escritor en segundo plano y el apagado deben escribir todo lo encolado")
+    void testStartAndClose_WritesEverything() {
+        // Arrange
+        WriteBehindVerdictStore store = newStore(100, 8, Duration.ofSeconds(1));
+        store.start();
+
+        // Act
+        for (int i = 0; i < 50; i++) {
+            store.save(hash(i), false, 6, null);
+        }
+        store.close();
+
+        // Assert
+        assertEquals(50, dnaRepository.count());
+        assertEquals(0, store.pendingCount());
+    }
+
+    private WriteBehindVerdictStore newStore(int capacity, int batchSize, Duration offerTimeout) {
+        return new WriteBehindVerdictStore(delegate, new TransactionTemplate(transactionManager),
+                capacity, batchSize, offerTimeout, Duration.ofSeconds(10), discarded::addAll);
+    }
+
+    private static DnaHash hash(int i) {
+        return DnaHash.fromHex(String.format("%016x", i) + "0".repeat(48));
+    }
+}
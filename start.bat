@@ -28,6 +28,6 @@ echo.
 echo Presiona Ctrl+C para detener la aplicacion
 echo.
 
-java -jar target\mutant-detector-1.0.0.jar
+java --add-modules jdk.incubator.vector -jar target\mutant-detector-1.0.0.jar
 
 pause
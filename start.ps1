@@ -29,4 +29,4 @@ Write-Host ""
 Write-Host "Presiona Ctrl+C para detener la aplicación" -ForegroundColor Yellow
 Write-Host ""
 
-java -jar target\mutant-detector-1.0.0.jar
+java --add-modules jdk.incubator.vector -jar target\mutant-detector-1.0.0.jar